@@ -1,6 +1,15 @@
 package com.techcourse;
 
+import com.interface21.jdbc.datasource.AdaptiveConcurrencyLimiter;
+import com.interface21.jdbc.datasource.ConnectionPoolMetrics;
+import com.interface21.webmvc.servlet.admission.AdmissionControlInterceptor;
+import com.interface21.webmvc.servlet.admission.RateLimit;
+import com.techcourse.config.DataSourceConfig;
+import com.techcourse.config.TracingConfig;
+import com.techcourse.controller.LoggedInRedirectInterceptor;
+import com.techcourse.support.web.interceptor.DataSourceRoutingInterceptor;
 import jakarta.servlet.ServletContext;
+import com.interface21.webmvc.servlet.io.NonBlockingBodyReader;
 import com.interface21.webmvc.servlet.mvc.DispatcherServlet;
 import com.interface21.webmvc.servlet.mvc.asis.ControllerHandlerAdapter;
 import com.interface21.webmvc.servlet.mvc.tobe.AnnotationHandlerMapping;
@@ -9,23 +18,63 @@ import com.interface21.web.WebApplicationInitializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.List;
+
 public class AppWebApplicationInitializer implements WebApplicationInitializer {
 
     private static final Logger log = LoggerFactory.getLogger(AppWebApplicationInitializer.class);
 
+    // DB 가 느려져도 Tomcat 스레드와 커넥션을 무한정 붙잡지 않도록 요청마다 마감 시각을 둔다.
+    private static final String REQUEST_TIMEOUT_PROPERTY = "request.timeout.ms";
+    private static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = 10_000L;
+
+    // 커넥션 대기와 보유 시간의 최근 평균이 이 값을 넘으면 동시에 처리하는 API 요청 수를 줄인다.
+    private static final Duration DB_LATENCY_THRESHOLD = Duration.ofMillis(200);
+    private static final int MIN_CONCURRENT_API_REQUESTS = 4;
+    private static final int MAX_CONCURRENT_API_REQUESTS = 64;
+
+    // 부수 효과가 없는 조회 경로만 둔다. 응답은 버려진다.
+    private static final List<String> WARM_UP_REQUESTS = List.of("/api/user?account=gugu");
+
     @Override
     public void onStartup(final ServletContext servletContext) {
+        TracingConfig.configure();
+
         final var dispatcherServlet = new DispatcherServlet();
         dispatcherServlet.addHandlerMapping(new ManualHandlerMapping());
         dispatcherServlet.addHandlerMapping(new AnnotationHandlerMapping("com.techcourse.controller"));
 
+        // 버퍼링한 본문으로 처리하는 요청은 필터 체인 밖에서 실행되므로 라우팅 정리를 가장 바깥 인터셉터가 맡는다.
+        dispatcherServlet.addInterceptor(new DataSourceRoutingInterceptor());
+        // 로그인 시도는 클라이언트마다 1초에 1번(최대 10번 연속)으로 제한한다.
+        dispatcherServlet.addInterceptor(
+                new AdmissionControlInterceptor(new RateLimit(200, 100), new RateLimit(10, 1)), "/login");
+        dispatcherServlet.addInterceptor(apiAdmissionControl(), "/api/**");
+        // 이미 로그인했는지 확인하는 일은 컨트롤러마다 두지 않고 인터셉터가 맡는다.
+        dispatcherServlet.addInterceptor(new LoggedInRedirectInterceptor("/index.jsp"), "/login");
+
         dispatcherServlet.addHandlerAdapter(new ControllerHandlerAdapter());
         dispatcherServlet.addHandlerAdapter(new HandlerExecutionHandlerAdapter());
+        dispatcherServlet.setRequestTimeout(
+                Duration.ofMillis(Long.getLong(REQUEST_TIMEOUT_PROPERTY, DEFAULT_REQUEST_TIMEOUT_MILLIS)));
+        dispatcherServlet.setWarmUpRequests(WARM_UP_REQUESTS);
+        dispatcherServlet.setNonBlockingBodyReader(new NonBlockingBodyReader());
 
         final var dispatcher = servletContext.addServlet("dispatcher", dispatcherServlet);
         dispatcher.setLoadOnStartup(1);
+        // StreamingView 가 servlet async 로 응답을 이어 쓴다. 앞단 필터들도 asyncSupported 로 등록되어 있다.
+        dispatcher.setAsyncSupported(true);
         dispatcher.addMapping("/");
 
         log.info("Start AppWebApplication Initializer");
     }
+
+    private static AdmissionControlInterceptor apiAdmissionControl() {
+        final var interceptor = new AdmissionControlInterceptor(new RateLimit(500, 200), new RateLimit(50, 20));
+        interceptor.setConcurrencyLimiter(new AdaptiveConcurrencyLimiter(
+                ConnectionPoolMetrics.of(DataSourceConfig.getInstance()),
+                MIN_CONCURRENT_API_REQUESTS, MAX_CONCURRENT_API_REQUESTS, DB_LATENCY_THRESHOLD));
+        return interceptor;
+    }
 }
@@ -1,6 +1,7 @@
 package com.techcourse;
 
 import org.apache.catalina.connector.Connector;
+import org.apache.catalina.core.StandardContext;
 import org.apache.catalina.startup.Tomcat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,13 +15,19 @@ public class Application {
 
     private static final int DEFAULT_PORT = 8080;
 
+    // gradle precompileJsp 가 JSP 를 컴파일해 두는 위치. Jasper 는 이 디렉터리의 클래스가 JSP 보다 새로우면 다시 컴파일하지 않는다.
+    private static final String JSP_WORK_DIR = "app/build/jsp";
+
     public static void main(String[] args) throws Exception {
         final int port = defaultPortIfNull(args);
 
         final var tomcat = new Tomcat();
         tomcat.setConnector(createConnector(port));
         final var docBase = new File("app/src/main/webapp/").getAbsolutePath();
-        tomcat.addWebapp("", docBase);
+        final var context = tomcat.addWebapp("", docBase);
+        if (context instanceof StandardContext standardContext) {
+            standardContext.setWorkDir(new File(JSP_WORK_DIR).getAbsolutePath());
+        }
         log.info("configuring app with basedir: {}", docBase);
 
         tomcat.start();
@@ -0,0 +1,46 @@
+package com.techcourse.config;
+
+import com.interface21.tracing.FileSpanExporter;
+import com.interface21.tracing.Sampler;
+import com.interface21.tracing.SpanExporter;
+import com.interface21.tracing.Tracer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+
+public class TracingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(TracingConfig.class);
+
+    // traceparent 헤더 없이 들어온 요청 중 기록할 비율과 span 을 남길 파일. 파일을 지정하지 않으면 기록하지 않는다.
+    private static final String TRACING_SAMPLE_RATIO_PROPERTY = "tracing.sample.ratio";
+    private static final String TRACING_FILE_PROPERTY = "tracing.file";
+
+    private static FileSpanExporter EXPORTER;
+
+    public static synchronized void configure() {
+        final var file = System.getProperty(TRACING_FILE_PROPERTY);
+        if (file == null || EXPORTER != null) {
+            return;
+        }
+        final var ratio = Double.parseDouble(System.getProperty(TRACING_SAMPLE_RATIO_PROPERTY, "0.01"));
+        EXPORTER = new FileSpanExporter(Path.of(file));
+        Tracer.shared().setExporter(EXPORTER);
+        Tracer.shared().setSampler(Sampler.ratio(ratio));
+        log.info("tracing enabled : sample ratio {}, file {}", ratio, file);
+    }
+
+    // 더는 span 을 받지 않도록 exporter 를 먼저 떼어 낸 뒤 남은 span 을 파일에 쓰고 닫는다.
+    public static synchronized void close() {
+        if (EXPORTER == null) {
+            return;
+        }
+        Tracer.shared().setSampler(Sampler.NEVER);
+        Tracer.shared().setExporter(SpanExporter.NOOP);
+        EXPORTER.close();
+        EXPORTER = null;
+    }
+
+    private TracingConfig() {}
+}
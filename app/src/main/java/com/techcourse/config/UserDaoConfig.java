@@ -0,0 +1,20 @@
+package com.techcourse.config;
+
+import com.techcourse.dao.CachingUserDao;
+import com.techcourse.dao.UserDao;
+
+import java.util.Objects;
+
+public class UserDaoConfig {
+
+    private static UserDao INSTANCE;
+
+    public static synchronized UserDao getInstance() {
+        if (Objects.isNull(INSTANCE)) {
+            INSTANCE = new CachingUserDao(DataSourceConfig.getInstance());
+        }
+        return INSTANCE;
+    }
+
+    private UserDaoConfig() {}
+}
@@ -0,0 +1,39 @@
+package com.techcourse.config;
+
+import com.techcourse.dao.AsyncUserHistoryDao;
+import com.techcourse.dao.UserHistoryDao;
+
+import java.util.Objects;
+
+public class UserHistoryDaoConfig {
+
+    // 기본은 요청 스레드에서 트랜잭션과 함께 기록하고, -Daudit.mode=async 일 때만 백그라운드에서 모아 기록한다.
+    private static final String AUDIT_MODE_PROPERTY = "audit.mode";
+    private static final String ASYNC_MODE = "async";
+
+    private static UserHistoryDao INSTANCE;
+
+    public static synchronized UserHistoryDao getInstance() {
+        if (Objects.isNull(INSTANCE)) {
+            INSTANCE = createUserHistoryDao();
+        }
+        return INSTANCE;
+    }
+
+    public static synchronized void close() {
+        if (INSTANCE instanceof AsyncUserHistoryDao asyncUserHistoryDao) {
+            asyncUserHistoryDao.close();
+        }
+        INSTANCE = null;
+    }
+
+    private static UserHistoryDao createUserHistoryDao() {
+        final var dataSource = DataSourceConfig.getInstance();
+        if (ASYNC_MODE.equalsIgnoreCase(System.getProperty(AUDIT_MODE_PROPERTY))) {
+            return new AsyncUserHistoryDao(dataSource);
+        }
+        return new UserHistoryDao(dataSource);
+    }
+
+    private UserHistoryDaoConfig() {}
+}
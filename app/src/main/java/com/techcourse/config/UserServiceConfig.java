@@ -0,0 +1,37 @@
+package com.techcourse.config;
+
+import com.interface21.dao.support.RetryPolicy;
+import com.interface21.transaction.support.TransactionTemplate;
+import com.techcourse.service.UserService;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class UserServiceConfig {
+
+    // deadlock 이나 lock wait timeout 으로 롤백된 작업 단위를 몇 번까지, 얼마나 기다렸다가 다시 실행할지 정한다.
+    private static final int MAX_TRANSACTION_ATTEMPTS = 3;
+    private static final Duration INITIAL_RETRY_BACKOFF = Duration.ofMillis(20);
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofMillis(200);
+
+    private static UserService INSTANCE;
+
+    public static synchronized UserService getInstance() {
+        if (Objects.isNull(INSTANCE)) {
+            INSTANCE = createUserService();
+        }
+        return INSTANCE;
+    }
+
+    private static UserService createUserService() {
+        final var dataSource = DataSourceConfig.getInstance();
+        return new UserService(UserDaoConfig.getInstance(), UserHistoryDaoConfig.getInstance(),
+                new TransactionTemplate(dataSource, false, retryPolicy()));
+    }
+
+    private static RetryPolicy retryPolicy() {
+        return new RetryPolicy(MAX_TRANSACTION_ATTEMPTS, INITIAL_RETRY_BACKOFF, MAX_RETRY_BACKOFF);
+    }
+
+    private UserServiceConfig() {}
+}
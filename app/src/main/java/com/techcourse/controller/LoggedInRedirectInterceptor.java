@@ -0,0 +1,32 @@
+package com.techcourse.controller;
+
+import com.interface21.webmvc.servlet.HandlerInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 이미 로그인한 사용자가 로그인 화면이나 로그인 요청에 오면 핸들러를 부르지 않고 첫 화면으로 보낸다.
+ */
+public class LoggedInRedirectInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggedInRedirectInterceptor.class);
+
+    private final String redirectPath;
+
+    public LoggedInRedirectInterceptor(final String redirectPath) {
+        this.redirectPath = redirectPath;
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception {
+        final var user = UserSession.getUserFrom(request.getSession());
+        if (user.isEmpty()) {
+            return true;
+        }
+        log.info("logged in {}", user.get().getAccount());
+        response.sendRedirect(redirectPath);
+        return false;
+    }
+}
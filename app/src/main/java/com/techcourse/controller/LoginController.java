@@ -1,7 +1,7 @@
 package com.techcourse.controller;
 
 import com.techcourse.domain.User;
-import com.techcourse.repository.InMemoryUserRepository;
+import com.techcourse.config.UserServiceConfig;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import com.interface21.webmvc.servlet.view.JspView;
@@ -12,6 +12,8 @@ import com.interface21.web.bind.annotation.RequestMethod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Optional;
+
 @Controller
 public class LoginController {
 
@@ -19,21 +21,13 @@ public class LoginController {
 
     @RequestMapping(value = "/login", method = RequestMethod.GET)
     public ModelAndView view(final HttpServletRequest request, final HttpServletResponse response) {
-        return UserSession.getUserFrom(request.getSession())
-                .map(user -> {
-                    log.info("logged in {}", user.getAccount());
-                    return redirect("/index.jsp");
-                })
-                .orElse(new ModelAndView(new JspView("/login.jsp")));
+        return new ModelAndView("/login.jsp");
     }
 
     @RequestMapping(value = "/login", method = RequestMethod.POST)
     public ModelAndView login(final HttpServletRequest request, final HttpServletResponse response) {
-        if (UserSession.isLoggedIn(request.getSession())) {
-            return redirect("/index.jsp");
-        }
-
-        return InMemoryUserRepository.findByAccount(request.getParameter("account"))
+        final var account = request.getParameter("account");
+        return Optional.ofNullable(UserServiceConfig.getInstance().findByAccount(account))
                 .map(user -> {
                     log.info("User : {}", user);
                     return login(request, user);
@@ -52,6 +46,6 @@ public class LoginController {
     }
 
     private ModelAndView redirect(final String path) {
-        return new ModelAndView(new JspView(JspView.REDIRECT_PREFIX + path));
+        return new ModelAndView(JspView.REDIRECT_PREFIX + path);
     }
 }
@@ -1,12 +1,13 @@
 package com.techcourse.controller;
 
 import com.techcourse.domain.User;
-import com.techcourse.repository.InMemoryUserRepository;
+import com.techcourse.config.UserServiceConfig;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import com.interface21.webmvc.servlet.view.JspView;
 import com.interface21.webmvc.servlet.ModelAndView;
 import com.interface21.context.stereotype.Controller;
+import com.interface21.web.bind.annotation.RequestBody;
 import com.interface21.web.bind.annotation.RequestMapping;
 import com.interface21.web.bind.annotation.RequestMethod;
 
@@ -15,17 +16,28 @@ public class RegisterController {
 
     @RequestMapping(value = "/register", method = RequestMethod.POST)
     public ModelAndView register(final HttpServletRequest request, final HttpServletResponse response) {
-        final var user = new User(2,
+        final var user = new User(
                 request.getParameter("account"),
                 request.getParameter("password"),
                 request.getParameter("email"));
-        InMemoryUserRepository.save(user);
+        UserServiceConfig.getInstance().insert(user);
 
-        return new ModelAndView(new JspView("redirect:/index.jsp"));
+        return new ModelAndView(JspView.REDIRECT_PREFIX + "/index.jsp");
+    }
+
+    @RequestMapping(value = "/api/register", method = RequestMethod.POST)
+    public ModelAndView registerApi(@RequestBody final RegisterRequest registerRequest) {
+        final var user = new User(
+                registerRequest.account(),
+                registerRequest.password(),
+                registerRequest.email());
+        UserServiceConfig.getInstance().insert(user);
+
+        return new ModelAndView().addObject("account", user.getAccount());
     }
 
     @RequestMapping(value = "/register", method = RequestMethod.GET)
     public ModelAndView view(final HttpServletRequest request, final HttpServletResponse response) {
-        return new ModelAndView(new JspView("/register.jsp"));
+        return new ModelAndView("/register.jsp");
     }
 }
@@ -0,0 +1,4 @@
+package com.techcourse.controller;
+
+public record RegisterRequest(String account, String password, String email) {
+}
@@ -1,9 +1,8 @@
 package com.techcourse.controller;
 
-import com.techcourse.repository.InMemoryUserRepository;
+import com.techcourse.config.UserServiceConfig;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import com.interface21.webmvc.servlet.view.JsonView;
 import com.interface21.webmvc.servlet.ModelAndView;
 import com.interface21.context.stereotype.Controller;
 import com.interface21.web.bind.annotation.RequestMapping;
@@ -11,6 +10,8 @@ import com.interface21.web.bind.annotation.RequestMethod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Optional;
+
 @Controller
 public class UserController {
 
@@ -21,8 +22,8 @@ public class UserController {
         final var account = request.getParameter("account");
         log.debug("user id : {}", account);
 
-        final var modelAndView = new ModelAndView(new JsonView());
-        final var user = InMemoryUserRepository.findByAccount(account)
+        final var modelAndView = new ModelAndView();
+        final var user = Optional.ofNullable(UserServiceConfig.getInstance().findByAccount(account))
                 .orElseThrow();
 
         modelAndView.addObject("user", user);
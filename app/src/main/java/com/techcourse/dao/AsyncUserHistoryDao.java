@@ -0,0 +1,207 @@
+package com.techcourse.dao;
+
+import com.interface21.transaction.support.TransactionSynchronization;
+import com.interface21.transaction.support.TransactionSynchronizationManager;
+import com.techcourse.domain.UserHistory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 스레드에서는 큐에 넣기만 하고, 백그라운드 스레드가 batchSize 만큼 모이거나
+ * flushInterval 이 지나면 JDBC batch insert 로 한 번에 기록한다.
+ * 큐가 가득 차서 offerTimeout 안에 넣지 못하면 호출 스레드에서 직접 기록한다.
+ * 트랜잭션 안에서 호출하면 커밋된 뒤에 큐에 넣으므로 롤백된 변경은 기록되지 않는다.
+ * batch insert 가 실패하면 간격을 늘려 가며 다시 시도하고, 그래도 실패하면 한 행씩 기록한다.
+ */
+public class AsyncUserHistoryDao extends UserHistoryDao implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncUserHistoryDao.class);
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+    private static final Duration INITIAL_RETRY_BACKOFF = Duration.ofMillis(100);
+
+    private final BlockingQueue<UserHistory> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final Thread writer;
+
+    private volatile boolean closed;
+
+    public AsyncUserHistoryDao(final DataSource dataSource) {
+        this(dataSource, 10_000, 100, Duration.ofMillis(200), Duration.ofMillis(50));
+    }
+
+    public AsyncUserHistoryDao(final DataSource dataSource, final int capacity, final int batchSize,
+                               final Duration flushInterval, final Duration offerTimeout) {
+        super(dataSource);
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("capacity and batchSize must be positive");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.writer = new Thread(this::run, "user-history-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void log(final UserHistory userHistory) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(userHistory);
+                }
+            });
+            return;
+        }
+        enqueue(userHistory);
+    }
+
+    private void enqueue(final UserHistory userHistory) {
+        if (closed) {
+            super.log(userHistory);
+            return;
+        }
+        if (!offer(userHistory)) {
+            log.warn("user history queue is full. write on caller thread");
+            super.log(userHistory);
+            return;
+        }
+        // close 이후에 들어온 항목은 writer 가 이미 종료되었을 수 있으므로 직접 기록한다.
+        if (closed && queue.remove(userHistory)) {
+            super.log(userHistory);
+        }
+    }
+
+    private boolean offer(final UserHistory userHistory) {
+        try {
+            return queue.offer(userHistory, offerTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void run() {
+        final var batch = new ArrayList<UserHistory>(batchSize);
+        try {
+            while (!closed) {
+                collect(batch);
+                flush(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queue.drainTo(batch);
+            while (!batch.isEmpty()) {
+                flush(batch.subList(0, Math.min(batchSize, batch.size())));
+            }
+        }
+    }
+
+    private void collect(final List<UserHistory> batch) throws InterruptedException {
+        final var first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        final var deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            final var remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            final var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(final List<UserHistory> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            if (!logAllWithRetry(batch)) {
+                logEach(batch);
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private boolean logAllWithRetry(final List<UserHistory> batch) {
+        var backoff = INITIAL_RETRY_BACKOFF;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                logAll(batch);
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("failed to write {} user histories. attempt : {}/{}", batch.size(), attempt, MAX_FLUSH_ATTEMPTS, e);
+                if (attempt >= MAX_FLUSH_ATTEMPTS || !sleep(backoff)) {
+                    return false;
+                }
+                backoff = backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    // 한 행의 문제로 batch 전체를 잃지 않도록 마지막에는 행마다 따로 기록한다.
+    private void logEach(final List<UserHistory> batch) {
+        for (final var userHistory : batch) {
+            try {
+                super.log(userHistory);
+            } catch (RuntimeException e) {
+                log.error("failed to write user history. userId : {}", userHistory.getUserId(), e);
+            }
+        }
+    }
+
+    private static boolean sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        // JDBC 호출 중인 writer 를 interrupt 하지 않고, flushInterval 안에 루프를 빠져나오기를 기다린다.
+        closed = true;
+        try {
+            writer.join(SHUTDOWN_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.warn("user history writer did not finish in {}. pending : {}", SHUTDOWN_TIMEOUT, queue.size());
+        }
+    }
+}
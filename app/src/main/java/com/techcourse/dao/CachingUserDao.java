@@ -0,0 +1,135 @@
+package com.techcourse.dao;
+
+import com.interface21.transaction.support.TransactionSynchronization;
+import com.interface21.transaction.support.TransactionSynchronizationManager;
+import com.techcourse.domain.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * account 조회 결과를 최대 {@code maximumSize}개까지 LRU 순서로 보관하는 read-through 캐시.
+ * insert/update 는 DB 에 먼저 반영한 뒤 해당 account 를 캐시에서 제거한다.
+ * 트랜잭션 안이면 커밋 전에 다른 스레드가 읽어 간 이전 값이 다시 캐시에 남지 않도록 커밋된 뒤에 한 번 더 제거한다.
+ * update 로 account 가 바뀌면 이전 account 로 캐시된 값도 지우도록 캐시된 사용자의 id 별 account 를 함께 보관한다.
+ */
+public class CachingUserDao extends UserDao {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingUserDao.class);
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+
+    private final Map<String, User> cache;
+    private final Map<Long, String> cachedAccounts = new HashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CachingUserDao(final DataSource dataSource) {
+        this(dataSource, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public CachingUserDao(final DataSource dataSource, final int maximumSize) {
+        super(dataSource);
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive : " + maximumSize);
+        }
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, User> eldest) {
+                if (size() > maximumSize) {
+                    cachedAccounts.remove(eldest.getValue().getId());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public User findByAccount(final String account) {
+        final var cached = get(account);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+
+        // 조회하는 사이에 무효화가 일어났다면 오래된 값일 수 있으므로 캐시에 넣지 않는다.
+        final var version = invalidations.get();
+        final var user = super.findByAccount(account);
+        if (user != null) {
+            putIfNotInvalidated(account, copyOf(user), version);
+        }
+        return user;
+    }
+
+    @Override
+    public void insert(final User user) {
+        super.insert(user);
+        evictNowAndAfterCommit(user.getAccount());
+    }
+
+    @Override
+    public void update(final User user) {
+        super.update(user);
+        final String previousAccount;
+        synchronized (cache) {
+            previousAccount = cachedAccounts.get(user.getId());
+        }
+        if (previousAccount != null && !previousAccount.equals(user.getAccount())) {
+            evictNowAndAfterCommit(previousAccount);
+        }
+        evictNowAndAfterCommit(user.getAccount());
+    }
+
+    private void evictNowAndAfterCommit(final String account) {
+        evict(account);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(account);
+                }
+            });
+        }
+    }
+
+    public void evict(final String account) {
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            final var removed = cache.remove(account);
+            if (removed != null) {
+                cachedAccounts.remove(removed.getId());
+            }
+        }
+        log.debug("evict user cache : {}", account);
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private User get(final String account) {
+        synchronized (cache) {
+            return cache.get(account);
+        }
+    }
+
+    private void putIfNotInvalidated(final String account, final User user, final long version) {
+        synchronized (cache) {
+            if (invalidations.get() == version) {
+                cache.put(account, user);
+                cachedAccounts.put(user.getId(), account);
+            }
+        }
+    }
+
+    // User 는 가변 객체이므로 호출자가 바꾼 값이 캐시에 남지 않도록 복사본을 주고받는다.
+    private static User copyOf(final User user) {
+        return new User(user.getId(), user.getAccount(), user.getPassword(), user.getEmail());
+    }
+}
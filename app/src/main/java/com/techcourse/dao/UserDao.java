@@ -1,121 +1,104 @@
 package com.techcourse.dao;
 
-import com.techcourse.domain.User;
+import com.interface21.dao.support.EntityCache;
 import com.interface21.jdbc.core.JdbcTemplate;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.interface21.jdbc.core.RowMapper;
+import com.interface21.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import com.techcourse.domain.User;
 
 import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public class UserDao {
 
-    private static final Logger log = LoggerFactory.getLogger(UserDao.class);
+    private static final String FIND_BY_ID_SQL = "select id, account, password, email from users where id = ?";
+    private static final String FIND_BY_ACCOUNT_SQL = "select id, account, password, email from users where account = ?";
+
+    /**
+     * 기동 시 미리 prepare 해 둘 자주 쓰는 조회 SQL.
+     */
+    public static final List<String> HOT_STATEMENTS = List.of(FIND_BY_ID_SQL, FIND_BY_ACCOUNT_SQL);
 
-    private final DataSource dataSource;
+    private static final RowMapper<User> USER_ROW_MAPPER = rs -> new User(
+            rs.getLong("id"),
+            rs.getString("account"),
+            rs.getString("password"),
+            rs.getString("email"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityCache entityCache;
 
     public UserDao(final DataSource dataSource) {
-        this.dataSource = dataSource;
+        this(new JdbcTemplate(dataSource));
     }
 
     public UserDao(final JdbcTemplate jdbcTemplate) {
-        this.dataSource = null;
+        this(jdbcTemplate, null);
+    }
+
+    /**
+     * entityCache 를 주면 findById 결과를 (User, id) 로 캐시한다. 트랜잭션 안의 변경은 커밋된 뒤에 반영된다.
+     */
+    public UserDao(final JdbcTemplate jdbcTemplate, final EntityCache entityCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.entityCache = entityCache;
     }
 
     public void insert(final User user) {
         final var sql = "insert into users (account, password, email) values (?, ?, ?)";
-
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        try {
-            conn = dataSource.getConnection();
-            pstmt = conn.prepareStatement(sql);
-
-            log.debug("query : {}", sql);
-
-            pstmt.setString(1, user.getAccount());
-            pstmt.setString(2, user.getPassword());
-            pstmt.setString(3, user.getEmail());
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            log.error(e.getMessage(), e);
-            throw new RuntimeException(e);
-        } finally {
-            try {
-                if (pstmt != null) {
-                    pstmt.close();
-                }
-            } catch (SQLException ignored) {}
-
-            try {
-                if (conn != null) {
-                    conn.close();
-                }
-            } catch (SQLException ignored) {}
-        }
+        jdbcTemplate.update(sql, user.getAccount(), user.getPassword(), user.getEmail());
     }
 
     public void update(final User user) {
-        // todo
+        final var sql = "update users set account = ?, password = ?, email = ? where id = ?";
+        jdbcTemplate.update(sql, user.getAccount(), user.getPassword(), user.getEmail(), user.getId());
+        if (entityCache != null) {
+            entityCache.put(User.class, user.getId(), copyOf(user));
+        }
     }
 
     public List<User> findAll() {
-        // todo
-        return null;
+        final var sql = "select id, account, password, email from users";
+        return jdbcTemplate.query(sql, USER_ROW_MAPPER);
+    }
+
+    /**
+     * 전체 사용자를 한 행씩 읽는 Stream. 커넥션을 붙잡고 있으므로 다 읽거나 닫아야 한다.
+     * JsonView 에 그대로 넘기면 응답을 쓴 뒤 닫힌다.
+     */
+    public Stream<User> streamAll() {
+        final var sql = "select id, account, password, email from users";
+        return jdbcTemplate.queryForStream(sql, USER_ROW_MAPPER);
     }
 
     public User findById(final Long id) {
-        final var sql = "select id, account, password, email from users where id = ?";
-
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        try {
-            conn = dataSource.getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, id);
-            rs = pstmt.executeQuery();
-
-            log.debug("query : {}", sql);
-
-            if (rs.next()) {
-                return new User(
-                        rs.getLong(1),
-                        rs.getString(2),
-                        rs.getString(3),
-                        rs.getString(4));
-            }
-            return null;
-        } catch (SQLException e) {
-            log.error(e.getMessage(), e);
-            throw new RuntimeException(e);
-        } finally {
-            try {
-                if (rs != null) {
-                    rs.close();
-                }
-            } catch (SQLException ignored) {}
-
-            try {
-                if (pstmt != null) {
-                    pstmt.close();
-                }
-            } catch (SQLException ignored) {}
-
-            try {
-                if (conn != null) {
-                    conn.close();
-                }
-            } catch (SQLException ignored) {}
+        if (entityCache == null) {
+            return queryById(id);
         }
+        final var user = entityCache.getOrLoad(User.class, id, () -> queryById(id));
+        return user == null ? null : copyOf(user);
+    }
+
+    private User queryById(final Long id) {
+        return jdbcTemplate.queryForObject(FIND_BY_ID_SQL, USER_ROW_MAPPER, id);
+    }
+
+    public List<User> findAllByIds(final Collection<Long> ids) {
+        final var sql = "select id, account, password, email from users where id in (:ids)";
+        return namedParameterJdbcTemplate.query(sql, Map.of("ids", ids), USER_ROW_MAPPER);
     }
 
     public User findByAccount(final String account) {
-        // todo
-        return null;
+        return jdbcTemplate.queryForObject(FIND_BY_ACCOUNT_SQL, USER_ROW_MAPPER, account);
+    }
+
+    // User 는 가변 객체이므로 호출자가 바꾼 값이 캐시에 남지 않도록 복사본을 주고받는다.
+    private static User copyOf(final User user) {
+        return new User(user.getId(), user.getAccount(), user.getPassword(), user.getEmail());
     }
 }
@@ -1,62 +1,72 @@
 package com.techcourse.dao;
 
-import com.techcourse.domain.UserHistory;
 import com.interface21.jdbc.core.JdbcTemplate;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.interface21.jdbc.core.MultiRowInsert;
+import com.interface21.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import com.interface21.transaction.support.TransactionTemplate;
+import com.techcourse.domain.UserHistory;
 
 import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class UserHistoryDao {
 
-    private static final Logger log = LoggerFactory.getLogger(UserHistoryDao.class);
+    private static final String INSERT_SQL = "insert into user_history (user_id, account, password, email, created_at, created_by) "
+            + "values (:userId, :account, :password, :email, :createdAt, :createdBy)";
+
+    private static final List<String> COLUMNS = List.of("user_id", "account", "password", "email", "created_at", "created_by");
 
-    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final MultiRowInsert multiRowInsert;
+    private final TransactionTemplate transactionTemplate;
 
     public UserHistoryDao(final DataSource dataSource) {
-        this.dataSource = dataSource;
+        this(new JdbcTemplate(dataSource));
     }
 
     public UserHistoryDao(final JdbcTemplate jdbcTemplate) {
-        this.dataSource = null;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.multiRowInsert = new MultiRowInsert(jdbcTemplate, "user_history", COLUMNS);
+        this.transactionTemplate = new TransactionTemplate(jdbcTemplate.getDataSource());
     }
 
     public void log(final UserHistory userHistory) {
-        final var sql = "insert into user_history (user_id, account, password, email, created_at, created_by) values (?, ?, ?, ?, ?, ?)";
-
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        try {
-            conn = dataSource.getConnection();
-            pstmt = conn.prepareStatement(sql);
-
-            log.debug("query : {}", sql);
-
-            pstmt.setLong(1, userHistory.getUserId());
-            pstmt.setString(2, userHistory.getAccount());
-            pstmt.setString(3, userHistory.getPassword());
-            pstmt.setString(4, userHistory.getEmail());
-            pstmt.setObject(5, userHistory.getCreatedAt());
-            pstmt.setString(6, userHistory.getCreateBy());
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            log.error(e.getMessage(), e);
-            throw new RuntimeException(e);
-        } finally {
-            try {
-                if (pstmt != null) {
-                    pstmt.close();
-                }
-            } catch (SQLException ignored) {}
-
-            try {
-                if (conn != null) {
-                    conn.close();
-                }
-            } catch (SQLException ignored) {}
+        jdbcTemplate.update(INSERT_SQL, toParameters(userHistory));
+    }
+
+    public void logAll(final List<UserHistory> userHistories) {
+        if (userHistories.isEmpty()) {
+            return;
         }
+        // 행마다 문장을 보내지 않도록 여러 행을 하나의 insert ... values 로 묶는다.
+        // 여러 문장으로 나뉘어도 일부만 커밋되지 않도록 한 트랜잭션에서 넣는다. 바깥 트랜잭션이 있으면 참여한다.
+        final var rows = userHistories.stream()
+                .map(UserHistoryDao::toRow)
+                .toList();
+        transactionTemplate.executeWithoutResult(() -> multiRowInsert.insert(rows));
+    }
+
+    private static Object[] toRow(final UserHistory userHistory) {
+        return new Object[]{
+                userHistory.getUserId(),
+                userHistory.getAccount(),
+                userHistory.getPassword(),
+                userHistory.getEmail(),
+                userHistory.getCreatedAt(),
+                userHistory.getCreateBy()
+        };
+    }
+
+    private static Map<String, Object> toParameters(final UserHistory userHistory) {
+        final var parameters = new HashMap<String, Object>();
+        parameters.put("userId", userHistory.getUserId());
+        parameters.put("account", userHistory.getAccount());
+        parameters.put("password", userHistory.getPassword());
+        parameters.put("email", userHistory.getEmail());
+        parameters.put("createdAt", userHistory.getCreatedAt());
+        parameters.put("createdBy", userHistory.getCreateBy());
+        return parameters;
     }
 }
@@ -1,5 +1,6 @@
 package com.techcourse.service;
 
+import com.interface21.transaction.support.TransactionTemplate;
 import com.techcourse.dao.UserDao;
 import com.techcourse.dao.UserHistoryDao;
 import com.techcourse.domain.User;
@@ -9,21 +10,40 @@ public class UserService {
 
     private final UserDao userDao;
     private final UserHistoryDao userHistoryDao;
+    private final TransactionTemplate transactionTemplate;
 
     public UserService(final UserDao userDao, final UserHistoryDao userHistoryDao) {
+        this(userDao, userHistoryDao, null);
+    }
+
+    public UserService(final UserDao userDao, final UserHistoryDao userHistoryDao, final TransactionTemplate transactionTemplate) {
         this.userDao = userDao;
         this.userHistoryDao = userHistoryDao;
+        this.transactionTemplate = transactionTemplate;
     }
 
     public User findById(final long id) {
         return userDao.findById(id);
     }
 
+    public User findByAccount(final String account) {
+        return userDao.findByAccount(account);
+    }
+
     public void insert(final User user) {
         userDao.insert(user);
     }
 
     public void changePassword(final long id, final String newPassword, final String createBy) {
+        if (transactionTemplate == null) {
+            doChangePassword(id, newPassword, createBy);
+            return;
+        }
+        // deadlock 으로 롤백되면 TransactionTemplate 의 RetryPolicy 에 따라 사용자 조회부터 다시 실행한다.
+        transactionTemplate.executeWithoutResult(() -> doChangePassword(id, newPassword, createBy));
+    }
+
+    private void doChangePassword(final long id, final String newPassword, final String createBy) {
         final var user = findById(id);
         user.changePassword(newPassword);
         userDao.update(user);
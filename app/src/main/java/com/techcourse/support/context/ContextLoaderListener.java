@@ -1,16 +1,43 @@
 package com.techcourse.support.context;
 
+import com.interface21.jdbc.datasource.ConnectionPoolMetrics;
+import com.interface21.jdbc.datasource.ConnectionWarmer;
+import com.interface21.jdbc.datasource.LoggingConnectionPoolMetricsExporter;
 import com.techcourse.config.DataSourceConfig;
+import com.techcourse.config.TracingConfig;
+import com.techcourse.config.UserHistoryDaoConfig;
+import com.techcourse.dao.UserDao;
 import com.techcourse.support.jdbc.init.DatabasePopulatorUtils;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import jakarta.servlet.annotation.WebListener;
 
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+
 @WebListener
 public class ContextLoaderListener implements ServletContextListener {
 
+    private static final Duration METRICS_EXPORT_PERIOD = Duration.ofMinutes(1);
+    private static final int WARM_UP_CONNECTIONS = 4;
+    private static final Duration WARM_UP_TIMEOUT = Duration.ofSeconds(10);
+
+    private ScheduledFuture<?> metricsExport;
+
     @Override
     public void contextInitialized(final ServletContextEvent sce) {
         DatabasePopulatorUtils.execute(DataSourceConfig.getInstance());
+        new ConnectionWarmer(DataSourceConfig.getInstance(), WARM_UP_CONNECTIONS, UserDao.HOT_STATEMENTS)
+                .warmUp(WARM_UP_TIMEOUT);
+        metricsExport = ConnectionPoolMetrics.scheduleExport(new LoggingConnectionPoolMetricsExporter(), METRICS_EXPORT_PERIOD);
+    }
+
+    @Override
+    public void contextDestroyed(final ServletContextEvent sce) {
+        if (metricsExport != null) {
+            metricsExport.cancel(false);
+        }
+        UserHistoryDaoConfig.close();
+        TracingConfig.close();
     }
 }
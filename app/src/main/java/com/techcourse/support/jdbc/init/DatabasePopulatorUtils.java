@@ -1,45 +1,21 @@
 package com.techcourse.support.jdbc.init;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.interface21.jdbc.datasource.init.SchemaMigrator;
 
 import javax.sql.DataSource;
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.sql.Connection;
-import java.sql.SQLException;
-import java.sql.Statement;
 
 public class DatabasePopulatorUtils {
 
-    private static final Logger log = LoggerFactory.getLogger(DatabasePopulatorUtils.class);
+    // 같은 버전의 스크립트는 서로 독립적이어야 한다. 새 스키마 변경은 다음 버전 번호로 추가한다.
+    private static final String[] MIGRATIONS = {
+            "db/migration/V1__create_users.sql",
+            "db/migration/V1__create_user_history.sql",
+            "db/migration/V2__create_users_account_index.sql",
+            "db/migration/V3__insert_default_user.sql"
+    };
 
     public static void execute(final DataSource dataSource) {
-        Connection connection = null;
-        Statement statement = null;
-        try {
-            final var url = DatabasePopulatorUtils.class.getClassLoader().getResource("schema.sql");
-            final var file = new File(url.getFile());
-            final var sql = Files.readString(file.toPath());
-            connection = dataSource.getConnection();
-            statement = connection.createStatement();
-            statement.execute(sql);
-        } catch (NullPointerException | IOException | SQLException e) {
-            log.error(e.getMessage(), e);
-        } finally {
-            try {
-                if (statement != null) {
-                    statement.close();
-                }
-            } catch (SQLException ignored) {}
-
-            try {
-                if (connection != null) {
-                    connection.close();
-                }
-            } catch (SQLException ignored) {}
-        }
+        new SchemaMigrator(dataSource).migrate(MIGRATIONS);
     }
 
     private DatabasePopulatorUtils() {}
@@ -0,0 +1,31 @@
+package com.techcourse.support.web.filter;
+
+import com.interface21.jdbc.datasource.DataSourceRoutingContext;
+import jakarta.servlet.*;
+import jakarta.servlet.annotation.WebFilter;
+
+import java.io.IOException;
+
+@WebFilter(value = "/*", asyncSupported = true)
+public class DataSourceRoutingFilter implements Filter {
+
+    @Override
+    public void init(final FilterConfig filterConfig) throws ServletException {
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
+            throws IOException, ServletException {
+        // 요청 중에 쓰기로 고정된 primary 라우팅이 다음 요청으로 새지 않도록 정리한다.
+        // 본문을 non-blocking 으로 읽는 요청은 필터 체인이 끝난 뒤 처리되므로 DataSourceRoutingInterceptor 가 정리한다.
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            DataSourceRoutingContext.clear();
+        }
+    }
+
+    @Override
+    public void destroy() {
+    }
+}
@@ -0,0 +1,20 @@
+package com.techcourse.support.web.interceptor;
+
+import com.interface21.jdbc.datasource.DataSourceRoutingContext;
+import com.interface21.webmvc.servlet.HandlerInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 핸들러 실행이 끝나면 요청 중에 고정된 라우팅을 정리한다.
+ * 버퍼링한 본문으로 처리하는 요청은 DataSourceRoutingFilter 가 끝난 뒤의 스레드에서 실행되므로 이 인터셉터가 맡는다.
+ * 가장 먼저 등록해야 뒤의 인터셉터가 요청을 막아도 afterCompletion 이 불린다.
+ */
+public class DataSourceRoutingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                                final Exception ex) {
+        DataSourceRoutingContext.clear();
+    }
+}
@@ -0,0 +1,42 @@
+package com.techcourse.support.web.servlet;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * dispatcher 보다 늦게 초기화되므로, 커넥션 데우기와 warm-up 요청이 모두 끝난 뒤에야 준비 완료를 알린다.
+ * 종료가 시작되면 다시 준비되지 않음으로 바꿔 로드밸런서가 새 요청을 보내지 않게 한다.
+ */
+@WebServlet(urlPatterns = "/health/ready", loadOnStartup = 2)
+public class ReadinessServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    private volatile boolean ready;
+
+    @Override
+    public void init() {
+        ready = true;
+    }
+
+    @Override
+    protected void doGet(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        response.setContentType("text/plain");
+        if (!ready) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.getWriter().write("WARMING_UP");
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.getWriter().write("UP");
+    }
+
+    @Override
+    public void destroy() {
+        ready = false;
+    }
+}
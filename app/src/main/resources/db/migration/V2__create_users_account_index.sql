@@ -0,0 +1 @@
+create unique index ux_users_account on users (account);
@@ -0,0 +1 @@
+insert into users (account, password, email) values ('gugu', 'password', 'hkkang@woowahan.com');
@@ -0,0 +1,95 @@
+package com.techcourse.controller;
+
+import com.interface21.web.http.converter.HttpMessageNotReadableException;
+import com.interface21.webmvc.servlet.mvc.tobe.HandlerExecution;
+import com.techcourse.config.DataSourceConfig;
+import com.techcourse.config.UserServiceConfig;
+import com.techcourse.support.jdbc.init.DatabasePopulatorUtils;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RegisterControllerTest {
+
+    private HandlerExecution registerApi;
+    private HttpServletRequest request;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DatabasePopulatorUtils.execute(DataSourceConfig.getInstance());
+        final var method = RegisterController.class.getDeclaredMethod("registerApi", RegisterRequest.class);
+        registerApi = new HandlerExecution(new RegisterController(), method);
+        request = mock(HttpServletRequest.class);
+    }
+
+    @Test
+    void registerWithJsonBody() throws Exception {
+        body("{\"account\":\"register-api\",\"password\":\"password\",\"email\":\"register@woowahan.com\"}");
+
+        final var modelAndView = registerApi.handle(request, mock(HttpServletResponse.class));
+
+        assertThat(modelAndView.getObject("account")).isEqualTo("register-api");
+        final var user = UserServiceConfig.getInstance().findByAccount("register-api");
+        assertThat(user.getEmail()).isEqualTo("register@woowahan.com");
+    }
+
+    @Test
+    void rejectMissingBody() throws Exception {
+        body("");
+
+        assertThatThrownBy(() -> registerApi.handle(request, mock(HttpServletResponse.class)))
+                .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    private void body(final String body) throws IOException {
+        final var bytes = body.getBytes(StandardCharsets.UTF_8);
+        when(request.getContentLengthLong()).thenReturn((long) bytes.length);
+        when(request.getInputStream()).thenReturn(new ByteArrayServletInputStream(bytes));
+    }
+
+    private static class ByteArrayServletInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream input;
+
+        private ByteArrayServletInputStream(final byte[] bytes) {
+            this.input = new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public int read() {
+            return input.read();
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            return input.read(bytes, offset, length);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return input.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.techcourse.dao;
+
+import com.interface21.transaction.support.TransactionTemplate;
+import com.techcourse.config.DataSourceConfig;
+import com.techcourse.domain.User;
+import com.techcourse.domain.UserHistory;
+import com.techcourse.support.jdbc.init.DatabasePopulatorUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncUserHistoryDaoTest {
+
+    private final User user = new User(1L, "gugu", "password", "hkkang@woowahan.com");
+
+    @BeforeEach
+    void setup() throws SQLException {
+        DatabasePopulatorUtils.execute(DataSourceConfig.getInstance());
+        try (final var conn = DataSourceConfig.getInstance().getConnection();
+             final var stmt = conn.createStatement()) {
+            stmt.execute("truncate table user_history restart identity");
+        }
+    }
+
+    @Test
+    void flushOnClose() throws SQLException {
+        final var userHistoryDao = new AsyncUserHistoryDao(DataSourceConfig.getInstance(),
+                100, 10, Duration.ofSeconds(1), Duration.ofMillis(10));
+
+        for (int i = 0; i < 25; i++) {
+            userHistoryDao.log(new UserHistory(user, "gugu"));
+        }
+        userHistoryDao.close();
+
+        assertThat(userHistoryDao.pendingCount()).isZero();
+        assertThat(countUserHistories()).isEqualTo(25);
+    }
+
+    @Test
+    void writeOnCallerThreadWhenQueueIsFull() throws SQLException {
+        final var userHistoryDao = new AsyncUserHistoryDao(DataSourceConfig.getInstance(),
+                1, 1, Duration.ofSeconds(1), Duration.ZERO);
+
+        for (int i = 0; i < 10; i++) {
+            userHistoryDao.log(new UserHistory(user, "gugu"));
+        }
+        userHistoryDao.close();
+
+        assertThat(countUserHistories()).isEqualTo(10);
+    }
+
+    @Test
+    void writeSynchronouslyAfterClose() throws SQLException {
+        final var userHistoryDao = new AsyncUserHistoryDao(DataSourceConfig.getInstance());
+        userHistoryDao.close();
+
+        userHistoryDao.log(new UserHistory(user, "gugu"));
+
+        assertThat(countUserHistories()).isEqualTo(1);
+    }
+
+    @Test
+    void writeOnlyCommittedTransactions() throws SQLException {
+        final var userHistoryDao = new AsyncUserHistoryDao(DataSourceConfig.getInstance());
+        final var transactionTemplate = new TransactionTemplate(DataSourceConfig.getInstance());
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(() -> {
+            userHistoryDao.log(new UserHistory(user, "gugu"));
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+        transactionTemplate.executeWithoutResult(() -> userHistoryDao.log(new UserHistory(user, "gugu")));
+        userHistoryDao.close();
+
+        assertThat(countUserHistories()).isEqualTo(1);
+    }
+
+    @Test
+    void writeEachRowWhenBatchKeepsFailing() throws SQLException {
+        final var userHistoryDao = new AsyncUserHistoryDao(DataSourceConfig.getInstance(),
+                100, 10, Duration.ofSeconds(1), Duration.ofMillis(10)) {
+            @Override
+            public void logAll(final List<UserHistory> userHistories) {
+                throw new IllegalStateException("batch insert failed");
+            }
+        };
+
+        for (int i = 0; i < 3; i++) {
+            userHistoryDao.log(new UserHistory(user, "gugu"));
+        }
+        userHistoryDao.close();
+
+        assertThat(countUserHistories()).isEqualTo(3);
+    }
+
+    private int countUserHistories() throws SQLException {
+        try (final var conn = DataSourceConfig.getInstance().getConnection();
+             final var stmt = conn.createStatement();
+             final var rs = stmt.executeQuery("select count(*) from user_history")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.techcourse.dao;
+
+import com.interface21.transaction.support.TransactionTemplate;
+import com.techcourse.config.DataSourceConfig;
+import com.techcourse.domain.User;
+import com.techcourse.support.jdbc.init.DatabasePopulatorUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingUserDaoTest {
+
+    private CachingUserDao userDao;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        DatabasePopulatorUtils.execute(DataSourceConfig.getInstance());
+        try (final var conn = DataSourceConfig.getInstance().getConnection();
+             final var stmt = conn.createStatement()) {
+            stmt.execute("truncate table users restart identity");
+        }
+
+        userDao = new CachingUserDao(DataSourceConfig.getInstance(), 2);
+        userDao.insert(new User("gugu", "password", "hkkang@woowahan.com"));
+    }
+
+    @Test
+    void findByAccount() {
+        final var user = userDao.findByAccount("gugu");
+
+        assertThat(user.getAccount()).isEqualTo("gugu");
+        assertThat(userDao.size()).isEqualTo(1);
+    }
+
+    @Test
+    void findByAccountReturnsCopy() {
+        final var user = userDao.findByAccount("gugu");
+        user.changePassword("changed-but-not-saved");
+
+        final var actual = userDao.findByAccount("gugu");
+
+        assertThat(actual.getPassword()).isEqualTo("password");
+    }
+
+    @Test
+    void updateEvictsCachedUser() {
+        final var user = userDao.findByAccount("gugu");
+        user.changePassword("password99");
+
+        userDao.update(user);
+
+        assertThat(userDao.size()).isZero();
+        assertThat(userDao.findByAccount("gugu").getPassword()).isEqualTo("password99");
+    }
+
+    @Test
+    void evictAgainAfterCommitWhenReadInterleavesWithTransaction() {
+        final var user = userDao.findByAccount("gugu");
+        user.changePassword("password99");
+
+        new TransactionTemplate(DataSourceConfig.getInstance()).executeWithoutResult(() -> {
+            userDao.update(user);
+            // 커밋 전에 다른 스레드가 읽으면 커밋된 이전 값을 다시 캐시에 넣는다.
+            final var concurrentRead = CompletableFuture.supplyAsync(() -> userDao.findByAccount("gugu")).join();
+            assertThat(concurrentRead.getPassword()).isEqualTo("password");
+            assertThat(userDao.size()).isEqualTo(1);
+        });
+
+        assertThat(userDao.size()).isZero();
+        assertThat(userDao.findByAccount("gugu").getPassword()).isEqualTo("password99");
+    }
+
+    @Test
+    void updateEvictsPreviousAccount() {
+        final var user = userDao.findByAccount("gugu");
+        final var renamed = new User(user.getId(), "gugu2", user.getPassword(), user.getEmail());
+
+        userDao.update(renamed);
+
+        assertThat(userDao.size()).isZero();
+        assertThat(userDao.findByAccount("gugu")).isNull();
+        assertThat(userDao.findByAccount("gugu2").getId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    void missIsNotCached() {
+        assertThat(userDao.findByAccount("unknown")).isNull();
+
+        userDao.insert(new User("unknown", "password", "unknown@woowahan.com"));
+
+        assertThat(userDao.findByAccount("unknown")).isNotNull();
+    }
+
+    @Test
+    void boundedByMaximumSize() {
+        userDao.insert(new User("a", "password", "a@woowahan.com"));
+        userDao.insert(new User("b", "password", "b@woowahan.com"));
+
+        userDao.findByAccount("gugu");
+        userDao.findByAccount("a");
+        userDao.findByAccount("b");
+
+        assertThat(userDao.size()).isEqualTo(2);
+    }
+}
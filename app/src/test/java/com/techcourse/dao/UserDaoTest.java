@@ -6,6 +6,9 @@ import com.techcourse.support.jdbc.init.DatabasePopulatorUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.sql.SQLException;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class UserDaoTest {
@@ -13,8 +16,13 @@ class UserDaoTest {
     private UserDao userDao;
 
     @BeforeEach
-    void setup() {
+    void setup() throws SQLException {
         DatabasePopulatorUtils.execute(DataSourceConfig.getInstance());
+        // account 에 unique 인덱스가 있으므로 매 테스트마다 테이블을 비운다.
+        try (final var conn = DataSourceConfig.getInstance().getConnection();
+             final var stmt = conn.createStatement()) {
+            stmt.execute("truncate table users restart identity");
+        }
 
         userDao = new UserDao(DataSourceConfig.getInstance());
         final var user = new User("gugu", "password", "hkkang@woowahan.com");
@@ -28,6 +36,15 @@ class UserDaoTest {
         assertThat(users).isNotEmpty();
     }
 
+    @Test
+    void streamAll() {
+        userDao.insert(new User("hkkang", "password", "hkkang@woowahan.com"));
+
+        try (final var users = userDao.streamAll()) {
+            assertThat(users.map(User::getAccount)).containsExactlyInAnyOrder("gugu", "hkkang");
+        }
+    }
+
     @Test
     void findById() {
         final var user = userDao.findById(1L);
@@ -35,6 +52,16 @@ class UserDaoTest {
         assertThat(user.getAccount()).isEqualTo("gugu");
     }
 
+    @Test
+    void findAllByIds() {
+        userDao.insert(new User("hkkang", "password", "hkkang@woowahan.com"));
+
+        final var users = userDao.findAllByIds(List.of(1L, 2L, 99L));
+
+        assertThat(users).extracting(User::getAccount).containsExactlyInAnyOrder("gugu", "hkkang");
+        assertThat(userDao.findAllByIds(List.of())).isEmpty();
+    }
+
     @Test
     void findByAccount() {
         final var account = "gugu";
@@ -0,0 +1,63 @@
+package com.techcourse.dao;
+
+import com.techcourse.config.DataSourceConfig;
+import com.techcourse.domain.User;
+import com.techcourse.domain.UserHistory;
+import com.techcourse.support.jdbc.init.DatabasePopulatorUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserHistoryDaoTest {
+
+    private final User user = new User(1L, "gugu", "password", "hkkang@woowahan.com");
+
+    @BeforeEach
+    void setup() throws SQLException {
+        DatabasePopulatorUtils.execute(DataSourceConfig.getInstance());
+        try (final var conn = DataSourceConfig.getInstance().getConnection();
+             final var stmt = conn.createStatement()) {
+            stmt.execute("truncate table user_history restart identity");
+        }
+    }
+
+    @Test
+    void logAll() throws SQLException {
+        final var userHistoryDao = new UserHistoryDao(DataSourceConfig.getInstance());
+
+        userHistoryDao.logAll(List.of(
+                new UserHistory(user, "gugu"),
+                new UserHistory(user, "gugu"),
+                new UserHistory(user, "gugu")));
+
+        assertThat(countUserHistories()).isEqualTo(3);
+    }
+
+    @Test
+    void rollbackEarlierChunksWhenLaterChunkFails() throws SQLException {
+        final var userHistoryDao = new UserHistoryDao(DataSourceConfig.getInstance());
+
+        // 3 행은 2 행, 1 행 두 문장으로 나뉜다. 두 번째 문장이 not null 제약으로 실패한다.
+        assertThatThrownBy(() -> userHistoryDao.logAll(List.of(
+                new UserHistory(user, "gugu"),
+                new UserHistory(user, "gugu"),
+                new UserHistory(user, null))))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(countUserHistories()).isZero();
+    }
+
+    private int countUserHistories() throws SQLException {
+        try (final var conn = DataSourceConfig.getInstance().getConnection();
+             final var stmt = conn.createStatement();
+             final var rs = stmt.executeQuery("select count(*) from user_history")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
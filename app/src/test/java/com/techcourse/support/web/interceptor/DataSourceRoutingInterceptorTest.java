@@ -0,0 +1,42 @@
+package com.techcourse.support.web.interceptor;
+
+import com.interface21.jdbc.datasource.DataSourceRoutingContext;
+import com.interface21.jdbc.datasource.RoutingHint;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DataSourceRoutingInterceptorTest {
+
+    private final DataSourceRoutingInterceptor interceptor = new DataSourceRoutingInterceptor();
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.clear();
+    }
+
+    @Test
+    void clearRoutingAfterCompletion() throws Exception {
+        DataSourceRoutingContext.setHint(RoutingHint.REPLICA);
+        DataSourceRoutingContext.pinPrimary();
+
+        interceptor.afterCompletion(mock(HttpServletRequest.class), mock(HttpServletResponse.class), new Object(), null);
+
+        assertThat(DataSourceRoutingContext.getHint()).isNull();
+        assertThat(DataSourceRoutingContext.isPrimaryPinned()).isFalse();
+    }
+
+    @Test
+    void clearRoutingWhenHandlerFailed() throws Exception {
+        DataSourceRoutingContext.pinPrimary();
+
+        interceptor.afterCompletion(mock(HttpServletRequest.class), mock(HttpServletResponse.class), new Object(),
+                new IllegalStateException("handler failed"));
+
+        assertThat(DataSourceRoutingContext.isPrimaryPinned()).isFalse();
+    }
+}
@@ -0,0 +1,16 @@
+package com.interface21.core.concurrent;
+
+/**
+ * 동시에 처리할 작업 수의 한도. 웹 계층은 이 인터페이스로만 한도를 확인하므로 한도를 정하는 방법은 구현이 맡는다.
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * 한도 안이면 true 를 반환한다. true 를 받았다면 처리가 끝난 뒤 반드시 {@link #release()} 해야 한다.
+     */
+    boolean tryAcquire();
+
+    void release();
+
+    int getLimit();
+}
@@ -0,0 +1,42 @@
+package com.interface21.core.deadline;
+
+import java.time.Duration;
+
+/**
+ * System.nanoTime 기준의 절대 마감 시각. 남은 시간은 호출할 때마다 다시 계산한다.
+ */
+public final class Deadline {
+
+    private final long deadlineNanos;
+
+    private Deadline(final long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static Deadline after(final Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * 두 마감 시각 중 더 이른 것을 반환한다.
+     */
+    public Deadline min(final Deadline other) {
+        if (other == null || deadlineNanos - other.deadlineNanos <= 0) {
+            return this;
+        }
+        return other;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[remaining=" + Duration.ofNanos(remainingNanos()).toMillis() + "ms]";
+    }
+}
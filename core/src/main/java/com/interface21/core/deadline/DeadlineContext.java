@@ -0,0 +1,34 @@
+package com.interface21.core.deadline;
+
+/**
+ * 현재 스레드(요청)의 마감 시각을 보관한다.
+ * JdbcTemplate 은 남은 시간으로 statement timeout 을 정하고, 마감이 지나면 실행 중인 statement 를 취소한다.
+ */
+public abstract class DeadlineContext {
+
+    private static final ThreadLocal<Deadline> current = new ThreadLocal<>();
+
+    private DeadlineContext() {}
+
+    public static Deadline get() {
+        return current.get();
+    }
+
+    /**
+     * 마감 시각을 설정하고 이전 값을 반환한다. 이미 더 이른 마감이 있다면 그것을 유지한다.
+     * 작업이 끝나면 반환값으로 {@link #restore(Deadline)} 해야 한다.
+     */
+    public static Deadline set(final Deadline deadline) {
+        final var previous = current.get();
+        current.set(deadline.min(previous));
+        return previous;
+    }
+
+    public static void restore(final Deadline previous) {
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.interface21.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * span 을 한 줄에 하나씩 JSON 으로 파일 끝에 덧붙인다.
+ * 요청 스레드는 큐에 넣기만 하고 백그라운드 스레드가 모아서 쓴다. 큐가 가득 차면 span 을 버리고 개수만 센다.
+ */
+public class FileSpanExporter implements SpanExporter, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    private static final int DEFAULT_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 256;
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(200);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final BlockingQueue<SpanData> queue;
+    private final BufferedWriter out;
+    private final Thread writer;
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean closed;
+
+    public FileSpanExporter(final Path path) {
+        this(path, DEFAULT_CAPACITY);
+    }
+
+    public FileSpanExporter(final Path path, final int capacity) {
+        try {
+            this.out = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot open span file : " + path, e);
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::run, "span-file-exporter");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void export(final SpanData span) {
+        if (closed || !queue.offer(span)) {
+            dropped.increment();
+        }
+    }
+
+    public long getDroppedSpans() {
+        return dropped.sum();
+    }
+
+    private void run() {
+        final var batch = new ArrayList<SpanData>(BATCH_SIZE);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                final var first = queue.poll(FLUSH_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                closed = true;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(final List<SpanData> batch) {
+        try {
+            for (final var span : batch) {
+                out.write(toJson(span));
+                out.newLine();
+            }
+            out.flush();
+        } catch (IOException e) {
+            dropped.add(batch.size());
+            log.warn("failed to write spans : {}", e.getMessage());
+        }
+    }
+
+    static String toJson(final SpanData span) {
+        final var json = new StringBuilder(256)
+                .append("{\"traceId\":\"").append(span.traceId())
+                .append("\",\"spanId\":\"").append(span.spanId()).append('"');
+        if (span.parentSpanId() != null) {
+            json.append(",\"parentSpanId\":\"").append(span.parentSpanId()).append('"');
+        }
+        json.append(",\"name\":");
+        appendString(json, span.name());
+        json.append(",\"startEpochMicros\":").append(span.startEpochMicros())
+                .append(",\"durationNanos\":").append(span.durationNanos());
+        if (!span.attributes().isEmpty()) {
+            json.append(",\"attributes\":{");
+            var first = true;
+            for (final var attribute : span.attributes().entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                appendString(json, attribute.getKey());
+                json.append(':');
+                appendString(json, attribute.getValue());
+            }
+            json.append('}');
+        }
+        if (span.error() != null) {
+            json.append(",\"error\":");
+            appendString(json, span.error());
+        }
+        return json.append('}').toString();
+    }
+
+    private static void appendString(final StringBuilder json, final String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * 큐에 남은 span 을 모두 쓰고 파일을 닫는다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writer.join(SHUTDOWN_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.warn("failed to close span file : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.interface21.tracing;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * 최근 span 을 maxSpans 개까지 메모리에 보관한다. 테스트와 디버깅용이다.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int maxSpans;
+    private final ArrayDeque<SpanData> spans = new ArrayDeque<>();
+
+    public InMemorySpanExporter(final int maxSpans) {
+        this.maxSpans = maxSpans;
+    }
+
+    @Override
+    public synchronized void export(final SpanData span) {
+        if (spans.size() == maxSpans) {
+            spans.pollFirst();
+        }
+        spans.addLast(span);
+    }
+
+    /**
+     * 끝난 순서대로 반환한다. 자식 span 이 부모보다 먼저 온다.
+     */
+    public synchronized List<SpanData> getSpans() {
+        return List.copyOf(spans);
+    }
+
+    public synchronized void reset() {
+        spans.clear();
+    }
+}
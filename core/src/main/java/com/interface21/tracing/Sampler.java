@@ -0,0 +1,25 @@
+package com.interface21.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 들어온 요청에 traceparent 가 없을 때 새 trace 를 기록할지 정한다. 헤더가 있으면 호출한 쪽의 결정을 따른다.
+ */
+@FunctionalInterface
+public interface Sampler {
+
+    Sampler ALWAYS = () -> true;
+    Sampler NEVER = () -> false;
+
+    boolean shouldSample();
+
+    static Sampler ratio(final double ratio) {
+        if (ratio <= 0) {
+            return NEVER;
+        }
+        if (ratio >= 1) {
+            return ALWAYS;
+        }
+        return () -> ThreadLocalRandom.current().nextDouble() < ratio;
+    }
+}
@@ -0,0 +1,85 @@
+package com.interface21.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인 작업 하나. 만든 스레드에서만 쓰며 {@link #end()} 는 한 번만 효과가 있다.
+ * 샘플링하지 않는 요청에서는 {@link #NOOP} 이 돌아오므로 속성을 만드는 비용이 크면 {@link #isRecording()} 을 먼저 확인한다.
+ */
+public final class Span implements AutoCloseable {
+
+    public static final Span NOOP = new Span(null, null, null, null, false, null);
+
+    private final Tracer tracer;
+    private final TraceContext context;
+    private final String parentSpanId;
+    private final String name;
+    private final boolean scoped;
+    private final Span previous;
+    private final long startEpochMicros;
+    private final long startNanos;
+    private Map<String, String> attributes;
+    private String error;
+    private boolean ended;
+
+    Span(final Tracer tracer, final TraceContext context, final String parentSpanId, final String name,
+         final boolean scoped, final Span previous) {
+        this.tracer = tracer;
+        this.context = context;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.scoped = scoped;
+        this.previous = previous;
+        this.startEpochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        this.startNanos = System.nanoTime();
+    }
+
+    public boolean isRecording() {
+        return tracer != null;
+    }
+
+    /**
+     * NOOP 이면 null 을 반환한다.
+     */
+    public TraceContext getContext() {
+        return context;
+    }
+
+    public Span setAttribute(final String key, final Object value) {
+        if (tracer != null && !ended) {
+            if (attributes == null) {
+                attributes = new LinkedHashMap<>();
+            }
+            attributes.put(key, String.valueOf(value));
+        }
+        return this;
+    }
+
+    public Span recordError(final Throwable cause) {
+        if (tracer != null && !ended) {
+            error = cause.getClass().getName() + ": " + cause.getMessage();
+        }
+        return this;
+    }
+
+    public void end() {
+        if (tracer == null || ended) {
+            return;
+        }
+        ended = true;
+        if (scoped) {
+            Tracer.restore(this, previous);
+        }
+        tracer.export(new SpanData(context.traceId(), context.spanId(), parentSpanId, name, startEpochMicros,
+                System.nanoTime() - startNanos,
+                attributes == null ? Map.of() : Collections.unmodifiableMap(attributes), error));
+    }
+
+    @Override
+    public void close() {
+        end();
+    }
+}
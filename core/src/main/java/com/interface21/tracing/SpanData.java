@@ -0,0 +1,10 @@
+package com.interface21.tracing;
+
+import java.util.Map;
+
+/**
+ * 끝난 span. parentSpanId 는 trace 의 첫 span 이면 null 이고, error 는 실패하지 않았으면 null 이다.
+ */
+public record SpanData(String traceId, String spanId, String parentSpanId, String name, long startEpochMicros,
+                       long durationNanos, Map<String, String> attributes, String error) {
+}
@@ -0,0 +1,13 @@
+package com.interface21.tracing;
+
+/**
+ * 끝난 span 을 받는 곳. span 을 끝낸 스레드에서 바로 불리므로 오래 걸리는 일은 다른 스레드로 넘겨야 한다.
+ */
+@FunctionalInterface
+public interface SpanExporter {
+
+    SpanExporter NOOP = span -> {
+    };
+
+    void export(SpanData span);
+}
@@ -0,0 +1,80 @@
+package com.interface21.tracing;
+
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C Trace Context 의 traceparent 헤더 값. {@code 00-<trace-id>-<parent-id>-<flags>} 형식이다.
+ */
+public record TraceContext(String traceId, String spanId, boolean sampled) {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final int TRACEPARENT_LENGTH = 55;
+    private static final String INVALID_TRACE_ID = "0".repeat(32);
+    private static final String INVALID_SPAN_ID = "0".repeat(16);
+
+    /**
+     * 형식이 맞지 않거나 id 가 모두 0 이면 null 을 반환한다. 이때는 새 trace 를 시작하면 된다.
+     */
+    public static TraceContext parse(final String traceparent) {
+        if (traceparent == null || traceparent.length() < TRACEPARENT_LENGTH) {
+            return null;
+        }
+        final var value = traceparent.trim();
+        // 버전 00 은 길이가 정확히 맞아야 하고, 이후 버전은 뒤에 필드가 더 붙을 수 있다.
+        if (value.length() < TRACEPARENT_LENGTH || value.startsWith("ff")
+                || value.charAt(2) != '-' || value.charAt(35) != '-' || value.charAt(52) != '-'
+                || (value.startsWith("00") && value.length() != TRACEPARENT_LENGTH)) {
+            return null;
+        }
+        final var traceId = value.substring(3, 35);
+        final var spanId = value.substring(36, 52);
+        final var flags = value.substring(53, 55);
+        if (!isLowerHex(value.substring(0, 2)) || !isLowerHex(traceId) || !isLowerHex(spanId) || !isLowerHex(flags)
+                || INVALID_TRACE_ID.equals(traceId) || INVALID_SPAN_ID.equals(spanId)) {
+            return null;
+        }
+        return new TraceContext(traceId, spanId, (HexFormat.fromHexDigits(flags) & 0x01) != 0);
+    }
+
+    /**
+     * 형식만 대강 확인하고 sampled 플래그가 꺼져 있는지 본다. 샘플링하지 않는 요청에서 객체를 만들지 않기 위해 쓴다.
+     */
+    static boolean isUnsampled(final String traceparent) {
+        return traceparent.length() >= TRACEPARENT_LENGTH && traceparent.charAt(2) == '-'
+                && traceparent.charAt(35) == '-' && traceparent.charAt(52) == '-'
+                && (Character.digit(traceparent.charAt(54), 16) & 0x01) == 0;
+    }
+
+    public static TraceContext newRoot() {
+        final var random = ThreadLocalRandom.current();
+        return new TraceContext(HEX.toHexDigits(random.nextLong()) + HEX.toHexDigits(nonZero(random)),
+                HEX.toHexDigits(nonZero(random)), true);
+    }
+
+    public TraceContext newChild() {
+        return new TraceContext(traceId, HEX.toHexDigits(nonZero(ThreadLocalRandom.current())), sampled);
+    }
+
+    public String toTraceparent() {
+        return "00-" + traceId + "-" + spanId + (sampled ? "-01" : "-00");
+    }
+
+    private static long nonZero(final ThreadLocalRandom random) {
+        long value;
+        do {
+            value = random.nextLong();
+        } while (value == 0L);
+        return value;
+    }
+
+    private static boolean isLowerHex(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,126 @@
+package com.interface21.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * span 을 만들고 현재 스레드의 span 을 보관한다.
+ * <p>
+ * trace 는 {@link #startSpan(String, String)} 으로 요청 경계에서만 시작한다. 그 안의 작업은 현재 span 의 자식이 되며,
+ * 현재 span 이 없거나 샘플링하지 않는 trace 이면 {@link Span#NOOP} 을 받는다.
+ * 그래서 샘플링하지 않는 요청은 헤더 하나를 읽고 ThreadLocal 을 조회하는 것 외에 비용이 없다.
+ */
+public class Tracer {
+
+    public static final String TRACEPARENT = "traceparent";
+
+    private static final Logger log = LoggerFactory.getLogger(Tracer.class);
+
+    private static final Tracer shared = new Tracer(Sampler.NEVER, SpanExporter.NOOP);
+    private static final ThreadLocal<Span> current = new ThreadLocal<>();
+
+    private volatile Sampler sampler;
+    private volatile SpanExporter exporter;
+
+    public Tracer(final Sampler sampler, final SpanExporter exporter) {
+        this.sampler = sampler;
+        this.exporter = exporter;
+    }
+
+    /**
+     * 기본으로는 아무것도 샘플링하지 않는다. 애플리케이션이 시작할 때 sampler 와 exporter 를 정한다.
+     */
+    public static Tracer shared() {
+        return shared;
+    }
+
+    /**
+     * 현재 스레드의 span. 없으면 {@link Span#NOOP} 을 반환한다.
+     */
+    public static Span currentSpan() {
+        final var span = current.get();
+        return span == null ? Span.NOOP : span;
+    }
+
+    /**
+     * 요청 하나를 처리하는 span 을 시작하고 현재 span 으로 둔다. traceparent 가 올바르면 그 trace 를 이어 가며
+     * 샘플링 여부도 따른다. 없거나 잘못되었으면 sampler 로 새 trace 를 시작할지 정한다.
+     * exporter 가 {@link SpanExporter#NOOP} 이면 traceparent 와 관계없이 {@link Span#NOOP} 을 반환한다.
+     */
+    public Span startSpan(final String name, final String traceparent) {
+        // 내보낼 곳이 없으면 샘플링된 traceparent 를 받아도 span 을 만들 이유가 없다. 기본 tracer 가 이 경우다.
+        if (exporter == SpanExporter.NOOP) {
+            return Span.NOOP;
+        }
+        if (traceparent != null && TraceContext.isUnsampled(traceparent)) {
+            return Span.NOOP;
+        }
+        final var parent = TraceContext.parse(traceparent);
+        if (parent == null) {
+            if (!sampler.shouldSample()) {
+                return Span.NOOP;
+            }
+            return start(name, TraceContext.newRoot(), null, true);
+        }
+        return start(name, parent.newChild(), parent.spanId(), true);
+    }
+
+    /**
+     * 현재 span 의 자식을 시작하고 현재 span 으로 둔다. 끝낼 때 이전 span 으로 돌아간다.
+     */
+    public Span startSpan(final String name) {
+        final var parent = current.get();
+        if (parent == null) {
+            return Span.NOOP;
+        }
+        return start(name, parent.getContext().newChild(), parent.getContext().spanId(), true);
+    }
+
+    /**
+     * 자식을 갖지 않는 span 을 시작한다. 현재 span 을 바꾸지 않으므로 다른 span 이 끝난 뒤나 다른 스레드에서 끝내도 된다.
+     */
+    public Span startLeafSpan(final String name) {
+        final var parent = current.get();
+        if (parent == null) {
+            return Span.NOOP;
+        }
+        return start(name, parent.getContext().newChild(), parent.getContext().spanId(), false);
+    }
+
+    private Span start(final String name, final TraceContext context, final String parentSpanId, final boolean scoped) {
+        final var previous = current.get();
+        final var span = new Span(this, context, parentSpanId, name, scoped, previous);
+        if (scoped) {
+            current.set(span);
+        }
+        return span;
+    }
+
+    // 순서가 어긋나게 끝난 span 때문에 다른 span 을 현재 span 으로 잘못 되돌리지 않는다.
+    static void restore(final Span ending, final Span previous) {
+        if (current.get() != ending) {
+            return;
+        }
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+
+    void export(final SpanData span) {
+        try {
+            exporter.export(span);
+        } catch (RuntimeException e) {
+            log.debug("failed to export span {} : {}", span.name(), e.getMessage());
+        }
+    }
+
+    public void setSampler(final Sampler sampler) {
+        this.sampler = sampler;
+    }
+
+    public void setExporter(final SpanExporter exporter) {
+        this.exporter = exporter;
+    }
+}
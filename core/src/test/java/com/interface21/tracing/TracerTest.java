@@ -0,0 +1,105 @@
+package com.interface21.tracing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TracerTest {
+
+    private static final String SAMPLED_PARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+    private static final String UNSAMPLED_PARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00";
+
+    private InMemorySpanExporter exporter;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new InMemorySpanExporter(100);
+        tracer = new Tracer(Sampler.NEVER, exporter);
+    }
+
+    @Test
+    void continueSampledTraceFromTraceparent() {
+        try (final var request = tracer.startSpan("request", SAMPLED_PARENT)) {
+            try (final var handler = tracer.startSpan("handler")) {
+                tracer.startLeafSpan("statement").setAttribute("db.statement", "select 1").end();
+            }
+        }
+
+        final var spans = exporter.getSpans();
+        assertThat(spans).extracting(SpanData::name).containsExactly("statement", "handler", "request");
+        assertThat(spans).extracting(SpanData::traceId).containsOnly("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(spans.get(2).parentSpanId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(spans.get(1).parentSpanId()).isEqualTo(spans.get(2).spanId());
+        assertThat(spans.get(0).parentSpanId()).isEqualTo(spans.get(1).spanId());
+        assertThat(spans.get(0).attributes()).containsEntry("db.statement", "select 1");
+        assertThat(Tracer.currentSpan()).isSameAs(Span.NOOP);
+    }
+
+    @Test
+    void unsampledTraceRecordsNothing() {
+        try (final var request = tracer.startSpan("request", UNSAMPLED_PARENT)) {
+            assertThat(request).isSameAs(Span.NOOP);
+            assertThat(tracer.startSpan("handler")).isSameAs(Span.NOOP);
+            assertThat(tracer.startLeafSpan("statement")).isSameAs(Span.NOOP);
+        }
+
+        assertThat(exporter.getSpans()).isEmpty();
+    }
+
+    @Test
+    void ignoreSampledTraceparentWithoutExporter() {
+        final var unconfigured = new Tracer(Sampler.ALWAYS, SpanExporter.NOOP);
+
+        try (final var request = unconfigured.startSpan("request", SAMPLED_PARENT)) {
+            assertThat(request).isSameAs(Span.NOOP);
+            assertThat(unconfigured.startSpan("handler")).isSameAs(Span.NOOP);
+        }
+        assertThat(Tracer.shared().startSpan("request", SAMPLED_PARENT)).isSameAs(Span.NOOP);
+    }
+
+    @Test
+    void sampleNewTraceWhenTraceparentIsMissingOrInvalid() {
+        tracer.setSampler(Sampler.ALWAYS);
+
+        tracer.startSpan("request", "not-a-traceparent").end();
+
+        assertThat(exporter.getSpans()).singleElement()
+                .satisfies(span -> {
+                    assertThat(span.parentSpanId()).isNull();
+                    assertThat(span.traceId()).hasSize(32);
+                });
+    }
+
+    @Test
+    void spansOutsideRequestAreNotRecorded() {
+        tracer.setSampler(Sampler.ALWAYS);
+
+        tracer.startLeafSpan("statement").end();
+
+        assertThat(exporter.getSpans()).isEmpty();
+    }
+
+    @Test
+    void parseAndFormatTraceparent() {
+        final var context = TraceContext.parse(SAMPLED_PARENT);
+
+        assertThat(context.sampled()).isTrue();
+        assertThat(context.toTraceparent()).isEqualTo(SAMPLED_PARENT);
+        assertThat(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceContext.parse("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01")).isNull();
+    }
+
+    @Test
+    void writeSpanAsJsonLine() {
+        final var span = new SpanData("4bf92f3577b34da6a3ce929d0e0e4736", "00f067aa0ba902b7", null, "jdbc.statement",
+                1L, 2L, Map.of("db.statement", "select \"a\""), null);
+
+        assertThat(FileSpanExporter.toJson(span)).isEqualTo("{\"traceId\":\"4bf92f3577b34da6a3ce929d0e0e4736\","
+                + "\"spanId\":\"00f067aa0ba902b7\",\"name\":\"jdbc.statement\",\"startEpochMicros\":1,"
+                + "\"durationNanos\":2,\"attributes\":{\"db.statement\":\"select \\\"a\\\"\"}}");
+    }
+}
@@ -0,0 +1,14 @@
+package com.interface21.dao;
+
+public class CannotAcquireLockException extends PessimisticLockingFailureException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CannotAcquireLockException(String message) {
+        super(message);
+    }
+
+    public CannotAcquireLockException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
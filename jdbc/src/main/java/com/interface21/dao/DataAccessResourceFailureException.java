@@ -0,0 +1,17 @@
+package com.interface21.dao;
+
+/**
+ * 데이터베이스에 연결할 수 없는데 다시 시도해도 나아지지 않는 경우. 잘못된 계정이나 없는 데이터베이스, 거부된 연결 등이다.
+ */
+public class DataAccessResourceFailureException extends NonTransientDataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DataAccessResourceFailureException(String message) {
+        super(message);
+    }
+
+    public DataAccessResourceFailureException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.interface21.dao;
+
+public class DataIntegrityViolationException extends NonTransientDataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DataIntegrityViolationException(String message) {
+        super(message);
+    }
+
+    public DataIntegrityViolationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
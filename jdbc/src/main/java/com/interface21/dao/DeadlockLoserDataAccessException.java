@@ -0,0 +1,14 @@
+package com.interface21.dao;
+
+public class DeadlockLoserDataAccessException extends PessimisticLockingFailureException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DeadlockLoserDataAccessException(String message) {
+        super(message);
+    }
+
+    public DeadlockLoserDataAccessException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.interface21.dao;
+
+public class DuplicateKeyException extends DataIntegrityViolationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DuplicateKeyException(String message) {
+        super(message);
+    }
+
+    public DuplicateKeyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.interface21.dao;
+
+/**
+ * 같은 작업을 다시 시도해도 원인이 고쳐지지 않는 한 다시 실패하는 예외.
+ */
+public abstract class NonTransientDataAccessException extends DataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public NonTransientDataAccessException(String message) {
+        super(message);
+    }
+
+    public NonTransientDataAccessException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.interface21.dao;
+
+public class PessimisticLockingFailureException extends TransientDataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PessimisticLockingFailureException(String message) {
+        super(message);
+    }
+
+    public PessimisticLockingFailureException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.interface21.dao;
+
+public class QueryTimeoutException extends TransientDataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public QueryTimeoutException(String message) {
+        super(message);
+    }
+
+    public QueryTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.interface21.dao;
+
+/**
+ * 원인이 된 작업을 그대로 다시 시도하면 성공할 수도 있는 예외. 재시도는 이 계층의 예외에만 한다.
+ */
+public abstract class TransientDataAccessException extends DataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TransientDataAccessException(String message) {
+        super(message);
+    }
+
+    public TransientDataAccessException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.interface21.dao;
+
+public class TransientDataAccessResourceException extends TransientDataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TransientDataAccessResourceException(String message) {
+        super(message);
+    }
+
+    public TransientDataAccessResourceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,271 @@
+package com.interface21.dao.support;
+
+import com.interface21.transaction.support.TransactionSynchronization;
+import com.interface21.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * (엔티티 타입, id) 로 조회한 결과를 보관하는 2차 캐시.
+ * 키의 해시로 나눈 segment 마다 LRU 로 maximumSize/segment 개까지 보관하고, ttl 이 지난 항목은 조회할 때 버린다.
+ * ttl 이 0 이면 만료하지 않는다.
+ * 트랜잭션 안에서의 put/evict 와 조회 결과는 그 트랜잭션에서만 보이며, 커밋된 뒤에야 공유 캐시에 반영되고 롤백되면 버려진다.
+ * 캐시는 값을 그대로 보관하므로 가변 엔티티는 호출하는 쪽에서 복사해서 주고받아야 한다.
+ */
+public class EntityCache {
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final long ttlNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final ThreadLocal<TransactionalChanges> transactionalChanges = new ThreadLocal<>();
+
+    public EntityCache(final int maximumSize, final Duration ttl) {
+        this(maximumSize, ttl, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    public EntityCache(final int maximumSize, final Duration ttl, final int concurrencyLevel) {
+        if (maximumSize <= 0 || concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("maximumSize and concurrencyLevel must be positive");
+        }
+        final var segmentCount = Integer.highestOneBit(Math.min(concurrencyLevel, maximumSize));
+        final var segmentCapacity = (maximumSize + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public <T> T get(final Class<T> type, final Object id) {
+        final var key = new Key(type, id);
+        final var changes = transactionalChanges.get();
+        if (changes != null && changes.contains(key)) {
+            final var value = changes.get(key);
+            record(value != null);
+            return type.cast(value);
+        }
+        final var value = segmentFor(key).get(key);
+        record(value != null);
+        return type.cast(value);
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 읽어 보관한다. 읽는 사이에 같은 segment 가 무효화되었다면 오래된 값일 수 있으므로 보관하지 않는다.
+     */
+    public <T> T getOrLoad(final Class<T> type, final Object id, final Supplier<T> loader) {
+        final var cached = get(type, id);
+        if (cached != null) {
+            return cached;
+        }
+        final var key = new Key(type, id);
+        final var segment = segmentFor(key);
+        final var version = segment.version();
+        final var value = loader.get();
+        if (value == null) {
+            return null;
+        }
+        final var changes = currentChanges();
+        if (changes != null) {
+            changes.load(key, value);
+        } else {
+            segment.putIfNotInvalidated(key, value, version);
+        }
+        return value;
+    }
+
+    /**
+     * 쓰기 결과를 캐시에 반영한다. 트랜잭션 안이라면 커밋될 때 반영한다.
+     */
+    public void put(final Class<?> type, final Object id, final Object value) {
+        final var key = new Key(type, id);
+        final var changes = currentChanges();
+        if (changes == null) {
+            segmentFor(key).put(key, value);
+            return;
+        }
+        // 커밋 전에는 다른 스레드가 예전 값을 읽는 것이 맞다. 다만 진행 중인 조회가 커밋 뒤에 예전 값을 넣지 못하도록 미리 비운다.
+        segmentFor(key).evict(key);
+        changes.write(key, value);
+    }
+
+    public void evict(final Class<?> type, final Object id) {
+        final var key = new Key(type, id);
+        segmentFor(key).evict(key);
+        final var changes = currentChanges();
+        if (changes != null) {
+            changes.write(key, null);
+        }
+    }
+
+    public void clear() {
+        for (final var segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public Stats stats() {
+        var size = 0;
+        for (final var segment : segments) {
+            size += segment.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), size);
+    }
+
+    private void record(final boolean hit) {
+        if (hit) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+    }
+
+    private Segment segmentFor(final Key key) {
+        final var hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    // 동기화가 활성화된 트랜잭션 안에서만 변경을 모아 두고, 트랜잭션이 끝나면 반영하거나 버린다.
+    private TransactionalChanges currentChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        var changes = transactionalChanges.get();
+        if (changes == null) {
+            changes = new TransactionalChanges();
+            transactionalChanges.set(changes);
+            TransactionSynchronizationManager.registerSynchronization(changes);
+        }
+        return changes;
+    }
+
+    private record Key(Class<?> type, Object id) {
+    }
+
+    private record Entry(Object value, long expiresAtNanos) {
+    }
+
+    private record Change(Object value, boolean publish) {
+    }
+
+    private class TransactionalChanges implements TransactionSynchronization {
+
+        private final Map<Key, Change> changes = new HashMap<>();
+
+        private boolean contains(final Key key) {
+            return changes.containsKey(key);
+        }
+
+        private Object get(final Key key) {
+            return changes.get(key).value();
+        }
+
+        private void load(final Key key, final Object value) {
+            changes.putIfAbsent(key, new Change(value, false));
+        }
+
+        private void write(final Key key, final Object value) {
+            changes.put(key, new Change(value, true));
+        }
+
+        @Override
+        public void afterCommit() {
+            changes.forEach((key, change) -> {
+                if (!change.publish()) {
+                    return;
+                }
+                if (change.value() == null) {
+                    segmentFor(key).evict(key);
+                } else {
+                    segmentFor(key).put(key, change.value());
+                }
+            });
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            transactionalChanges.remove();
+        }
+    }
+
+    private class Segment {
+
+        private final Map<Key, Entry> entries;
+        private long version;
+
+        private Segment(final int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private synchronized Object get(final Key key) {
+            final var entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (ttlNanos > 0 && System.nanoTime() - entry.expiresAtNanos() >= 0) {
+                entries.remove(key);
+                expirations.increment();
+                return null;
+            }
+            return entry.value();
+        }
+
+        private synchronized long version() {
+            return version;
+        }
+
+        // 쓰기로 바뀐 값은 그 전에 시작된 조회가 덮어쓰지 못하도록 version 을 올린다.
+        private synchronized void put(final Key key, final Object value) {
+            version++;
+            entries.put(key, new Entry(value, System.nanoTime() + ttlNanos));
+        }
+
+        private synchronized void putIfNotInvalidated(final Key key, final Object value, final long expectedVersion) {
+            if (version == expectedVersion) {
+                entries.put(key, new Entry(value, System.nanoTime() + ttlNanos));
+            }
+        }
+
+        private synchronized void evict(final Key key) {
+            version++;
+            entries.remove(key);
+        }
+
+        private synchronized void clear() {
+            version++;
+            entries.clear();
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    public record Stats(long hits, long misses, long evictions, long expirations, int size) {
+
+        public double hitRate() {
+            final var requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.interface21.dao.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 첫 시도마다 ratio 만큼 적립하고 재시도마다 1 을 꺼내 쓰는 토큰 버킷.
+ * 장애 상황에서 재시도가 전체 요청량의 ratio 비율을 넘지 못하게 해 재시도 폭주를 막는다.
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1_000L;
+
+    private final long depositPerCall;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    public RetryBudget(final double ratio, final int maxRetries) {
+        if (ratio < 0 || maxRetries < 0) {
+            throw new IllegalArgumentException("ratio and maxRetries must not be negative");
+        }
+        this.depositPerCall = (long) (ratio * SCALE);
+        this.maxBalance = maxRetries * SCALE;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    void deposit() {
+        balance.accumulateAndGet(depositPerCall, (current, amount) -> Math.min(maxBalance, current + amount));
+    }
+
+    boolean tryWithdraw() {
+        while (true) {
+            final var current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.interface21.dao.support;
+
+import com.interface21.core.deadline.DeadlineContext;
+import com.interface21.dao.DataAccessException;
+import com.interface21.dao.TransientDataAccessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * {@link TransientDataAccessException} 에 한해 최대 maxAttempts 번까지 다시 실행한다.
+ * 대기 시간은 min(maxBackoff, initialBackoff * 2^(n-1)) 범위에서 무작위로 고르는 full jitter 방식이다.
+ */
+public class RetryPolicy {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryPolicy.class);
+
+    public static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, new RetryBudget(0, 0));
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final RetryBudget retryBudget;
+
+    public RetryPolicy(final int maxAttempts, final Duration initialBackoff, final Duration maxBackoff) {
+        this(maxAttempts, initialBackoff, maxBackoff, new RetryBudget(0.1, 10));
+    }
+
+    public RetryPolicy(final int maxAttempts, final Duration initialBackoff, final Duration maxBackoff,
+                       final RetryBudget retryBudget) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1 : " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.retryBudget = retryBudget;
+    }
+
+    public <T> T execute(final Supplier<T> action) {
+        return execute(action, TransientDataAccessException.class::isInstance);
+    }
+
+    public <T> T execute(final Supplier<T> action, final Predicate<? super DataAccessException> retryable) {
+        if (maxAttempts == 1) {
+            return action.get();
+        }
+        retryBudget.deposit();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (DataAccessException e) {
+                if (attempt >= maxAttempts || !retryable.test(e) || !retryBudget.tryWithdraw()) {
+                    throw e;
+                }
+                final var backoff = backoffNanos(attempt);
+                if (exceedsDeadline(backoff)) {
+                    throw e;
+                }
+                log.warn("retry {}/{} after {}ms : {}", attempt + 1, maxAttempts,
+                        TimeUnit.NANOSECONDS.toMillis(backoff), e.getMessage());
+                sleep(backoff, e);
+            }
+        }
+    }
+
+    private long backoffNanos(final int attempt) {
+        final var exponent = Math.min(attempt - 1, 30);
+        final var ceiling = initialBackoffNanos > (maxBackoffNanos >> exponent)
+                ? maxBackoffNanos
+                : initialBackoffNanos << exponent;
+        if (ceiling <= 0) {
+            return 0L;
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    // 기다린 뒤에 요청 마감이 지나 있다면 다시 실행해도 소용이 없다.
+    private static boolean exceedsDeadline(final long backoffNanos) {
+        final var deadline = DeadlineContext.get();
+        return deadline != null && deadline.remainingNanos() <= backoffNanos;
+    }
+
+    private void sleep(final long nanos, final DataAccessException cause) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+}
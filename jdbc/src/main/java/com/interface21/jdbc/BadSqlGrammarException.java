@@ -0,0 +1,21 @@
+package com.interface21.jdbc;
+
+import com.interface21.dao.NonTransientDataAccessException;
+
+import java.sql.SQLException;
+
+public class BadSqlGrammarException extends NonTransientDataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String sql;
+
+    public BadSqlGrammarException(String task, String sql, SQLException ex) {
+        super(task + "; bad SQL grammar [" + sql + "]", ex);
+        this.sql = sql;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+}
@@ -0,0 +1,399 @@
+package com.interface21.jdbc.core;
+
+import com.interface21.dao.DataAccessException;
+import com.interface21.jdbc.datasource.DataSourceUtils;
+import com.interface21.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import com.interface21.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 대량의 행을 한 테이블에 적재한다.
+ * CSV 는 H2 는 CSVREAD, MySQL 은 LOAD DATA LOCAL INFILE 로 한 번에 넣고, 이때만 임시 파일로 옮긴다.
+ * 그 외의 데이터베이스의 CSV 는 스트림에서 바로 읽어, Iterator 입력과 같이 batchSize 단위의 executeBatch 로 넣는다.
+ * batch 적재는 트랜잭션 밖이라면 batch 마다 커밋하므로, 실패하면 앞서 커밋된 행은 남는다.
+ */
+public class BulkLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkLoader.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private final DataSource dataSource;
+    private final int batchSize;
+
+    public BulkLoader(final DataSource dataSource) {
+        this(dataSource, DEFAULT_BATCH_SIZE);
+    }
+
+    public BulkLoader(final DataSource dataSource, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive : " + batchSize);
+        }
+        this.dataSource = dataSource;
+        this.batchSize = batchSize;
+    }
+
+    public Result load(final String table, final List<String> columns, final Iterator<Object[]> rows) {
+        return load(table, columns, rows, ProgressListener.NONE);
+    }
+
+    public Result load(final String table, final List<String> columns, final Iterator<Object[]> rows,
+                       final ProgressListener listener) {
+        validate(table, columns);
+        final var start = System.nanoTime();
+        final var connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            final var loaded = executeBatches(connection, table, columns, rows, listener, start);
+            return complete(table, Mode.BATCH, loaded, start);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    public Result loadCsv(final String table, final List<String> columns, final InputStream csv) {
+        return loadCsv(table, columns, csv, ProgressListener.NONE);
+    }
+
+    /**
+     * 머리글 없는 UTF-8 CSV 를 적재한다. 값은 columns 순서를 따르며, 따옴표로 감싸지 않은 빈 값은 null 이다.
+     * 다만 MySQL 의 LOAD DATA 는 따옴표로 감싼 빈 값("")과 감싸지 않은 빈 값을 구분하지 못하므로 둘 다 null 로 넣는다.
+     * H2 의 CSVREAD 는 데이터베이스 서버가 파일을 직접 읽으므로 임시 파일이 서버와 같은 파일 시스템에 있어야 한다.
+     * 그래서 임베디드(in-memory, file) H2 에서만 쓰고, tcp/ssl 로 붙은 H2 는 batch 로 적재한다.
+     * 호출자가 넘긴 스트림은 닫지 않는다.
+     */
+    public Result loadCsv(final String table, final List<String> columns, final InputStream csv,
+                          final ProgressListener listener) {
+        validate(table, columns);
+        final var start = System.nanoTime();
+        final var connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            final var product = databaseProductName(connection);
+            if ("H2".equals(product) && isEmbeddedH2(connection)) {
+                final var file = spool(csv);
+                try {
+                    final var loaded = csvRead(connection, table, columns, file);
+                    listener.onProgress(loaded, rowsPerSecond(loaded, start));
+                    return complete(table, Mode.H2_CSVREAD, loaded, start);
+                } finally {
+                    deleteQuietly(file);
+                }
+            }
+            if ("MySQL".equals(product)) {
+                return loadCsvWithLoadData(connection, table, columns, csv, listener, start);
+            }
+            final var reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+            final var loaded = executeBatches(connection, table, columns, new CsvIterator(reader), listener, start);
+            return complete(table, Mode.BATCH, loaded, start);
+        } catch (UncheckedIOException e) {
+            throw new DataAccessException("Failed to read CSV for " + table, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private Result loadCsvWithLoadData(final Connection connection, final String table, final List<String> columns,
+                                       final InputStream csv, final ProgressListener listener, final long start) {
+        final var file = spool(csv);
+        try {
+            try {
+                final var loaded = loadDataLocalInfile(connection, table, columns, file);
+                listener.onProgress(loaded, rowsPerSecond(loaded, start));
+                return complete(table, Mode.MYSQL_LOAD_DATA, loaded, start);
+            } catch (SQLException e) {
+                // allowLoadLocalInfile 이 꺼져 있으면 실패한다. 스트림은 이미 읽었으므로 임시 파일에서 batch 로 다시 적재한다.
+                log.warn("LOAD DATA LOCAL INFILE failed. fall back to batch insert : {}", e.getMessage());
+            }
+            try (final var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                final var loaded = executeBatches(connection, table, columns, new CsvIterator(reader), listener, start);
+                return complete(table, Mode.BATCH, loaded, start);
+            }
+        } catch (IOException e) {
+            throw new DataAccessException("Failed to read CSV for " + table, e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private long csvRead(final Connection connection, final String table, final List<String> columns, final Path file) {
+        final var sql = "insert into " + table + " (" + String.join(", ", columns) + ") "
+                + "select * from csvread(?, ?, 'charset=UTF-8')";
+        try (final var pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, file.toAbsolutePath().toString());
+            pstmt.setString(2, String.join(",", columns).toUpperCase(Locale.ROOT));
+            return pstmt.executeUpdate();
+        } catch (SQLException e) {
+            throw translate(connection, sql, e);
+        }
+    }
+
+    private long loadDataLocalInfile(final Connection connection, final String table, final List<String> columns,
+                                     final Path file) throws SQLException {
+        try (final var statement = connection.createStatement()) {
+            return statement.executeUpdate(loadDataSql(table, columns, file));
+        }
+    }
+
+    // escaped by '' 이면 빈 필드가 NULL 이 아니라 '' 나 0 으로 들어가므로 사용자 변수로 받아 빈 문자열을 NULL 로 바꾼다.
+    static String loadDataSql(final String table, final List<String> columns, final Path file) {
+        final var path = file.toAbsolutePath().toString().replace("\\", "\\\\").replace("'", "\\'");
+        final var variables = new ArrayList<String>();
+        final var assignments = new ArrayList<String>();
+        for (int i = 0; i < columns.size(); i++) {
+            variables.add("@c" + i);
+            assignments.add(columns.get(i) + " = nullif(@c" + i + ", '')");
+        }
+        return "load data local infile '" + path + "' into table " + table
+                + " character set utf8mb4 fields terminated by ',' optionally enclosed by '\"' escaped by ''"
+                + " lines terminated by '\\n' (" + String.join(", ", variables) + ")"
+                + " set " + String.join(", ", assignments);
+    }
+
+    private long executeBatches(final Connection connection, final String table, final List<String> columns,
+                                final Iterator<Object[]> rows, final ProgressListener listener, final long start) {
+        final var sql = "insert into " + table + " (" + String.join(", ", columns) + ") values ("
+                + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+        // 트랜잭션에 참여 중이면 커밋은 트랜잭션에 맡긴다.
+        final var managed = TransactionSynchronizationManager.getResource(dataSource) == connection;
+        long loaded = 0;
+        try (final var pstmt = connection.prepareStatement(sql)) {
+            final var autoCommit = connection.getAutoCommit();
+            if (!managed && autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            try {
+                var pending = 0;
+                while (rows.hasNext()) {
+                    final var row = rows.next();
+                    for (int i = 0; i < row.length; i++) {
+                        ParameterBinders.bind(pstmt, i + 1, row[i]);
+                    }
+                    pstmt.addBatch();
+                    if (++pending == batchSize) {
+                        loaded += flush(connection, pstmt, managed, pending);
+                        pending = 0;
+                        listener.onProgress(loaded, rowsPerSecond(loaded, start));
+                    }
+                }
+                if (pending > 0) {
+                    loaded += flush(connection, pstmt, managed, pending);
+                    listener.onProgress(loaded, rowsPerSecond(loaded, start));
+                }
+                return loaded;
+            } catch (SQLException | RuntimeException e) {
+                if (!managed) {
+                    connection.rollback();
+                }
+                throw e;
+            } finally {
+                if (!managed && autoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException e) {
+            throw translate(connection, sql, e);
+        }
+    }
+
+    private long flush(final Connection connection, final PreparedStatement pstmt, final boolean managed,
+                       final int pending) throws SQLException {
+        pstmt.executeBatch();
+        if (!managed) {
+            connection.commit();
+        }
+        // 드라이버에 따라 SUCCESS_NO_INFO 를 돌려주므로 넣은 행 수를 직접 센다.
+        return pending;
+    }
+
+    private Result complete(final String table, final Mode mode, final long rows, final long start) {
+        final var result = new Result(mode, rows, System.nanoTime() - start);
+        log.info("bulk loaded {} rows into {} using {} : {}ms ({} rows/s)", rows, table, mode,
+                TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()), Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    private static double rowsPerSecond(final long rows, final long start) {
+        final var elapsed = System.nanoTime() - start;
+        return elapsed <= 0 ? 0 : rows * 1e9 / elapsed;
+    }
+
+    private DataAccessException translate(final Connection connection, final String sql, final SQLException e) {
+        return SQLErrorCodeSQLExceptionTranslator.of(dataSource, connection).translate("BulkLoader", sql, e);
+    }
+
+    private static void validate(final String table, final List<String> columns) {
+        if (!IDENTIFIER.matcher(table).matches() || columns.isEmpty()
+                || !columns.stream().allMatch(column -> IDENTIFIER.matcher(column).matches())) {
+            throw new IllegalArgumentException("Invalid table or column name : " + table + " " + columns);
+        }
+    }
+
+    private static String databaseProductName(final Connection connection) {
+        try {
+            final var metaData = connection.getMetaData();
+            return metaData == null ? null : metaData.getDatabaseProductName();
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static boolean isEmbeddedH2(final Connection connection) {
+        try {
+            final var url = connection.getMetaData().getURL();
+            return url != null && !url.startsWith("jdbc:h2:tcp:") && !url.startsWith("jdbc:h2:ssl:");
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static Path spool(final InputStream csv) {
+        try {
+            final var file = Files.createTempFile("bulk-load-", ".csv");
+            Files.copy(csv, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException e) {
+            throw new DataAccessException("Failed to spool CSV to a temporary file", e);
+        }
+    }
+
+    private static void deleteQuietly(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("failed to delete temporary file : {}", file, e);
+        }
+    }
+
+    public enum Mode {
+        H2_CSVREAD, MYSQL_LOAD_DATA, BATCH
+    }
+
+    public record Result(Mode mode, long rows, long elapsedNanos) {
+
+        public double rowsPerSecond() {
+            return elapsedNanos <= 0 ? 0 : rows * 1e9 / elapsedNanos;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        ProgressListener NONE = (rowsLoaded, rowsPerSecond) -> {};
+
+        void onProgress(final long rowsLoaded, final double rowsPerSecond);
+    }
+
+    // RFC 4180 형식의 CSV 를 한 행씩 읽는다. 따옴표 안의 쉼표와 줄바꿈, "" 이스케이프를 지원한다.
+    private static class CsvIterator implements Iterator<Object[]> {
+
+        private final BufferedReader reader;
+        private Object[] next;
+        private boolean eof;
+
+        private CsvIterator(final BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !eof) {
+                next = readRecord();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final var record = next;
+            next = null;
+            return record;
+        }
+
+        private Object[] readRecord() {
+            try {
+                while (true) {
+                    final var fields = new ArrayList<String>();
+                    final var field = new StringBuilder();
+                    var quoted = false;
+                    var inQuotes = false;
+                    var read = false;
+                    int c;
+                    while ((c = reader.read()) != -1) {
+                        read = true;
+                        if (inQuotes) {
+                            if (c != '"') {
+                                field.append((char) c);
+                                continue;
+                            }
+                            reader.mark(1);
+                            if (reader.read() == '"') {
+                                field.append('"');
+                            } else {
+                                reader.reset();
+                                inQuotes = false;
+                            }
+                            continue;
+                        }
+                        if (c == '"') {
+                            inQuotes = true;
+                            quoted = true;
+                        } else if (c == ',') {
+                            fields.add(value(field, quoted));
+                            quoted = false;
+                        } else if (c == '\n') {
+                            break;
+                        } else if (c != '\r') {
+                            field.append((char) c);
+                        }
+                    }
+                    eof = c == -1;
+                    if (!read) {
+                        return null;
+                    }
+                    // 빈 줄은 건너뛴다.
+                    if (fields.isEmpty() && field.isEmpty() && !quoted) {
+                        if (eof) {
+                            return null;
+                        }
+                        continue;
+                    }
+                    fields.add(value(field, quoted));
+                    return fields.toArray();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String value(final StringBuilder field, final boolean quoted) {
+            final var value = field.toString();
+            field.setLength(0);
+            return value.isEmpty() && !quoted ? null : value;
+        }
+    }
+}
@@ -1,17 +1,538 @@
 package com.interface21.jdbc.core;
 
+import com.interface21.core.deadline.Deadline;
+import com.interface21.core.deadline.DeadlineContext;
+import com.interface21.dao.DataAccessException;
+import com.interface21.dao.PessimisticLockingFailureException;
+import com.interface21.dao.QueryTimeoutException;
+import com.interface21.dao.TransientDataAccessException;
+import com.interface21.dao.support.RetryPolicy;
+import com.interface21.jdbc.datasource.DataSourceRoutingContext;
+import com.interface21.jdbc.datasource.DataSourceUtils;
+import com.interface21.jdbc.datasource.RoutingHint;
+import com.interface21.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import com.interface21.jdbc.support.SQLExceptionTranslator;
+import com.interface21.jdbc.support.SqlStatistics;
+import com.interface21.jdbc.support.StatementWatchdog;
+import com.interface21.tracing.Span;
+import com.interface21.tracing.Tracer;
+import com.interface21.transaction.support.TransactionSynchronizationManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class JdbcTemplate {
 
     private static final Logger log = LoggerFactory.getLogger(JdbcTemplate.class);
 
+    private static final Duration DEFAULT_SLOW_QUERY_THRESHOLD = Duration.ofMillis(500);
+    // 느린 쿼리의 호출 위치를 찾을 때 건너뛸 프레임워크 패키지. 재시도와 트랜잭션 템플릿도 여기에 포함된다.
+    private static final List<String> FRAMEWORK_PACKAGE_PREFIXES = List.of(
+            "com.interface21.jdbc.", "com.interface21.dao.", "com.interface21.transaction.");
+    private static final String SPAN_NAME = "jdbc.statement";
+
     private final DataSource dataSource;
+    private final RoutingHint routingHint;
+    private SqlStatistics sqlStatistics = SqlStatistics.shared();
+    private long slowQueryThresholdNanos = DEFAULT_SLOW_QUERY_THRESHOLD.toNanos();
+    private volatile SQLExceptionTranslator exceptionTranslator;
+    private RetryPolicy retryPolicy = RetryPolicy.NONE;
+    private long queryTimeoutNanos;
+    private StatementWatchdog statementWatchdog = StatementWatchdog.shared();
+    private int fetchSize;
+    private Tracer tracer = Tracer.shared();
 
     public JdbcTemplate(final DataSource dataSource) {
+        this(dataSource, null);
+    }
+
+    private JdbcTemplate(final DataSource dataSource, final RoutingHint routingHint) {
         this.dataSource = dataSource;
+        this.routingHint = routingHint;
+    }
+
+    /**
+     * 트랜잭션 밖의 조회를 replica 로 보내는 JdbcTemplate 을 반환한다.
+     * 같은 요청에서 이미 쓰기가 일어났다면 여전히 primary 에서 읽는다.
+     */
+    public JdbcTemplate readFromReplica() {
+        final var jdbcTemplate = new JdbcTemplate(dataSource, RoutingHint.REPLICA);
+        jdbcTemplate.sqlStatistics = sqlStatistics;
+        jdbcTemplate.slowQueryThresholdNanos = slowQueryThresholdNanos;
+        jdbcTemplate.exceptionTranslator = exceptionTranslator;
+        jdbcTemplate.retryPolicy = retryPolicy;
+        jdbcTemplate.queryTimeoutNanos = queryTimeoutNanos;
+        jdbcTemplate.statementWatchdog = statementWatchdog;
+        jdbcTemplate.fetchSize = fetchSize;
+        jdbcTemplate.tracer = tracer;
+        return jdbcTemplate;
+    }
+
+    public int update(final String sql, final Object... args) {
+        return update(sql, createPreparedStatementSetter(args), args);
+    }
+
+    public int update(final String sql, final PreparedStatementSetter pss) {
+        return update(sql, pss, null);
+    }
+
+    private int update(final String sql, final PreparedStatementSetter pss, final Object[] args) {
+        return execute(sql, pss, true, pstmt -> {
+            final var start = System.nanoTime();
+            final var affected = pstmt.executeUpdate();
+            record(sql, args, System.nanoTime() - start, 0L, affected);
+            return affected;
+        });
+    }
+
+    public int[] batchUpdate(final String sql, final List<Object[]> batchArgs) {
+        return execute(sql, pstmt -> {
+            for (final var args : batchArgs) {
+                createPreparedStatementSetter(args).setParameters(pstmt);
+                pstmt.addBatch();
+            }
+        }, true, pstmt -> {
+            final var start = System.nanoTime();
+            final var affected = pstmt.executeBatch();
+            record(sql, null, System.nanoTime() - start, 0L, Arrays.stream(affected).filter(count -> count > 0).sum());
+            return affected;
+        });
+    }
+
+    public <T> List<T> query(final String sql, final RowMapper<T> rowMapper, final Object... args) {
+        return query(sql, rowMapper, createPreparedStatementSetter(args), args);
+    }
+
+    public <T> List<T> query(final String sql, final RowMapper<T> rowMapper, final PreparedStatementSetter pss) {
+        return query(sql, rowMapper, pss, null);
+    }
+
+    private <T> List<T> query(final String sql, final RowMapper<T> rowMapper, final PreparedStatementSetter pss, final Object[] args) {
+        return execute(sql, pss, false, pstmt -> {
+            final var start = System.nanoTime();
+            try (final var rs = pstmt.executeQuery()) {
+                final var executed = System.nanoTime();
+                final var results = new ArrayList<T>();
+                while (rs.next()) {
+                    results.add(rowMapper.mapRow(rs));
+                }
+                record(sql, args, executed - start, System.nanoTime() - executed, results.size());
+                return results;
+            }
+        });
+    }
+
+    /**
+     * 결과를 목록에 모으지 않고 한 행씩 매핑하는 Stream 을 반환한다. 커넥션과 ResultSet 은 Stream 을 닫을 때까지 열려 있으므로
+     * 반드시 try-with-resources 등으로 닫아야 한다. 끝까지 읽으면 자동으로 닫힌다.
+     * 결과가 얼마나 읽힐지 알 수 없으므로 재시도하지 않으며, statement watchdog 대신 setQueryTimeout 만 적용한다.
+     */
+    public <T> Stream<T> queryForStream(final String sql, final RowMapper<T> rowMapper, final Object... args) {
+        final var deadline = DeadlineContext.get();
+        if (deadline != null && deadline.isExpired()) {
+            sqlStatistics.recordError(sql);
+            throw new QueryTimeoutException("Request deadline exceeded before execution : " + sql);
+        }
+        final var span = startSpan(sql);
+        final Connection connection;
+        try {
+            connection = getConnection(false);
+        } catch (RuntimeException e) {
+            span.recordError(e).end();
+            throw e;
+        }
+        PreparedStatement pstmt = null;
+        try {
+            pstmt = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            log.debug("query : {}", sql);
+            if (fetchSize != 0) {
+                pstmt.setFetchSize(fetchSize);
+            }
+            createPreparedStatementSetter(args).setParameters(pstmt);
+            final var timeoutNanos = timeoutNanos(deadline);
+            if (timeoutNanos > 0) {
+                pstmt.setQueryTimeout(toSeconds(timeoutNanos));
+            }
+            final var start = System.nanoTime();
+            final var rs = pstmt.executeQuery();
+            final var iterator = new ResultSetIterator<>(sql, args, connection, pstmt, rs, rowMapper,
+                    System.nanoTime() - start, span);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                    .onClose(iterator::close);
+        } catch (SQLException e) {
+            sqlStatistics.recordError(sql);
+            log.error(e.getMessage(), e);
+            closeQuietly(pstmt);
+            final var translated = getExceptionTranslator(connection).translate("JdbcTemplate", sql, e);
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            span.recordError(translated).end();
+            throw translated;
+        } catch (RuntimeException e) {
+            closeQuietly(pstmt);
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            span.recordError(e).end();
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(final AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("failed to close {} : {}", closeable.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    public <T> T queryForObject(final String sql, final RowMapper<T> rowMapper, final Object... args) {
+        return singleResult(sql, query(sql, rowMapper, args));
+    }
+
+    public <T> T queryForObject(final String sql, final RowMapper<T> rowMapper, final PreparedStatementSetter pss) {
+        return singleResult(sql, query(sql, rowMapper, pss));
+    }
+
+    private <T> T singleResult(final String sql, final List<T> results) {
+        if (results.isEmpty()) {
+            return null;
+        }
+        if (results.size() > 1) {
+            throw new DataAccessException("Incorrect result size: expected 1, actual " + results.size() + " : " + sql);
+        }
+        return results.get(0);
+    }
+
+    // 커넥션을 기다린 시간과 재시도를 포함해 statement 하나를 span 하나로 기록한다.
+    private <T> T execute(final String sql, final PreparedStatementSetter pss, final boolean write,
+                          final StatementCallback<T> action) {
+        final var span = startSpan(sql);
+        try {
+            return executeWithRetry(sql, pss, write, action);
+        } catch (RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private Span startSpan(final String sql) {
+        final var span = tracer.startLeafSpan(SPAN_NAME);
+        if (span.isRecording()) {
+            span.setAttribute("db.statement", SqlStatistics.normalize(sql));
+        }
+        return span;
+    }
+
+    private <T> T executeWithRetry(final String sql, final PreparedStatementSetter pss, final boolean write,
+                                   final StatementCallback<T> action) {
+        // 트랜잭션 안에서는 문장 하나만 다시 실행하면 안 되므로 TransactionTemplate 이 작업 단위 전체를 재시도한다.
+        if (TransactionSynchronizationManager.getResource(dataSource) != null) {
+            return executeOnce(sql, pss, write, action);
+        }
+        // 쓰기는 롤백이 확실한 락 충돌일 때만 다시 실행한다. 커넥션 끊김은 반영 여부를 알 수 없다.
+        return retryPolicy.execute(() -> executeOnce(sql, pss, write, action), write
+                ? PessimisticLockingFailureException.class::isInstance
+                : TransientDataAccessException.class::isInstance);
+    }
+
+    private <T> T executeOnce(final String sql, final PreparedStatementSetter pss, final boolean write,
+                              final StatementCallback<T> action) {
+        // 마감이 이미 지났다면 커넥션을 빌리지 않고 바로 실패시킨다.
+        final var deadline = DeadlineContext.get();
+        if (deadline != null && deadline.isExpired()) {
+            sqlStatistics.recordError(sql);
+            throw new QueryTimeoutException("Request deadline exceeded before execution : " + sql);
+        }
+        final var connection = getConnection(write);
+        try (final var pstmt = connection.prepareStatement(sql)) {
+            log.debug("query : {}", sql);
+            pss.setParameters(pstmt);
+            return executeWithTimeout(sql, pstmt, action);
+        } catch (SQLException e) {
+            sqlStatistics.recordError(sql);
+            log.error(e.getMessage(), e);
+            throw getExceptionTranslator(connection).translate("JdbcTemplate", sql, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private <T> T executeWithTimeout(final String sql, final PreparedStatement pstmt,
+                                     final StatementCallback<T> action) throws SQLException {
+        final var deadline = DeadlineContext.get();
+        final var timeoutNanos = timeoutNanos(deadline);
+        if (timeoutNanos > 0) {
+            pstmt.setQueryTimeout(toSeconds(timeoutNanos));
+        }
+        if (deadline == null) {
+            return action.doInStatement(pstmt);
+        }
+        try (final var watch = statementWatchdog.watch(pstmt, timeoutNanos)) {
+            try {
+                return action.doInStatement(pstmt);
+            } catch (SQLException e) {
+                if (!watch.isCancelled()) {
+                    throw e;
+                }
+                sqlStatistics.recordError(sql);
+                throw new QueryTimeoutException("Statement cancelled after timeout : " + sql, e);
+            }
+        }
+    }
+
+    private long timeoutNanos(final Deadline deadline) {
+        if (deadline == null) {
+            return queryTimeoutNanos;
+        }
+        final var remaining = Math.max(deadline.remainingNanos(), 0L);
+        return queryTimeoutNanos > 0 ? Math.min(queryTimeoutNanos, remaining) : remaining;
+    }
+
+    // setQueryTimeout 은 초 단위이고 0 은 무제한이므로 올림하고 최소 1초로 맞춘다.
+    private static int toSeconds(final long nanos) {
+        final var seconds = (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        return (int) Math.min(Math.max(seconds, 1L), Integer.MAX_VALUE);
+    }
+
+    private SQLExceptionTranslator getExceptionTranslator(final Connection connection) {
+        var translator = exceptionTranslator;
+        if (translator == null) {
+            translator = SQLErrorCodeSQLExceptionTranslator.of(dataSource, connection);
+            exceptionTranslator = translator;
+        }
+        return translator;
+    }
+
+    private Connection getConnection(final boolean write) {
+        if (write) {
+            DataSourceRoutingContext.pinPrimary();
+            return DataSourceUtils.getConnection(dataSource);
+        }
+        if (routingHint == null) {
+            return DataSourceUtils.getConnection(dataSource);
+        }
+        final var previous = DataSourceRoutingContext.setHint(routingHint);
+        try {
+            return DataSourceUtils.getConnection(dataSource);
+        } finally {
+            DataSourceRoutingContext.setHint(previous);
+        }
+    }
+
+    private void record(final String sql, final Object[] args, final long executeNanos, final long fetchNanos, final long rows) {
+        sqlStatistics.record(sql, executeNanos, fetchNanos, rows);
+        final var elapsed = executeNanos + fetchNanos;
+        if (elapsed >= slowQueryThresholdNanos) {
+            log.warn("slow query : {}ms (execute={}ms, fetch={}ms, rows={}), sql : {}, parameters : {}, caller : {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), TimeUnit.NANOSECONDS.toMillis(executeNanos),
+                    TimeUnit.NANOSECONDS.toMillis(fetchNanos), rows, SqlStatistics.normalize(sql), redact(args), caller());
+        }
+    }
+
+    // 비밀번호 같은 값이 로그에 남지 않도록 문자열은 길이만 남긴다.
+    private static String redact(final Object[] args) {
+        if (args == null) {
+            return "<setter>";
+        }
+        return Arrays.stream(args)
+                .map(arg -> {
+                    if (arg == null) {
+                        return "null";
+                    }
+                    if (arg instanceof Number || arg instanceof Boolean || arg instanceof TemporalAccessor) {
+                        return arg.toString();
+                    }
+                    if (arg instanceof CharSequence value) {
+                        return "'***'(" + value.length() + ")";
+                    }
+                    return "<" + arg.getClass().getSimpleName() + ">";
+                })
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String caller() {
+        return StackWalker.getInstance()
+                .walk(frames -> frames
+                        .filter(frame -> !isFrameworkClass(frame.getClassName()))
+                        .findFirst()
+                        .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                        .orElse("unknown"));
+    }
+
+    private static boolean isFrameworkClass(final String className) {
+        for (final var prefix : FRAMEWORK_PACKAGE_PREFIXES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PreparedStatementSetter createPreparedStatementSetter(final Object... args) {
+        return pstmt -> {
+            for (int i = 0; i < args.length; i++) {
+                ParameterBinders.bind(pstmt, i + 1, args[i]);
+            }
+        };
+    }
+
+    public void setSqlStatistics(final SqlStatistics sqlStatistics) {
+        this.sqlStatistics = sqlStatistics;
+    }
+
+    public void setSlowQueryThreshold(final Duration slowQueryThreshold) {
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    public void setExceptionTranslator(final SQLExceptionTranslator exceptionTranslator) {
+        this.exceptionTranslator = exceptionTranslator;
+    }
+
+    public void setRetryPolicy(final RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * 모든 statement 에 적용할 기본 timeout. 요청 마감이 더 이르면 남은 시간이 우선한다.
+     */
+    public void setQueryTimeout(final Duration queryTimeout) {
+        this.queryTimeoutNanos = queryTimeout.toNanos();
+    }
+
+    /**
+     * queryForStream 이 드라이버에 한 번에 가져올 행 수를 알려 준다. 0 이면 드라이버 기본값을 쓴다.
+     */
+    public void setFetchSize(final int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public void setStatementWatchdog(final StatementWatchdog statementWatchdog) {
+        this.statementWatchdog = statementWatchdog;
+    }
+
+    /**
+     * 요청 span 안에서 실행한 statement 를 자식 span 으로 기록한다. 기본값은 {@link Tracer#shared()} 이다.
+     */
+    public void setTracer(final Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    public SqlStatistics getSqlStatistics() {
+        return sqlStatistics;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    @FunctionalInterface
+    private interface StatementCallback<T> {
+        T doInStatement(final PreparedStatement pstmt) throws SQLException;
+    }
+
+    private final class ResultSetIterator<T> implements Iterator<T> {
+
+        private final String sql;
+        private final Object[] args;
+        private final Connection connection;
+        private final PreparedStatement pstmt;
+        private final ResultSet rs;
+        private final RowMapper<T> rowMapper;
+        private final long executeNanos;
+        private final Span span;
+        private final long fetchStart = System.nanoTime();
+        private long rows;
+        private boolean fetched;
+        private boolean hasNext;
+        private boolean closed;
+
+        private ResultSetIterator(final String sql, final Object[] args, final Connection connection,
+                                  final PreparedStatement pstmt, final ResultSet rs, final RowMapper<T> rowMapper,
+                                  final long executeNanos, final Span span) {
+            this.sql = sql;
+            this.args = args;
+            this.connection = connection;
+            this.pstmt = pstmt;
+            this.rs = rs;
+            this.rowMapper = rowMapper;
+            this.executeNanos = executeNanos;
+            this.span = span;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            if (!fetched) {
+                try {
+                    hasNext = rs.next();
+                } catch (SQLException e) {
+                    throw fail(e);
+                }
+                fetched = true;
+                if (!hasNext) {
+                    close();
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            fetched = false;
+            try {
+                final var row = rowMapper.mapRow(rs);
+                rows++;
+                return row;
+            } catch (SQLException e) {
+                throw fail(e);
+            }
+        }
+
+        private DataAccessException fail(final SQLException e) {
+            sqlStatistics.recordError(sql);
+            log.error(e.getMessage(), e);
+            final var translated = getExceptionTranslator(connection).translate("JdbcTemplate", sql, e);
+            span.recordError(translated);
+            close();
+            return translated;
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeQuietly(rs);
+            closeQuietly(pstmt);
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            record(sql, args, executeNanos, System.nanoTime() - fetchStart, rows);
+            span.setAttribute("db.rows", rows).end();
+        }
     }
 }
@@ -0,0 +1,132 @@
+package com.interface21.jdbc.core;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 여러 행을 INSERT ... VALUES (...), (...) 한 문장으로 묶어 넣는다.
+ * rewriteBatchedStatements 가 꺼진 MySQL 드라이버는 batch 도 행마다 문장을 보내므로 왕복 횟수를 줄이기 위해 사용한다.
+ * 한 문장의 파라미터 수와 예상 패킷 크기가 상한을 넘지 않도록 나누고, 행 수는 2 의 거듭제곱 단위로 잘라
+ * 만들어지는 SQL 의 종류를 log2(최대 행 수) 개로 제한한다. 생성한 SQL 은 행 수마다 캐시한다.
+ * 여러 문장으로 나뉠 수 있으므로 원자적으로 넣으려면 트랜잭션 안에서 호출해야 한다.
+ */
+public class MultiRowInsert {
+
+    // MySQL 의 prepared statement 파라미터 상한
+    private static final int DEFAULT_MAX_PARAMETERS = 65_535;
+    // MySQL 5.7 의 기본 max_allowed_packet
+    private static final long DEFAULT_MAX_PACKET_BYTES = 4L * 1024 * 1024;
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    private static final int ROW_OVERHEAD_BYTES = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertPrefix;
+    private final String rowPlaceholder;
+    private final int columnCount;
+    private final int maxRowsPerStatement;
+    private final long maxPacketBytes;
+    private final String[] sqlByBucket;
+
+    public MultiRowInsert(final JdbcTemplate jdbcTemplate, final String table, final List<String> columns) {
+        this(jdbcTemplate, table, columns, DEFAULT_MAX_PARAMETERS, DEFAULT_MAX_PACKET_BYTES);
+    }
+
+    public MultiRowInsert(final JdbcTemplate jdbcTemplate, final String table, final List<String> columns,
+                          final int maxParameters, final long maxPacketBytes) {
+        if (!IDENTIFIER.matcher(table).matches() || columns.isEmpty()
+                || !columns.stream().allMatch(column -> IDENTIFIER.matcher(column).matches())) {
+            throw new IllegalArgumentException("Invalid table or column name : " + table + " " + columns);
+        }
+        if (maxParameters < columns.size()) {
+            throw new IllegalArgumentException("maxParameters must allow at least one row : " + maxParameters);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertPrefix = "insert into " + table + " (" + String.join(", ", columns) + ") values ";
+        this.rowPlaceholder = "(" + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+        this.columnCount = columns.size();
+        this.maxRowsPerStatement = Integer.highestOneBit(maxParameters / columns.size());
+        this.maxPacketBytes = maxPacketBytes;
+        this.sqlByBucket = new String[Integer.numberOfTrailingZeros(maxRowsPerStatement) + 1];
+    }
+
+    /**
+     * @return 넣은 행 수
+     */
+    public int insert(final List<Object[]> rows) {
+        var inserted = 0;
+        var from = 0;
+        while (from < rows.size()) {
+            final var to = chunkEnd(rows, from);
+            inserted += insertChunk(rows, from, to);
+            from = to;
+        }
+        return inserted;
+    }
+
+    // 파라미터 수와 예상 패킷 크기를 넘지 않는 범위에서 가능한 많은 행을 묶는다. 한 행은 항상 들어간다.
+    private int chunkEnd(final List<Object[]> rows, final int from) {
+        final var limit = Math.min(rows.size(), from + maxRowsPerStatement);
+        var bytes = (long) insertPrefix.length();
+        var end = from;
+        while (end < limit) {
+            final var row = rows.get(end);
+            if (row.length != columnCount) {
+                throw new IllegalArgumentException("Expected " + columnCount + " values but got " + row.length);
+            }
+            bytes += rowPlaceholder.length() + ROW_OVERHEAD_BYTES + estimateBytes(row);
+            if (bytes > maxPacketBytes && end > from) {
+                break;
+            }
+            end++;
+        }
+        return end;
+    }
+
+    private int insertChunk(final List<Object[]> rows, final int from, final int to) {
+        var inserted = 0;
+        var offset = from;
+        while (offset < to) {
+            final var bucket = Integer.highestOneBit(to - offset);
+            final var args = new Object[bucket * columnCount];
+            for (int i = 0; i < bucket; i++) {
+                System.arraycopy(rows.get(offset + i), 0, args, i * columnCount, columnCount);
+            }
+            inserted += jdbcTemplate.update(sqlFor(bucket), args);
+            offset += bucket;
+        }
+        return inserted;
+    }
+
+    String sqlFor(final int rowCount) {
+        final var index = Integer.numberOfTrailingZeros(rowCount);
+        var sql = sqlByBucket[index];
+        if (sql == null) {
+            final var builder = new StringBuilder(insertPrefix.length() + rowCount * (rowPlaceholder.length() + 2));
+            builder.append(insertPrefix).append(rowPlaceholder);
+            for (int i = 1; i < rowCount; i++) {
+                builder.append(", ").append(rowPlaceholder);
+            }
+            sql = builder.toString();
+            // 같은 문자열을 여러 스레드가 만들어도 결과가 같으므로 동기화하지 않는다.
+            sqlByBucket[index] = sql;
+        }
+        return sql;
+    }
+
+    // 문자열은 utf8mb4 최악의 경우인 글자당 4바이트로 본다.
+    private static long estimateBytes(final Object[] row) {
+        var bytes = 0L;
+        for (final var value : row) {
+            if (value == null) {
+                bytes += 1;
+            } else if (value instanceof CharSequence text) {
+                bytes += 4L * text.length() + 4;
+            } else if (value instanceof byte[] binary) {
+                bytes += binary.length + 4;
+            } else {
+                bytes += 16;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,13 @@
+package com.interface21.jdbc.core;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * 한 타입의 값을 PreparedStatement 의 알맞은 setXxx 로 바인딩한다.
+ */
+@FunctionalInterface
+public interface ParameterBinder {
+
+    void bind(final PreparedStatement pstmt, final int index, final Object value) throws SQLException;
+}
@@ -0,0 +1,135 @@
+package com.interface21.jdbc.core;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 런타임 타입에 맞는 {@link ParameterBinder} 를 고른다.
+ * setObject 는 드라이버가 타입을 다시 추론하거나 메타데이터를 조회하는 느린 경로를 타기도 하므로,
+ * 알려진 타입은 setLong/setString/setTimestamp 등으로 직접 바인딩한다. 고른 결과는 클래스마다 캐시한다.
+ */
+public abstract class ParameterBinders {
+
+    private static final ParameterBinder LONG = (pstmt, index, value) -> pstmt.setLong(index, (Long) value);
+    private static final ParameterBinder INT = (pstmt, index, value) -> pstmt.setInt(index, (Integer) value);
+    private static final ParameterBinder SHORT = (pstmt, index, value) -> pstmt.setShort(index, (Short) value);
+    private static final ParameterBinder BYTE = (pstmt, index, value) -> pstmt.setByte(index, (Byte) value);
+    private static final ParameterBinder BOOLEAN = (pstmt, index, value) -> pstmt.setBoolean(index, (Boolean) value);
+    private static final ParameterBinder DOUBLE = (pstmt, index, value) -> pstmt.setDouble(index, (Double) value);
+    private static final ParameterBinder FLOAT = (pstmt, index, value) -> pstmt.setFloat(index, (Float) value);
+    private static final ParameterBinder STRING = (pstmt, index, value) -> pstmt.setString(index, value.toString());
+    private static final ParameterBinder BIG_DECIMAL = (pstmt, index, value) -> pstmt.setBigDecimal(index, (BigDecimal) value);
+    private static final ParameterBinder BIG_INTEGER = (pstmt, index, value) ->
+            pstmt.setBigDecimal(index, new BigDecimal((BigInteger) value));
+    private static final ParameterBinder BYTES = (pstmt, index, value) -> pstmt.setBytes(index, (byte[]) value);
+    private static final ParameterBinder LOCAL_DATE_TIME = (pstmt, index, value) ->
+            pstmt.setTimestamp(index, Timestamp.valueOf((LocalDateTime) value));
+    private static final ParameterBinder LOCAL_DATE = (pstmt, index, value) ->
+            pstmt.setDate(index, Date.valueOf((LocalDate) value));
+    private static final ParameterBinder LOCAL_TIME = (pstmt, index, value) ->
+            pstmt.setTime(index, Time.valueOf((LocalTime) value));
+    private static final ParameterBinder INSTANT = (pstmt, index, value) ->
+            pstmt.setTimestamp(index, Timestamp.from((Instant) value));
+    private static final ParameterBinder TIMESTAMP = (pstmt, index, value) -> pstmt.setTimestamp(index, (Timestamp) value);
+    private static final ParameterBinder SQL_DATE = (pstmt, index, value) -> pstmt.setDate(index, (Date) value);
+    private static final ParameterBinder SQL_TIME = (pstmt, index, value) -> pstmt.setTime(index, (Time) value);
+    private static final ParameterBinder UTIL_DATE = (pstmt, index, value) ->
+            pstmt.setTimestamp(index, new Timestamp(((java.util.Date) value).getTime()));
+    private static final ParameterBinder ENUM = (pstmt, index, value) -> pstmt.setString(index, ((Enum<?>) value).name());
+    private static final ParameterBinder OBJECT = PreparedStatement::setObject;
+
+    private static final ClassValue<ParameterBinder> binders = new ClassValue<>() {
+        @Override
+        protected ParameterBinder computeValue(final Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private ParameterBinders() {}
+
+    public static void bind(final PreparedStatement pstmt, final int index, final Object value) throws SQLException {
+        if (value == null) {
+            pstmt.setNull(index, Types.NULL);
+            return;
+        }
+        binders.get(value.getClass()).bind(pstmt, index, value);
+    }
+
+    public static ParameterBinder forType(final Class<?> type) {
+        return binders.get(type);
+    }
+
+    private static ParameterBinder resolve(final Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return LONG;
+        }
+        if (type == Integer.class || type == int.class) {
+            return INT;
+        }
+        if (type == String.class || type == Character.class || type == char.class) {
+            return STRING;
+        }
+        if (type == LocalDateTime.class) {
+            return LOCAL_DATE_TIME;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return BOOLEAN;
+        }
+        if (type == Short.class || type == short.class) {
+            return SHORT;
+        }
+        if (type == Byte.class || type == byte.class) {
+            return BYTE;
+        }
+        if (type == Double.class || type == double.class) {
+            return DOUBLE;
+        }
+        if (type == Float.class || type == float.class) {
+            return FLOAT;
+        }
+        if (type == BigDecimal.class) {
+            return BIG_DECIMAL;
+        }
+        if (type == BigInteger.class) {
+            return BIG_INTEGER;
+        }
+        if (type == byte[].class) {
+            return BYTES;
+        }
+        if (type == LocalDate.class) {
+            return LOCAL_DATE;
+        }
+        if (type == LocalTime.class) {
+            return LOCAL_TIME;
+        }
+        if (type == Instant.class) {
+            return INSTANT;
+        }
+        if (Timestamp.class.isAssignableFrom(type)) {
+            return TIMESTAMP;
+        }
+        if (Date.class.isAssignableFrom(type)) {
+            return SQL_DATE;
+        }
+        if (Time.class.isAssignableFrom(type)) {
+            return SQL_TIME;
+        }
+        if (java.util.Date.class.isAssignableFrom(type)) {
+            return UTIL_DATE;
+        }
+        if (Enum.class.isAssignableFrom(type)) {
+            return ENUM;
+        }
+        return OBJECT;
+    }
+}
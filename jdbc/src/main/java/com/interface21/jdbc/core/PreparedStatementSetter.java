@@ -0,0 +1,9 @@
+package com.interface21.jdbc.core;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface PreparedStatementSetter {
+    void setParameters(final PreparedStatement pstmt) throws SQLException;
+}
@@ -0,0 +1,89 @@
+package com.interface21.jdbc.core.namedparam;
+
+import com.interface21.jdbc.core.JdbcTemplate;
+import com.interface21.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * :account 형식의 이름 있는 파라미터를 ? 로 바꿔 {@link JdbcTemplate} 에 위임한다.
+ * Collection 값은 IN 목록으로 펼치므로 여러 건 조회를 한 번의 쿼리로 보낼 수 있다.
+ * 파싱 결과는 SQL 문자열마다 캐시하며, cacheLimit 을 넘은 SQL 은 캐시하지 않고 매번 파싱한다.
+ */
+public class NamedParameterJdbcTemplate {
+
+    private static final int DEFAULT_CACHE_LIMIT = 256;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int cacheLimit;
+    private final Map<String, ParsedSql> parsedSqlCache = new ConcurrentHashMap<>();
+
+    public NamedParameterJdbcTemplate(final DataSource dataSource) {
+        this(new JdbcTemplate(dataSource));
+    }
+
+    public NamedParameterJdbcTemplate(final JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, DEFAULT_CACHE_LIMIT);
+    }
+
+    public NamedParameterJdbcTemplate(final JdbcTemplate jdbcTemplate, final int cacheLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheLimit = cacheLimit;
+    }
+
+    public int update(final String sql, final Map<String, ?> parameters) {
+        final var boundSql = getParsedSql(sql).bind(parameters);
+        return jdbcTemplate.update(boundSql.sql(), boundSql.args());
+    }
+
+    /**
+     * 모든 행이 같은 SQL 로 펼쳐져야 한다. Collection 파라미터의 크기가 행마다 다르면 예외가 발생한다.
+     */
+    public int[] batchUpdate(final String sql, final List<? extends Map<String, ?>> batchParameters) {
+        if (batchParameters.isEmpty()) {
+            return new int[0];
+        }
+        final var parsedSql = getParsedSql(sql);
+        final var first = parsedSql.bind(batchParameters.get(0));
+        final var batchArgs = batchParameters.stream()
+                .map(parameters -> {
+                    final var boundSql = parsedSql.bind(parameters);
+                    if (!boundSql.sql().equals(first.sql())) {
+                        throw new IllegalArgumentException(
+                                "Collection parameters must expand to the same size in a batch : " + sql);
+                    }
+                    return boundSql.args();
+                })
+                .toList();
+        return jdbcTemplate.batchUpdate(first.sql(), batchArgs);
+    }
+
+    public <T> List<T> query(final String sql, final Map<String, ?> parameters, final RowMapper<T> rowMapper) {
+        final var boundSql = getParsedSql(sql).bind(parameters);
+        return jdbcTemplate.query(boundSql.sql(), rowMapper, boundSql.args());
+    }
+
+    public <T> T queryForObject(final String sql, final Map<String, ?> parameters, final RowMapper<T> rowMapper) {
+        final var boundSql = getParsedSql(sql).bind(parameters);
+        return jdbcTemplate.queryForObject(boundSql.sql(), rowMapper, boundSql.args());
+    }
+
+    ParsedSql getParsedSql(final String sql) {
+        final var cached = parsedSqlCache.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        final var parsedSql = ParsedSql.parse(sql);
+        if (parsedSqlCache.size() < cacheLimit) {
+            parsedSqlCache.putIfAbsent(sql, parsedSql);
+        }
+        return parsedSql;
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+}
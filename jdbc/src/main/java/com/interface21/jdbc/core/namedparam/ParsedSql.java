@@ -0,0 +1,155 @@
+package com.interface21.jdbc.core.namedparam;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * :name 형식의 파라미터 위치를 한 번만 찾아 두고, 호출마다 값만 바꿔 끼워 ? 형식의 SQL 을 만든다.
+ * 문자열/식별자 리터럴, 주석, :: 캐스트 안의 콜론은 파라미터로 보지 않는다.
+ */
+public final class ParsedSql {
+
+    private final String originalSql;
+    private final String[] parameterNames;
+    private final int[] starts;
+    private final int[] ends;
+    private final String positionalSql;
+
+    private ParsedSql(final String originalSql, final List<String> parameterNames,
+                      final List<Integer> starts, final List<Integer> ends) {
+        this.originalSql = originalSql;
+        this.parameterNames = parameterNames.toArray(String[]::new);
+        this.starts = starts.stream().mapToInt(Integer::intValue).toArray();
+        this.ends = ends.stream().mapToInt(Integer::intValue).toArray();
+        this.positionalSql = substitute(null);
+    }
+
+    public static ParsedSql parse(final String sql) {
+        final var names = new ArrayList<String>();
+        final var starts = new ArrayList<Integer>();
+        final var ends = new ArrayList<Integer>();
+        final var length = sql.length();
+        int i = 0;
+        while (i < length) {
+            final var c = sql.charAt(i);
+            if (c == '\'' || c == '"' || c == '`') {
+                i = skipQuoted(sql, i, c);
+                continue;
+            }
+            if (c == '-' && startsWith(sql, i, "--")) {
+                final var newline = sql.indexOf('\n', i);
+                i = newline < 0 ? length : newline + 1;
+                continue;
+            }
+            if (c == '/' && startsWith(sql, i, "/*")) {
+                final var close = sql.indexOf("*/", i + 2);
+                i = close < 0 ? length : close + 2;
+                continue;
+            }
+            if (c == ':') {
+                if (startsWith(sql, i, "::")) {
+                    i += 2;
+                    continue;
+                }
+                var end = i + 1;
+                while (end < length && isIdentifierPart(sql.charAt(end))) {
+                    end++;
+                }
+                if (end > i + 1) {
+                    names.add(sql.substring(i + 1, end));
+                    starts.add(i);
+                    ends.add(end);
+                    i = end;
+                    continue;
+                }
+            }
+            i++;
+        }
+        return new ParsedSql(sql, names, starts, ends);
+    }
+
+    private static int skipQuoted(final String sql, final int start, final char quote) {
+        final var close = sql.indexOf(quote, start + 1);
+        return close < 0 ? sql.length() : close + 1;
+    }
+
+    private static boolean startsWith(final String sql, final int index, final String prefix) {
+        return sql.startsWith(prefix, index);
+    }
+
+    private static boolean isIdentifierPart(final char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * 파라미터 값을 순서대로 펼쳐 ? 형식의 SQL 과 인자 배열을 만든다.
+     * Collection 값은 원소 수만큼의 ? 목록으로 펼치고, 빈 Collection 은 아무 행과도 일치하지 않는 null 로 바꾼다.
+     */
+    public BoundSql bind(final Map<String, ?> parameters) {
+        final var args = new ArrayList<>(parameterNames.length);
+        var expanded = false;
+        for (final var name : parameterNames) {
+            final var value = valueOf(parameters, name);
+            if (value instanceof Collection<?> values) {
+                args.addAll(values);
+                expanded = true;
+            } else {
+                args.add(value);
+            }
+        }
+        // 컬렉션이 없으면 SQL 은 항상 같으므로 미리 만들어 둔 것을 쓴다.
+        final var sql = expanded ? substitute(parameters) : positionalSql;
+        return new BoundSql(sql, args.toArray());
+    }
+
+    private String substitute(final Map<String, ?> parameters) {
+        if (parameterNames.length == 0) {
+            return originalSql;
+        }
+        final var sql = new StringBuilder(originalSql.length() + 16);
+        var last = 0;
+        for (int i = 0; i < parameterNames.length; i++) {
+            sql.append(originalSql, last, starts[i]);
+            final var value = parameters == null ? null : parameters.get(parameterNames[i]);
+            if (value instanceof Collection<?> values) {
+                appendPlaceholders(sql, values.size());
+            } else {
+                sql.append('?');
+            }
+            last = ends[i];
+        }
+        return sql.append(originalSql, last, originalSql.length()).toString();
+    }
+
+    private static void appendPlaceholders(final StringBuilder sql, final int count) {
+        if (count == 0) {
+            sql.append("null");
+            return;
+        }
+        sql.append('?');
+        for (int i = 1; i < count; i++) {
+            sql.append(", ?");
+        }
+    }
+
+    private static Object valueOf(final Map<String, ?> parameters, final String name) {
+        if (!parameters.containsKey(name)) {
+            throw new IllegalArgumentException("No value supplied for SQL parameter '" + name + "'");
+        }
+        return parameters.get(name);
+    }
+
+    public String getOriginalSql() {
+        return originalSql;
+    }
+
+    public List<String> getParameterNames() {
+        return Arrays.asList(parameterNames);
+    }
+
+    public record BoundSql(String sql, Object[] args) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.interface21.jdbc.datasource;
+
+import com.interface21.core.concurrent.ConcurrencyLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커넥션 풀 지표를 보고 동시에 처리할 요청 수를 조정한다.
+ * adjustInterval 마다 그동안의 평균 커넥션 대기 시간과 보유 시간을 더한 값이 latencyThreshold 를 넘으면 한도를 줄이고,
+ * 넘지 않으면 한도를 하나씩 늘린다. 반납 없이 대기자만 쌓여도 DB 가 멈춘 것으로 보고 줄인다.
+ * 조정은 요청 스레드가 차례가 되었을 때 한 번만 하므로 별도 스레드가 없다.
+ */
+public class AdaptiveConcurrencyLimiter implements ConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    private static final Duration DEFAULT_ADJUST_INTERVAL = Duration.ofMillis(500);
+    private static final double DECREASE_FACTOR = 0.9;
+
+    private final ConnectionPoolMetrics metrics;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final long adjustIntervalNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong nextAdjustNanos;
+
+    private volatile int limit;
+    // 직전 조정 때의 누적값. adjust 안에서만 읽고 쓴다.
+    private long lastWaitCount;
+    private long lastWaitNanos;
+    private long lastHoldCount;
+    private long lastHoldNanos;
+
+    public AdaptiveConcurrencyLimiter(final ConnectionPoolMetrics metrics, final int minLimit, final int maxLimit,
+                                      final Duration latencyThreshold) {
+        this(metrics, minLimit, maxLimit, latencyThreshold, DEFAULT_ADJUST_INTERVAL);
+    }
+
+    public AdaptiveConcurrencyLimiter(final ConnectionPoolMetrics metrics, final int minLimit, final int maxLimit,
+                                      final Duration latencyThreshold, final Duration adjustInterval) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("limits must satisfy 0 < minLimit <= maxLimit");
+        }
+        this.metrics = metrics;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.adjustIntervalNanos = adjustInterval.toNanos();
+        this.nextAdjustNanos = new AtomicLong(System.nanoTime() + adjustIntervalNanos);
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        adjustIfDue();
+        while (true) {
+            final var current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void adjustIfDue() {
+        final var now = System.nanoTime();
+        final var next = nextAdjustNanos.get();
+        if (now - next < 0 || !nextAdjustNanos.compareAndSet(next, now + adjustIntervalNanos)) {
+            return;
+        }
+        adjust(metrics.snapshot());
+    }
+
+    // 누적 평균과 개수로 구간 합계를 구해 직전 조정 이후의 평균만 본다.
+    synchronized void adjust(final ConnectionPoolMetrics.Snapshot snapshot) {
+        final var waitCount = snapshot.borrowWait().count();
+        final var waitNanos = snapshot.borrowWait().meanNanos() * waitCount;
+        final var holdCount = snapshot.hold().count();
+        final var holdNanos = snapshot.hold().meanNanos() * holdCount;
+        final var recentWaits = waitCount - lastWaitCount;
+        final var recentHolds = holdCount - lastHoldCount;
+        final var recentLatency = mean(waitNanos - lastWaitNanos, recentWaits)
+                + mean(holdNanos - lastHoldNanos, recentHolds);
+        lastWaitCount = waitCount;
+        lastWaitNanos = waitNanos;
+        lastHoldCount = holdCount;
+        lastHoldNanos = holdNanos;
+
+        final var stalled = recentHolds == 0 && snapshot.pending() > 0;
+        final var previous = limit;
+        if (stalled || recentLatency > latencyThresholdNanos) {
+            limit = Math.max(minLimit, (int) (previous * DECREASE_FACTOR));
+        } else if (recentHolds > 0) {
+            limit = Math.min(maxLimit, previous + 1);
+        }
+        if (limit < previous) {
+            log.warn("concurrency limit decreased {} -> {} : recent db latency {}ms, pending {}", previous, limit,
+                    recentLatency / 1_000_000, snapshot.pending());
+        }
+    }
+
+    private static long mean(final long totalNanos, final long count) {
+        return count <= 0 ? 0L : Math.max(0L, totalNanos / count);
+    }
+}
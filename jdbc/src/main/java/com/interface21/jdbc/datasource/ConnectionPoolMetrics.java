@@ -0,0 +1,153 @@
+package com.interface21.jdbc.datasource;
+
+import com.interface21.jdbc.support.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * DataSourceUtils 의 getConnection/releaseConnection 경계에서 측정한 커넥션 대여 지표.
+ * DataSource 마다 하나씩 만들어지며 모든 값은 락 없이 갱신된다.
+ */
+public class ConnectionPoolMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolMetrics.class);
+
+    private static final Map<DataSource, ConnectionPoolMetrics> registry = new ConcurrentHashMap<>();
+    private static final Duration DEFAULT_SLOW_ACQUIRE_THRESHOLD = Duration.ofMillis(100);
+    private static final int UNKNOWN = -1;
+
+    private static volatile ScheduledExecutorService exportScheduler;
+
+    private final String name;
+    private final LatencyHistogram borrowWait = new LatencyHistogram();
+    private final LatencyHistogram hold = new LatencyHistogram();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Map<Connection, Long> borrowedAt = new ConcurrentHashMap<>();
+
+    private volatile long slowAcquireThresholdNanos = DEFAULT_SLOW_ACQUIRE_THRESHOLD.toNanos();
+    private volatile IntSupplier idleCounter = () -> UNKNOWN;
+
+    ConnectionPoolMetrics(final String name) {
+        this.name = name;
+    }
+
+    public static ConnectionPoolMetrics of(final DataSource dataSource) {
+        return registry.computeIfAbsent(dataSource, ds -> new ConnectionPoolMetrics(ds.getClass().getSimpleName()
+                + "@" + Integer.toHexString(System.identityHashCode(ds))));
+    }
+
+    public static Map<DataSource, ConnectionPoolMetrics> all() {
+        return Map.copyOf(registry);
+    }
+
+    /**
+     * 모든 DataSource 의 지표를 period 마다 exporter 로 내보낸다. 반환된 future 를 취소하면 중단된다.
+     */
+    public static ScheduledFuture<?> scheduleExport(final ConnectionPoolMetricsExporter exporter, final Duration period) {
+        return scheduler().scheduleAtFixedRate(() -> exportAll(exporter),
+                period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public static void exportAll(final ConnectionPoolMetricsExporter exporter) {
+        registry.values().forEach(metrics -> {
+            try {
+                exporter.export(metrics.snapshot());
+            } catch (RuntimeException e) {
+                log.warn("failed to export connection pool metrics : {}", metrics.name, e);
+            }
+        });
+    }
+
+    private static ScheduledExecutorService scheduler() {
+        if (exportScheduler == null) {
+            synchronized (ConnectionPoolMetrics.class) {
+                if (exportScheduler == null) {
+                    exportScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        final var thread = new Thread(runnable, "connection-pool-metrics-exporter");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return exportScheduler;
+    }
+
+    long beginBorrow() {
+        pending.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    void borrowed(final Connection connection, final long startNanos) {
+        final var now = System.nanoTime();
+        final var waitNanos = now - startNanos;
+        pending.decrementAndGet();
+        active.incrementAndGet();
+        borrowWait.record(waitNanos);
+        borrowedAt.put(connection, now);
+
+        if (waitNanos >= slowAcquireThresholdNanos) {
+            log.warn("slow connection acquisition from {} : {}ms (active={}, pending={})",
+                    name, TimeUnit.NANOSECONDS.toMillis(waitNanos), active.get(), pending.get(),
+                    new Throwable("acquired at"));
+        }
+    }
+
+    void borrowFailed(final long startNanos, final SQLException ex) {
+        pending.decrementAndGet();
+        borrowWait.record(System.nanoTime() - startNanos);
+        if (ex instanceof SQLTimeoutException || ex instanceof SQLTransientConnectionException) {
+            timeouts.increment();
+        } else {
+            failures.increment();
+        }
+    }
+
+    void released(final Connection connection) {
+        final var start = borrowedAt.remove(connection);
+        if (start == null) {
+            return;
+        }
+        active.decrementAndGet();
+        hold.record(System.nanoTime() - start);
+    }
+
+    public void setSlowAcquireThreshold(final Duration threshold) {
+        this.slowAcquireThresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * 풀 구현체가 제공하는 유휴 커넥션 수를 연결한다. 연결하지 않으면 -1 로 보고된다.
+     */
+    public void setIdleCounter(final IntSupplier idleCounter) {
+        this.idleCounter = idleCounter;
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(name, active.get(), idleCounter.getAsInt(), pending.get(),
+                timeouts.sum(), failures.sum(), borrowWait.snapshot(), hold.snapshot());
+    }
+
+    public record Snapshot(String name, int active, int idle, int pending, long timeouts, long failures,
+                           LatencyHistogram.Snapshot borrowWait, LatencyHistogram.Snapshot hold) {
+    }
+}
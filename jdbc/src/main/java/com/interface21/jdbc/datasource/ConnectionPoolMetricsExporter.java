@@ -0,0 +1,6 @@
+package com.interface21.jdbc.datasource;
+
+@FunctionalInterface
+public interface ConnectionPoolMetricsExporter {
+    void export(final ConnectionPoolMetrics.Snapshot snapshot);
+}
@@ -0,0 +1,124 @@
+package com.interface21.jdbc.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기동 직후 첫 요청이 커넥션 생성과 statement 준비 비용을 치르지 않도록 미리 데워 둔다.
+ * minIdle 개의 커넥션을 동시에 열어 모두 열릴 때까지 붙잡아 두므로, 풀링 DataSource 라면 풀이 minIdle 까지 채워진다.
+ * 열린 커넥션마다 hotStatements 를 prepare 해서 드라이버와 서버의 statement 캐시를 채운다.
+ */
+public class ConnectionWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionWarmer.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final DataSource dataSource;
+    private final int minIdle;
+    private final List<String> hotStatements;
+
+    public ConnectionWarmer(final DataSource dataSource, final int minIdle, final List<String> hotStatements) {
+        if (minIdle <= 0) {
+            throw new IllegalArgumentException("minIdle must be positive : " + minIdle);
+        }
+        this.dataSource = dataSource;
+        this.minIdle = minIdle;
+        this.hotStatements = List.copyOf(hotStatements);
+    }
+
+    /**
+     * timeout 안에 끝나지 않아도 예외를 던지지 않는다. 데우기는 최선을 다할 뿐 기동을 막지 않는다.
+     */
+    public Result warmUp(final Duration timeout) {
+        final var start = System.nanoTime();
+        final var opened = new CountDownLatch(minIdle);
+        final var release = new CountDownLatch(1);
+        final var connections = new AtomicInteger();
+        final var prepared = new LongAdder();
+        final var failures = new LongAdder();
+        final var sequence = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(minIdle, runnable -> {
+            final var thread = new Thread(runnable, "connection-warmer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int i = 0; i < minIdle; i++) {
+                executor.execute(() -> warmUpConnection(opened, release, connections, prepared, failures));
+            }
+            final var completed = opened.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            if (!completed) {
+                log.warn("connection warm-up did not finish in {}", timeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        final var result = new Result(connections.get(), prepared.sum(), failures.sum(), System.nanoTime() - start);
+        log.info("connection warm-up finished : {}", result);
+        return result;
+    }
+
+    private void warmUpConnection(final CountDownLatch opened, final CountDownLatch release,
+                                  final AtomicInteger connections, final LongAdder prepared, final LongAdder failures) {
+        Connection connection = null;
+        try {
+            connection = DataSourceUtils.getConnection(dataSource);
+            connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            connections.incrementAndGet();
+            for (final var sql : hotStatements) {
+                prepare(connection, sql, prepared, failures);
+            }
+        } catch (RuntimeException | SQLException e) {
+            failures.increment();
+            log.warn("failed to warm up connection : {}", e.getMessage());
+        } finally {
+            opened.countDown();
+        }
+        if (connection == null) {
+            return;
+        }
+        // 먼저 끝난 커넥션이 반납되어 재사용되면 풀이 minIdle 까지 늘지 않으므로 모두 열릴 때까지 기다린다.
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void prepare(final Connection connection, final String sql, final LongAdder prepared, final LongAdder failures) {
+        try (final var pstmt = connection.prepareStatement(sql)) {
+            // prepare 를 첫 실행까지 미루는 드라이버도 메타데이터를 물으면 서버에서 문장을 파싱한다.
+            pstmt.getMetaData();
+            prepared.increment();
+        } catch (SQLException e) {
+            failures.increment();
+            log.warn("failed to prepare hot statement : {} ({})", sql, e.getMessage());
+        }
+    }
+
+    public record Result(int connections, long preparedStatements, long failures, long elapsedNanos) {
+
+        @Override
+        public String toString() {
+            return "connections=" + connections + ", preparedStatements=" + preparedStatements
+                    + ", failures=" + failures + ", elapsed=" + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms";
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.interface21.jdbc.datasource;
+
+/**
+ * 현재 스레드(요청)의 라우팅 힌트와 primary 고정 여부를 보관한다.
+ * 한 번 쓰기가 일어나면 같은 요청의 이후 읽기도 primary 로 보내 복제 지연으로 인한 불일치를 막는다.
+ * 요청이 끝나면 {@link #clear()} 로 정리해야 한다.
+ */
+public abstract class DataSourceRoutingContext {
+
+    private static final ThreadLocal<RoutingHint> hint = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> primaryPinned = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {}
+
+    public static RoutingHint getHint() {
+        return hint.get();
+    }
+
+    public static RoutingHint setHint(final RoutingHint routingHint) {
+        final var previous = hint.get();
+        if (routingHint == null) {
+            hint.remove();
+        } else {
+            hint.set(routingHint);
+        }
+        return previous;
+    }
+
+    public static void pinPrimary() {
+        primaryPinned.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryPinned() {
+        return primaryPinned.get() != null;
+    }
+
+    public static void clear() {
+        hint.remove();
+        primaryPinned.remove();
+    }
+}
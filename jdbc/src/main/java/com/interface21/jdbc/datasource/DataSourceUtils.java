@@ -18,16 +18,24 @@ public abstract class DataSourceUtils {
             return connection;
         }
 
+        final var metrics = ConnectionPoolMetrics.of(dataSource);
+        final var startNanos = metrics.beginBorrow();
         try {
             connection = dataSource.getConnection();
-            TransactionSynchronizationManager.bindResource(dataSource, connection);
+            metrics.borrowed(connection, startNanos);
             return connection;
         } catch (SQLException ex) {
+            metrics.borrowFailed(startNanos, ex);
             throw new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection", ex);
         }
     }
 
     public static void releaseConnection(Connection connection, DataSource dataSource) {
+        // 트랜잭션에 바인딩된 커넥션은 트랜잭션이 끝날 때 닫는다.
+        if (TransactionSynchronizationManager.getResource(dataSource) == connection) {
+            return;
+        }
+        ConnectionPoolMetrics.of(dataSource).released(connection);
         try {
             connection.close();
         } catch (SQLException ex) {
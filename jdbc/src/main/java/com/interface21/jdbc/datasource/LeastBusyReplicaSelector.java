@@ -0,0 +1,26 @@
+package com.interface21.jdbc.datasource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+public class LeastBusyReplicaSelector implements ReplicaSelector {
+
+    // 사용 중인 커넥션 수가 같으면 항상 첫 번째 replica 로 몰리지 않도록 탐색 시작 위치를 돌린다.
+    private final AtomicInteger offset = new AtomicInteger();
+
+    @Override
+    public int select(final int replicaCount, final IntUnaryOperator inFlightConnections) {
+        final var start = Math.floorMod(offset.getAndIncrement(), replicaCount);
+        var selected = start;
+        var minimum = Integer.MAX_VALUE;
+        for (int i = 0; i < replicaCount; i++) {
+            final var index = (start + i) % replicaCount;
+            final var inFlight = inFlightConnections.applyAsInt(index);
+            if (inFlight < minimum) {
+                minimum = inFlight;
+                selected = index;
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,16 @@
+package com.interface21.jdbc.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LoggingConnectionPoolMetricsExporter implements ConnectionPoolMetricsExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingConnectionPoolMetricsExporter.class);
+
+    @Override
+    public void export(final ConnectionPoolMetrics.Snapshot snapshot) {
+        log.info("pool : {}, active : {}, idle : {}, pending : {}, timeouts : {}, failures : {}, borrow wait : [{}], hold : [{}]",
+                snapshot.name(), snapshot.active(), snapshot.idle(), snapshot.pending(),
+                snapshot.timeouts(), snapshot.failures(), snapshot.borrowWait(), snapshot.hold());
+    }
+}
@@ -0,0 +1,142 @@
+package com.interface21.jdbc.datasource;
+
+import com.interface21.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.logging.Logger;
+
+/**
+ * 커넥션을 얻는 시점에 primary 와 replica 중 하나를 고른다.
+ * read-only 트랜잭션이거나 {@link RoutingHint#REPLICA} 힌트가 있으면 replica 로,
+ * 그 외의 경우나 같은 요청에서 이미 쓰기가 일어났다면 primary 로 보낸다.
+ */
+public class ReadWriteRoutingDataSource implements DataSource {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReplicaSelector replicaSelector;
+    private final AtomicIntegerArray inFlight;
+
+    public ReadWriteRoutingDataSource(final DataSource primary, final List<DataSource> replicas) {
+        this(primary, replicas, new RoundRobinReplicaSelector());
+    }
+
+    public ReadWriteRoutingDataSource(final DataSource primary, final List<DataSource> replicas,
+                                      final ReplicaSelector replicaSelector) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.replicaSelector = replicaSelector;
+        this.inFlight = new AtomicIntegerArray(this.replicas.size());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!routeToReplica()) {
+            return primary.getConnection();
+        }
+        final var index = replicaSelector.select(replicas.size(), inFlight::get);
+        inFlight.incrementAndGet(index);
+        try {
+            return trackClose(replicas.get(index).getConnection(), index);
+        } catch (SQLException | RuntimeException e) {
+            inFlight.decrementAndGet(index);
+            throw e;
+        }
+    }
+
+    private boolean routeToReplica() {
+        if (replicas.isEmpty() || DataSourceRoutingContext.isPrimaryPinned()) {
+            return false;
+        }
+        final var hint = DataSourceRoutingContext.getHint();
+        if (hint != null) {
+            return hint == RoutingHint.REPLICA;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    public int getInFlightConnections(final int replicaIndex) {
+        return inFlight.get(replicaIndex);
+    }
+
+    // least-busy 선택을 위해 replica 커넥션이 닫힐 때 사용 중 개수를 줄인다.
+    private Connection trackClose(final Connection target, final int index) {
+        final var closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            if (closed.compareAndSet(false, true)) {
+                                inFlight.decrementAndGet(index);
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("ReadWriteRoutingDataSource does not support per-user connections");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(final int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+        for (final var replica : replicas) {
+            replica.setLoginTimeout(seconds);
+        }
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,8 @@
+package com.interface21.jdbc.datasource;
+
+import java.util.function.IntUnaryOperator;
+
+@FunctionalInterface
+public interface ReplicaSelector {
+    int select(final int replicaCount, final IntUnaryOperator inFlightConnections);
+}
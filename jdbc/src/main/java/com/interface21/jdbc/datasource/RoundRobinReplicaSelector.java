@@ -0,0 +1,14 @@
+package com.interface21.jdbc.datasource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+public class RoundRobinReplicaSelector implements ReplicaSelector {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public int select(final int replicaCount, final IntUnaryOperator inFlightConnections) {
+        return Math.floorMod(counter.getAndIncrement(), replicaCount);
+    }
+}
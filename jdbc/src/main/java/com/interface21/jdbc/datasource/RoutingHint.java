@@ -0,0 +1,5 @@
+package com.interface21.jdbc.datasource;
+
+public enum RoutingHint {
+    PRIMARY, REPLICA
+}
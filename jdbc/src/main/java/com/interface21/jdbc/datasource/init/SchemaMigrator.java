@@ -0,0 +1,286 @@
+package com.interface21.jdbc.datasource.init;
+
+import com.interface21.jdbc.datasource.DataSourceUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * 클래스패스의 V{version}__{설명}.sql 스크립트를 버전 순서대로 적용하고, 적용한 스크립트를 이력 테이블에 남긴다.
+ * 이미 적용한 스크립트는 건너뛰므로 여러 번 실행해도 결과가 같다.
+ * 같은 버전의 스크립트는 서로 독립적이라고 보고 병렬로 실행하며, 다음 버전은 앞 버전이 모두 끝난 뒤에 시작한다.
+ * 한 JVM 안에서의 동시 실행만 막으므로 여러 인스턴스가 동시에 기동하는 환경에서는 한 곳에서만 실행해야 한다.
+ */
+public class SchemaMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__[\\w.-]+\\.sql");
+    private static final String DEFAULT_HISTORY_TABLE = "schema_history";
+    private static final int BATCH_SIZE = 100;
+
+    private final DataSource dataSource;
+    private final String historyTable;
+    private final int parallelism;
+    private final ClassLoader classLoader;
+
+    public SchemaMigrator(final DataSource dataSource) {
+        this(dataSource, DEFAULT_HISTORY_TABLE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public SchemaMigrator(final DataSource dataSource, final String historyTable, final int parallelism) {
+        this.dataSource = dataSource;
+        this.historyTable = historyTable;
+        this.parallelism = Math.max(parallelism, 1);
+        // 병렬 실행 스레드의 context ClassLoader 는 다를 수 있으므로 생성 시점의 것을 쓴다.
+        final var contextClassLoader = Thread.currentThread().getContextClassLoader();
+        this.classLoader = contextClassLoader != null ? contextClassLoader : SchemaMigrator.class.getClassLoader();
+    }
+
+    /**
+     * @param locations 클래스패스 기준 스크립트 경로. 파일 이름은 V1__create_users.sql 형식이어야 한다.
+     * @return 이번에 새로 적용한 스크립트 수
+     */
+    public synchronized int migrate(final String... locations) {
+        final var scriptsByVersion = groupByVersion(locations);
+        createHistoryTableIfNotExists();
+        final var applied = findAppliedChecksums();
+
+        final var count = new AtomicInteger();
+        ExecutorService executor = null;
+        try {
+            for (final var scripts : scriptsByVersion.values()) {
+                final var pending = scripts.stream()
+                        .filter(script -> !isApplied(script, applied))
+                        .toList();
+                if (pending.size() > 1 && executor == null) {
+                    executor = newExecutor();
+                }
+                applyAll(pending, executor);
+                count.addAndGet(pending.size());
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+        log.info("schema migration finished. applied : {}, skipped : {}", count.get(), locations.length - count.get());
+        return count.get();
+    }
+
+    private TreeMap<Long, List<Script>> groupByVersion(final String[] locations) {
+        final var scriptsByVersion = new TreeMap<Long, List<Script>>();
+        for (final var location : locations) {
+            final var script = Script.of(location);
+            scriptsByVersion.computeIfAbsent(script.version(), version -> new ArrayList<>()).add(script);
+        }
+        scriptsByVersion.values().forEach(scripts -> scripts.sort(Comparator.comparing(Script::name)));
+        return scriptsByVersion;
+    }
+
+    private boolean isApplied(final Script script, final Map<String, Long> applied) {
+        final var checksum = applied.get(script.name());
+        if (checksum == null) {
+            return false;
+        }
+        if (checksum != checksum(script)) {
+            log.warn("applied script has been modified. it will not be applied again : {}", script.location());
+        }
+        return true;
+    }
+
+    private void applyAll(final List<Script> scripts, final ExecutorService executor) {
+        if (scripts.size() == 1) {
+            apply(scripts.get(0));
+            return;
+        }
+        final var futures = scripts.stream()
+                .map(script -> CompletableFuture.runAsync(() -> apply(script), executor))
+                .toList();
+        ScriptException failure = null;
+        for (final var future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                final var cause = e.getCause() instanceof ScriptException scriptException
+                        ? scriptException
+                        : new ScriptException(e.getCause().getMessage(), e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void apply(final Script script) {
+        final var start = System.nanoTime();
+        final var connection = DataSourceUtils.getConnection(dataSource);
+        try (final var in = new CheckedInputStream(open(script), new CRC32());
+             final var statement = connection.createStatement()) {
+            final var batch = new ArrayList<String>(BATCH_SIZE);
+            final var executed = new AtomicInteger();
+            ScriptUtils.splitSqlScript(new InputStreamReader(in, StandardCharsets.UTF_8), sql -> {
+                statement.addBatch(sql);
+                batch.add(sql);
+                if (batch.size() >= BATCH_SIZE) {
+                    executeBatch(statement, batch, script, executed);
+                }
+            });
+            executeBatch(statement, batch, script, executed);
+
+            final var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            insertHistory(connection, script, in.getChecksum().getValue(), elapsedMillis);
+            log.info("applied {} ({} statements, {}ms)", script.location(), executed.get(), elapsedMillis);
+        } catch (IOException e) {
+            throw new ScriptException("Failed to read script : " + script.location(), e);
+        } catch (SQLException e) {
+            throw new ScriptException("Failed to apply script : " + script.location() + " : " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void executeBatch(final Statement statement, final List<String> batch, final Script script,
+                              final AtomicInteger executed) throws SQLException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            statement.executeBatch();
+        } catch (BatchUpdateException e) {
+            final var failedIndex = failedIndex(e.getUpdateCounts(), batch.size());
+            throw new ScriptException("Failed to execute statement #" + (executed.get() + failedIndex + 1)
+                    + " of " + script.location() + " : " + batch.get(failedIndex), e);
+        }
+        executed.addAndGet(batch.size());
+        batch.clear();
+    }
+
+    // 실패한 뒤에도 계속 실행하는 드라이버는 EXECUTE_FAILED 를 표시하고, 첫 실패에서 멈추는 드라이버는 성공한 개수만 돌려준다.
+    private static int failedIndex(final int[] updateCounts, final int batchSize) {
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                return i;
+            }
+        }
+        return Math.min(updateCounts.length, batchSize - 1);
+    }
+
+    private void insertHistory(final Connection connection, final Script script, final long checksum,
+                               final long executionMillis) throws SQLException {
+        final var sql = "insert into " + historyTable
+                + " (script, version, checksum, execution_ms, applied_at) values (?, ?, ?, ?, ?)";
+        try (final var pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, script.name());
+            pstmt.setLong(2, script.version());
+            pstmt.setLong(3, checksum);
+            pstmt.setLong(4, executionMillis);
+            pstmt.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+            pstmt.executeUpdate();
+        }
+    }
+
+    private void createHistoryTableIfNotExists() {
+        final var sql = "create table if not exists " + historyTable + " ("
+                + "script varchar(255) not null, "
+                + "version bigint not null, "
+                + "checksum bigint not null, "
+                + "execution_ms bigint not null, "
+                + "applied_at timestamp not null, "
+                + "primary key (script))";
+        final var connection = DataSourceUtils.getConnection(dataSource);
+        try (final var statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new ScriptException("Failed to create schema history table : " + historyTable, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private Map<String, Long> findAppliedChecksums() {
+        final var applied = new HashMap<String, Long>();
+        final var connection = DataSourceUtils.getConnection(dataSource);
+        try (final var statement = connection.createStatement();
+             final var rs = statement.executeQuery("select script, checksum from " + historyTable)) {
+            while (rs.next()) {
+                applied.put(rs.getString("script"), rs.getLong("checksum"));
+            }
+            return applied;
+        } catch (SQLException e) {
+            throw new ScriptException("Failed to read schema history table : " + historyTable, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private long checksum(final Script script) {
+        try (final var in = new CheckedInputStream(open(script), new CRC32())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.getChecksum().getValue();
+        } catch (IOException e) {
+            throw new ScriptException("Failed to read script : " + script.location(), e);
+        }
+    }
+
+    private InputStream open(final Script script) {
+        final var in = classLoader.getResourceAsStream(script.location());
+        if (in == null) {
+            throw new ScriptException("Script not found in classpath : " + script.location());
+        }
+        return in;
+    }
+
+    private ExecutorService newExecutor() {
+        final var sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            final var thread = new Thread(runnable, "schema-migrator-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record Script(String location, String name, long version) {
+
+        private static Script of(final String location) {
+            final var name = location.substring(location.lastIndexOf('/') + 1);
+            final var matcher = SCRIPT_NAME.matcher(name);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Script name must look like V1__description.sql : " + location);
+            }
+            return new Script(location, name, Long.parseLong(matcher.group(1)));
+        }
+    }
+}
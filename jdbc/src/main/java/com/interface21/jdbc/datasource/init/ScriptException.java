@@ -0,0 +1,16 @@
+package com.interface21.jdbc.datasource.init;
+
+import com.interface21.dao.DataAccessException;
+
+public class ScriptException extends DataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ScriptException(final String message) {
+        super(message);
+    }
+
+    public ScriptException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
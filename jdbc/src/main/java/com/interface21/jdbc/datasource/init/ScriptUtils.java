@@ -0,0 +1,93 @@
+package com.interface21.jdbc.datasource.init;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.SQLException;
+
+/**
+ * SQL 스크립트를 한 글자씩 읽으며 ; 단위의 문장으로 나눈다. 스크립트 전체를 메모리에 올리지 않는다.
+ * 따옴표 안의 ; 는 문장의 끝으로 보지 않고, -- 한 줄 주석과 블록 주석은 제거한다.
+ */
+public abstract class ScriptUtils {
+
+    private static final char DELIMITER = ';';
+
+    private ScriptUtils() {}
+
+    public static void splitSqlScript(final Reader reader, final StatementHandler handler) throws IOException, SQLException {
+        final var in = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+        final var statement = new StringBuilder();
+        var quote = 0;
+        int c;
+        while ((c = in.read()) != -1) {
+            if (quote != 0) {
+                statement.append((char) c);
+                if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+                statement.append((char) c);
+                continue;
+            }
+            if (c == '-' && peek(in) == '-') {
+                skipLine(in);
+                statement.append('\n');
+                continue;
+            }
+            if (c == '/' && peek(in) == '*') {
+                skipBlockComment(in);
+                statement.append(' ');
+                continue;
+            }
+            if (c == DELIMITER) {
+                emit(statement, handler);
+                continue;
+            }
+            statement.append((char) c);
+        }
+        emit(statement, handler);
+    }
+
+    private static int peek(final BufferedReader in) throws IOException {
+        in.mark(1);
+        final var next = in.read();
+        in.reset();
+        return next;
+    }
+
+    private static void skipLine(final BufferedReader in) throws IOException {
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            // 줄 끝까지 버린다.
+        }
+    }
+
+    private static void skipBlockComment(final BufferedReader in) throws IOException {
+        in.read();
+        int previous = -1;
+        int c;
+        while ((c = in.read()) != -1) {
+            if (previous == '*' && c == '/') {
+                return;
+            }
+            previous = c;
+        }
+    }
+
+    private static void emit(final StringBuilder statement, final StatementHandler handler) throws SQLException {
+        final var sql = statement.toString().strip();
+        statement.setLength(0);
+        if (!sql.isEmpty()) {
+            handler.handle(sql);
+        }
+    }
+
+    @FunctionalInterface
+    public interface StatementHandler {
+        void handle(final String sql) throws SQLException;
+    }
+}
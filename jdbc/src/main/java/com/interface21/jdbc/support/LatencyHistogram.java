@@ -0,0 +1,89 @@
+package com.interface21.jdbc.support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 없이 기록하는 지연 시간 히스토그램.
+ * 마이크로초 단위로 2의 거듭제곱 구간에 누적하므로 백분위 값은 구간의 상한(최대 2배 오차)으로 근사한다.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = Long.SIZE + 1;
+    private static final long NANOS_PER_MICRO = 1_000L;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+
+    public void record(final long nanos) {
+        final var value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketOf(value / NANOS_PER_MICRO));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public Snapshot snapshot() {
+        final var counts = new long[BUCKET_COUNT];
+        var total = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        final var maxNanos = max.get();
+        final var mean = total == 0 ? 0L : sum.sum() / total;
+        return new Snapshot(total, mean,
+                percentile(counts, total, 0.50, maxNanos),
+                percentile(counts, total, 0.99, maxNanos),
+                maxNanos);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    private static int bucketOf(final long micros) {
+        return Long.SIZE - Long.numberOfLeadingZeros(micros);
+    }
+
+    private static long percentile(final long[] counts, final long total, final double quantile, final long maxNanos) {
+        if (total == 0) {
+            return 0L;
+        }
+        final var rank = (long) Math.ceil(total * quantile);
+        var seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundNanos(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    private static long upperBoundNanos(final int bucket) {
+        if (bucket >= Long.SIZE - 10) {
+            return Long.MAX_VALUE;
+        }
+        return (1L << bucket) * NANOS_PER_MICRO;
+    }
+
+    public record Snapshot(long count, long meanNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+
+        @Override
+        public String toString() {
+            return "count=" + count
+                    + ", mean=" + toMillis(meanNanos) + "ms"
+                    + ", p50=" + toMillis(p50Nanos) + "ms"
+                    + ", p99=" + toMillis(p99Nanos) + "ms"
+                    + ", max=" + toMillis(maxNanos) + "ms";
+        }
+
+        private static String toMillis(final long nanos) {
+            return String.format("%.3f", nanos / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.interface21.jdbc.support;
+
+import com.interface21.dao.CannotAcquireLockException;
+import com.interface21.dao.DataAccessException;
+import com.interface21.dao.DataAccessResourceFailureException;
+import com.interface21.dao.DataIntegrityViolationException;
+import com.interface21.dao.DeadlockLoserDataAccessException;
+import com.interface21.dao.DuplicateKeyException;
+import com.interface21.dao.QueryTimeoutException;
+import com.interface21.dao.TransientDataAccessResourceException;
+import com.interface21.jdbc.BadSqlGrammarException;
+
+import java.sql.SQLException;
+
+enum SQLErrorCategory {
+
+    BAD_SQL_GRAMMAR {
+        @Override
+        DataAccessException create(final String task, final String sql, final SQLException ex) {
+            return new BadSqlGrammarException(task, sql, ex);
+        }
+    },
+    DUPLICATE_KEY {
+        @Override
+        DataAccessException create(final String task, final String sql, final SQLException ex) {
+            return new DuplicateKeyException(message(task, sql, ex), ex);
+        }
+    },
+    DATA_INTEGRITY_VIOLATION {
+        @Override
+        DataAccessException create(final String task, final String sql, final SQLException ex) {
+            return new DataIntegrityViolationException(message(task, sql, ex), ex);
+        }
+    },
+    CANNOT_ACQUIRE_LOCK {
+        @Override
+        DataAccessException create(final String task, final String sql, final SQLException ex) {
+            return new CannotAcquireLockException(message(task, sql, ex), ex);
+        }
+    },
+    DEADLOCK_LOSER {
+        @Override
+        DataAccessException create(final String task, final String sql, final SQLException ex) {
+            return new DeadlockLoserDataAccessException(message(task, sql, ex), ex);
+        }
+    },
+    QUERY_TIMEOUT {
+        @Override
+        DataAccessException create(final String task, final String sql, final SQLException ex) {
+            return new QueryTimeoutException(message(task, sql, ex), ex);
+        }
+    },
+    TRANSIENT_RESOURCE {
+        @Override
+        DataAccessException create(final String task, final String sql, final SQLException ex) {
+            return new TransientDataAccessResourceException(message(task, sql, ex), ex);
+        }
+    },
+    RESOURCE_FAILURE {
+        @Override
+        DataAccessException create(final String task, final String sql, final SQLException ex) {
+            return new DataAccessResourceFailureException(message(task, sql, ex), ex);
+        }
+    };
+
+    abstract DataAccessException create(final String task, final String sql, final SQLException ex);
+
+    static String message(final String task, final String sql, final SQLException ex) {
+        if (sql == null) {
+            return task + "; " + ex.getMessage();
+        }
+        return task + "; SQL [" + sql + "]; " + ex.getMessage();
+    }
+}
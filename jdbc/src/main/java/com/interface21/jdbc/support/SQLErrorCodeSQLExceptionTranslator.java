@@ -0,0 +1,58 @@
+package com.interface21.jdbc.support;
+
+import com.interface21.dao.DataAccessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * vendor error code 로 먼저 분류하고, 모르는 코드는 SQLState 로 분류한다.
+ * DataSource 마다 한 번만 데이터베이스 종류를 확인해 조회 테이블을 캐싱한다.
+ */
+public class SQLErrorCodeSQLExceptionTranslator implements SQLExceptionTranslator {
+
+    private static final Logger log = LoggerFactory.getLogger(SQLErrorCodeSQLExceptionTranslator.class);
+
+    private static final Map<DataSource, SQLErrorCodeSQLExceptionTranslator> translators = new ConcurrentHashMap<>();
+
+    private final SQLErrorCodes sqlErrorCodes;
+    private final SQLStateSQLExceptionTranslator fallback = new SQLStateSQLExceptionTranslator();
+
+    public SQLErrorCodeSQLExceptionTranslator(final SQLErrorCodes sqlErrorCodes) {
+        this.sqlErrorCodes = sqlErrorCodes;
+    }
+
+    public static SQLErrorCodeSQLExceptionTranslator of(final DataSource dataSource, final Connection connection) {
+        return translators.computeIfAbsent(dataSource, key -> new SQLErrorCodeSQLExceptionTranslator(
+                SQLErrorCodes.forDatabase(databaseProductName(connection))));
+    }
+
+    private static String databaseProductName(final Connection connection) {
+        try {
+            final var metaData = connection.getMetaData();
+            return metaData == null ? null : metaData.getDatabaseProductName();
+        } catch (SQLException e) {
+            log.debug("failed to read database product name : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public DataAccessException translate(final String task, final String sql, final SQLException ex) {
+        // 드라이버가 BatchUpdateException 등으로 감싼 경우 원인 예외의 코드를 본다.
+        var current = ex;
+        while (current != null) {
+            final var category = sqlErrorCodes.categoryOf(current.getErrorCode());
+            if (category != null) {
+                return category.create(task, sql, ex);
+            }
+            current = current.getNextException();
+        }
+        return fallback.translate(task, sql, ex);
+    }
+}
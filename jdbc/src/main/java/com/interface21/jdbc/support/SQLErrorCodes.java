@@ -0,0 +1,76 @@
+package com.interface21.jdbc.support;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 데이터베이스별 vendor error code 를 {@link SQLErrorCategory} 로 바꾸는 조회 테이블.
+ * 코드는 Spring 의 sql-error-codes.xml 을 참고했다.
+ */
+public class SQLErrorCodes {
+
+    public static final SQLErrorCodes H2 = new Builder()
+            .add(SQLErrorCategory.BAD_SQL_GRAMMAR, 42000, 42001, 42101, 42102, 42103, 42104, 42111, 42112, 42121, 42122, 42132)
+            .add(SQLErrorCategory.DUPLICATE_KEY, 23001, 23505)
+            .add(SQLErrorCategory.DATA_INTEGRITY_VIOLATION, 22001, 22003, 22012, 22018, 22025, 23000, 23002, 23003, 23502, 23503, 23506, 23507, 23513)
+            .add(SQLErrorCategory.CANNOT_ACQUIRE_LOCK, 50200)
+            .add(SQLErrorCategory.DEADLOCK_LOSER, 40001)
+            .add(SQLErrorCategory.QUERY_TIMEOUT, 57014)
+            .add(SQLErrorCategory.TRANSIENT_RESOURCE, 90067, 90098, 90100, 90121, 90126)
+            .add(SQLErrorCategory.RESOURCE_FAILURE, 28000, 90013, 90046, 90117, 90146)
+            .build();
+
+    public static final SQLErrorCodes MYSQL = new Builder()
+            .add(SQLErrorCategory.BAD_SQL_GRAMMAR, 1054, 1064, 1146)
+            .add(SQLErrorCategory.DUPLICATE_KEY, 1062)
+            .add(SQLErrorCategory.DATA_INTEGRITY_VIOLATION, 630, 839, 840, 893, 1169, 1215, 1216, 1217, 1364, 1451, 1452, 1557)
+            .add(SQLErrorCategory.CANNOT_ACQUIRE_LOCK, 1205, 3572)
+            .add(SQLErrorCategory.DEADLOCK_LOSER, 1213)
+            .add(SQLErrorCategory.QUERY_TIMEOUT, 1317, 3024)
+            .add(SQLErrorCategory.TRANSIENT_RESOURCE, 1040, 1053, 2002, 2006, 2013)
+            .add(SQLErrorCategory.RESOURCE_FAILURE, 1044, 1045, 1049)
+            .build();
+
+    public static final SQLErrorCodes EMPTY = new Builder().build();
+
+    private final Map<Integer, SQLErrorCategory> categories;
+
+    private SQLErrorCodes(final Map<Integer, SQLErrorCategory> categories) {
+        this.categories = Map.copyOf(categories);
+    }
+
+    public static SQLErrorCodes forDatabase(final String databaseProductName) {
+        if (databaseProductName == null) {
+            return EMPTY;
+        }
+        final var name = databaseProductName.toLowerCase(Locale.ROOT);
+        if (name.contains("h2")) {
+            return H2;
+        }
+        if (name.contains("mysql") || name.contains("mariadb")) {
+            return MYSQL;
+        }
+        return EMPTY;
+    }
+
+    SQLErrorCategory categoryOf(final int errorCode) {
+        return categories.get(errorCode);
+    }
+
+    private static class Builder {
+
+        private final Map<Integer, SQLErrorCategory> categories = new HashMap<>();
+
+        private Builder add(final SQLErrorCategory category, final int... errorCodes) {
+            for (final var errorCode : errorCodes) {
+                categories.put(errorCode, category);
+            }
+            return this;
+        }
+
+        private SQLErrorCodes build() {
+            return new SQLErrorCodes(categories);
+        }
+    }
+}
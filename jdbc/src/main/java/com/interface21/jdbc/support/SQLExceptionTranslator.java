@@ -0,0 +1,10 @@
+package com.interface21.jdbc.support;
+
+import com.interface21.dao.DataAccessException;
+
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface SQLExceptionTranslator {
+    DataAccessException translate(final String task, final String sql, final SQLException ex);
+}
@@ -0,0 +1,70 @@
+package com.interface21.jdbc.support;
+
+import com.interface21.dao.DataAccessException;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * vendor error code 를 모를 때 JDBC 4 예외 타입과 SQLState 의 class(앞 두 글자)로 분류한다.
+ */
+public class SQLStateSQLExceptionTranslator implements SQLExceptionTranslator {
+
+    @Override
+    public DataAccessException translate(final String task, final String sql, final SQLException ex) {
+        final var category = categoryOf(ex);
+        if (category == null) {
+            return new DataAccessException(SQLErrorCategory.message(task, sql, ex), ex);
+        }
+        return category.create(task, sql, ex);
+    }
+
+    SQLErrorCategory categoryOf(final SQLException ex) {
+        if (ex instanceof SQLTimeoutException) {
+            return SQLErrorCategory.QUERY_TIMEOUT;
+        }
+        if (ex instanceof SQLTransactionRollbackException) {
+            return SQLErrorCategory.DEADLOCK_LOSER;
+        }
+        if (ex instanceof SQLNonTransientConnectionException) {
+            return SQLErrorCategory.RESOURCE_FAILURE;
+        }
+        if (ex instanceof SQLTransientConnectionException || ex instanceof SQLRecoverableException) {
+            return SQLErrorCategory.TRANSIENT_RESOURCE;
+        }
+        if (ex instanceof SQLIntegrityConstraintViolationException) {
+            return SQLErrorCategory.DATA_INTEGRITY_VIOLATION;
+        }
+        if (ex instanceof SQLSyntaxErrorException) {
+            return SQLErrorCategory.BAD_SQL_GRAMMAR;
+        }
+        return categoryOf(ex.getSQLState());
+    }
+
+    private SQLErrorCategory categoryOf(final String sqlState) {
+        if (sqlState == null || sqlState.length() < 2) {
+            return null;
+        }
+        if ("57014".equals(sqlState) || "HYT00".equals(sqlState) || "HYT01".equals(sqlState)) {
+            return SQLErrorCategory.QUERY_TIMEOUT;
+        }
+        // 연결 중 끊김이나 연결 시도 실패만 다시 시도할 만하다. 나머지 08 은 설정이나 권한 문제라 다시 해도 실패한다.
+        if ("08001".equals(sqlState) || "08S01".equals(sqlState)) {
+            return SQLErrorCategory.TRANSIENT_RESOURCE;
+        }
+        return switch (sqlState.substring(0, 2)) {
+            case "07", "21", "2A", "37", "42", "65" -> SQLErrorCategory.BAD_SQL_GRAMMAR;
+            case "01", "02", "22", "23", "27", "44" -> SQLErrorCategory.DATA_INTEGRITY_VIOLATION;
+            case "40", "61" -> SQLErrorCategory.DEADLOCK_LOSER;
+            case "08", "28" -> SQLErrorCategory.RESOURCE_FAILURE;
+            case "53", "54", "57", "58" -> SQLErrorCategory.TRANSIENT_RESOURCE;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.interface21.jdbc.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 정규화한 SQL 별 실행 통계. 항목 수가 maxEntries 를 넘으면 이후의 SQL 은 하나의 OTHER 항목에 합산한다.
+ */
+public class SqlStatistics {
+
+    public static final String OTHER = "(other)";
+
+    private static final int DEFAULT_MAX_ENTRIES = 500;
+    private static final SqlStatistics shared = new SqlStatistics(DEFAULT_MAX_ENTRIES);
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int maxEntries;
+    private final Map<String, Entry> byNormalizedSql = new ConcurrentHashMap<>();
+    private final Map<String, Entry> bySql = new ConcurrentHashMap<>();
+    private final Entry other = new Entry(OTHER);
+
+    public SqlStatistics(final int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public static SqlStatistics shared() {
+        return shared;
+    }
+
+    public static String normalize(final String sql) {
+        var normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PLACEHOLDER_LIST.matcher(normalized).replaceAll("?, ...");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    public void record(final String sql, final long executeNanos, final long fetchNanos, final long rows) {
+        entryOf(sql).record(executeNanos, fetchNanos, rows);
+    }
+
+    public void recordError(final String sql) {
+        entryOf(sql).errors.increment();
+    }
+
+    // 같은 SQL 문자열은 정규화 결과를 재사용하고, 새 문자열만 정규화한다.
+    private Entry entryOf(final String sql) {
+        final var cached = bySql.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        final var normalized = normalize(sql);
+        var entry = byNormalizedSql.get(normalized);
+        if (entry == null) {
+            if (byNormalizedSql.size() >= maxEntries) {
+                return other;
+            }
+            entry = byNormalizedSql.computeIfAbsent(normalized, Entry::new);
+        }
+        if (bySql.size() < maxEntries * 4) {
+            bySql.putIfAbsent(sql, entry);
+        }
+        return entry;
+    }
+
+    public List<Snapshot> snapshot() {
+        final var entries = new ArrayList<>(byNormalizedSql.values());
+        entries.add(other);
+        return entries.stream()
+                .map(Entry::snapshot)
+                .filter(snapshot -> snapshot.calls() > 0 || snapshot.errors() > 0)
+                .sorted(Comparator.comparingLong(Snapshot::totalExecuteNanos).reversed())
+                .toList();
+    }
+
+    public void clear() {
+        bySql.clear();
+        byNormalizedSql.clear();
+    }
+
+    private static class Entry {
+
+        private final String sql;
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalExecuteNanos = new LongAdder();
+        private final LatencyHistogram execute = new LatencyHistogram();
+        private final LatencyHistogram fetch = new LatencyHistogram();
+
+        private Entry(final String sql) {
+            this.sql = sql;
+        }
+
+        private void record(final long executeNanos, final long fetchNanos, final long rowCount) {
+            execute.record(executeNanos);
+            fetch.record(fetchNanos);
+            totalExecuteNanos.add(executeNanos);
+            rows.add(rowCount);
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(sql, execute.count(), errors.sum(), rows.sum(), totalExecuteNanos.sum(),
+                    execute.snapshot(), fetch.snapshot());
+        }
+    }
+
+    public record Snapshot(String sql, long calls, long errors, long rows, long totalExecuteNanos,
+                           LatencyHistogram.Snapshot execute, LatencyHistogram.Snapshot fetch) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.interface21.jdbc.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 마감 시각이 지나도 끝나지 않은 statement 를 {@link Statement#cancel()} 로 취소한다.
+ * setQueryTimeout 은 초 단위이고 드라이버에 따라 무시되기도 하므로 마감을 정확히 지키기 위해 함께 사용한다.
+ */
+public class StatementWatchdog {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementWatchdog.class);
+
+    private static final StatementWatchdog shared = new StatementWatchdog();
+
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    public StatementWatchdog() {
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final var thread = new Thread(runnable, "statement-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 대부분의 statement 는 마감 전에 끝나므로 취소된 작업이 큐에 쌓이지 않게 바로 제거한다.
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    public static StatementWatchdog shared() {
+        return shared;
+    }
+
+    /**
+     * timeoutNanos 뒤에 statement 를 취소하도록 예약한다. 실행이 끝나면 반환된 Watch 를 닫아야 한다.
+     */
+    public Watch watch(final Statement statement, final long timeoutNanos) {
+        final var watch = new Watch(statement);
+        watch.future = scheduler.schedule(watch::cancelStatement, timeoutNanos, TimeUnit.NANOSECONDS);
+        return watch;
+    }
+
+    public static class Watch implements AutoCloseable {
+
+        private static final int WATCHING = 0;
+        private static final int CLOSED = 1;
+        private static final int CANCELLED = 2;
+
+        private final Statement statement;
+        private final AtomicInteger state = new AtomicInteger(WATCHING);
+        private volatile ScheduledFuture<?> future;
+
+        private Watch(final Statement statement) {
+            this.statement = statement;
+        }
+
+        private void cancelStatement() {
+            if (!state.compareAndSet(WATCHING, CANCELLED)) {
+                return;
+            }
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                log.warn("failed to cancel statement after deadline", e);
+            }
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public void close() {
+            // 이미 취소가 시작되었다면 끝날 때까지 기다리지 않는다. statement 는 호출한 쪽에서 닫는다.
+            state.compareAndSet(WATCHING, CLOSED);
+            future.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.interface21.transaction;
+
+/**
+ * commit 처럼 결과를 확신할 수 없는 트랜잭션 인프라 실패. 재시도 대상이 아니다.
+ */
+public class TransactionSystemException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TransactionSystemException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.interface21.transaction.support;
+
+/**
+ * 트랜잭션이 끝난 뒤에 실행할 콜백. {@link TransactionSynchronizationManager#registerSynchronization} 으로 등록한다.
+ */
+public interface TransactionSynchronization {
+
+    int STATUS_COMMITTED = 0;
+    int STATUS_ROLLED_BACK = 1;
+
+    default void afterCommit() {}
+
+    default void afterCompletion(final int status) {}
+}
@@ -2,22 +2,99 @@ package com.interface21.transaction.support;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public abstract class TransactionSynchronizationManager {
 
     private static final ThreadLocal<Map<DataSource, Connection>> resources = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> currentTransactionReadOnly = new ThreadLocal<>();
+    private static final ThreadLocal<List<TransactionSynchronization>> synchronizations = new ThreadLocal<>();
 
     private TransactionSynchronizationManager() {}
 
     public static Connection getResource(DataSource key) {
-        return null;
+        final var map = resources.get();
+        if (map == null) {
+            return null;
+        }
+        return map.get(key);
     }
 
     public static void bindResource(DataSource key, Connection value) {
+        var map = resources.get();
+        if (map == null) {
+            map = new HashMap<>();
+            resources.set(map);
+        }
+        final var previous = map.putIfAbsent(key, value);
+        if (previous != null) {
+            throw new IllegalStateException("Already bound connection for DataSource " + key);
+        }
     }
 
     public static Connection unbindResource(DataSource key) {
-        return null;
+        final var map = resources.get();
+        if (map == null) {
+            return null;
+        }
+        final var connection = map.remove(key);
+        if (map.isEmpty()) {
+            resources.remove();
+        }
+        return connection;
+    }
+
+    public static void setCurrentTransactionReadOnly(boolean readOnly) {
+        if (readOnly) {
+            currentTransactionReadOnly.set(Boolean.TRUE);
+        } else {
+            currentTransactionReadOnly.remove();
+        }
+    }
+
+    public static boolean isCurrentTransactionReadOnly() {
+        return currentTransactionReadOnly.get() != null;
+    }
+
+    public static void initSynchronization() {
+        if (isSynchronizationActive()) {
+            throw new IllegalStateException("Transaction synchronization is already active");
+        }
+        synchronizations.set(new ArrayList<>());
+    }
+
+    public static boolean isSynchronizationActive() {
+        return synchronizations.get() != null;
+    }
+
+    public static void registerSynchronization(TransactionSynchronization synchronization) {
+        final var list = synchronizations.get();
+        if (list == null) {
+            throw new IllegalStateException("Transaction synchronization is not active");
+        }
+        list.add(synchronization);
+    }
+
+    public static List<TransactionSynchronization> getSynchronizations() {
+        final var list = synchronizations.get();
+        if (list == null) {
+            return List.of();
+        }
+        return List.copyOf(list);
+    }
+
+    /**
+     * 동기화를 끝내고 등록되어 있던 콜백 목록을 반환한다.
+     */
+    public static List<TransactionSynchronization> clearSynchronization() {
+        final var list = synchronizations.get();
+        synchronizations.remove();
+        if (list == null) {
+            return List.of();
+        }
+        return list;
     }
 }
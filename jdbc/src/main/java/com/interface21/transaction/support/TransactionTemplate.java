@@ -0,0 +1,161 @@
+package com.interface21.transaction.support;
+
+import com.interface21.dao.PessimisticLockingFailureException;
+import com.interface21.dao.support.RetryPolicy;
+import com.interface21.jdbc.datasource.DataSourceUtils;
+import com.interface21.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import com.interface21.transaction.TransactionSystemException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+public class TransactionTemplate {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionTemplate.class);
+
+    private final DataSource dataSource;
+    private final boolean readOnly;
+    private final RetryPolicy retryPolicy;
+
+    public TransactionTemplate(final DataSource dataSource) {
+        this(dataSource, false);
+    }
+
+    public TransactionTemplate(final DataSource dataSource, final boolean readOnly) {
+        this(dataSource, readOnly, RetryPolicy.NONE);
+    }
+
+    public TransactionTemplate(final DataSource dataSource, final boolean readOnly, final RetryPolicy retryPolicy) {
+        this.dataSource = dataSource;
+        this.readOnly = readOnly;
+        this.retryPolicy = retryPolicy;
+    }
+
+    public <T> T execute(final TransactionCallback<T> action) {
+        // 이미 진행 중인 트랜잭션이 있으면 그 트랜잭션에 참여한다. 재시도는 가장 바깥 트랜잭션에서만 한다.
+        if (TransactionSynchronizationManager.getResource(dataSource) != null) {
+            return action.doInTransaction();
+        }
+        // 재시도할 때마다 새 커넥션으로 작업 단위 전체를 다시 실행한다.
+        return retryPolicy.execute(() -> executeInNewTransaction(action));
+    }
+
+    public void executeWithoutResult(final Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T executeInNewTransaction(final TransactionCallback<T> action) {
+        // 라우팅 DataSource 가 커넥션을 고를 때 참고하도록 커넥션을 얻기 전에 read-only 여부를 바인딩한다.
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        final Connection connection;
+        try {
+            connection = DataSourceUtils.getConnection(dataSource);
+        } catch (RuntimeException e) {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            throw e;
+        }
+        TransactionSynchronizationManager.bindResource(dataSource, connection);
+        // 다른 DataSource 의 트랜잭션 안에서 시작했다면 동기화는 바깥 트랜잭션의 것이다.
+        // 등록된 콜백은 바깥 트랜잭션이 끝날 때 불리며, 여기서는 시작하지도 지우지도 않는다.
+        final var newSynchronization = !TransactionSynchronizationManager.isSynchronizationActive();
+        List<TransactionSynchronization> synchronizations = List.of();
+        final T result;
+        try {
+            if (newSynchronization) {
+                TransactionSynchronizationManager.initSynchronization();
+            }
+            begin(connection);
+            result = action.doInTransaction();
+            commit(connection);
+        } catch (RuntimeException | Error e) {
+            rollback(connection, e);
+            if (newSynchronization) {
+                triggerAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                        TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+            throw e;
+        } finally {
+            if (newSynchronization) {
+                synchronizations = TransactionSynchronizationManager.clearSynchronization();
+            }
+            TransactionSynchronizationManager.unbindResource(dataSource);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            reset(connection);
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        triggerAfterCommit(synchronizations);
+        return result;
+    }
+
+    // 이미 커밋된 뒤이므로 콜백이 실패해도 작업 결과에는 영향을 주지 않는다.
+    private void triggerAfterCommit(final List<TransactionSynchronization> synchronizations) {
+        for (final var synchronization : synchronizations) {
+            try {
+                synchronization.afterCommit();
+            } catch (RuntimeException e) {
+                log.error("afterCommit callback failed", e);
+            }
+        }
+        triggerAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private void triggerAfterCompletion(final List<TransactionSynchronization> synchronizations, final int status) {
+        for (final var synchronization : synchronizations) {
+            try {
+                synchronization.afterCompletion(status);
+            } catch (RuntimeException e) {
+                log.error("afterCompletion callback failed", e);
+            }
+        }
+    }
+
+    private void begin(final Connection connection) {
+        try {
+            connection.setAutoCommit(false);
+            if (readOnly) {
+                connection.setReadOnly(true);
+            }
+        } catch (SQLException e) {
+            throw SQLErrorCodeSQLExceptionTranslator.of(dataSource, connection)
+                    .translate("TransactionTemplate begin", null, e);
+        }
+    }
+
+    // commit 실패는 반영 여부를 알 수 없으므로, 롤백이 확실한 락 충돌만 재시도 가능한 예외로 던진다.
+    private void commit(final Connection connection) {
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            final var translated = SQLErrorCodeSQLExceptionTranslator.of(dataSource, connection)
+                    .translate("TransactionTemplate commit", null, e);
+            if (translated instanceof PessimisticLockingFailureException) {
+                throw translated;
+            }
+            throw new TransactionSystemException("JDBC commit failed", e);
+        }
+    }
+
+    private void rollback(final Connection connection, final Throwable cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void reset(final Connection connection) {
+        try {
+            connection.setAutoCommit(true);
+            if (readOnly) {
+                connection.setReadOnly(false);
+            }
+        } catch (SQLException ignored) {}
+    }
+}
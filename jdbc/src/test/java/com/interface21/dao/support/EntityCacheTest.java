@@ -0,0 +1,108 @@
+package com.interface21.dao.support;
+
+import com.interface21.transaction.support.TransactionTemplate;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityCacheTest {
+
+    private EntityCache entityCache;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        entityCache = new EntityCache(100, Duration.ofMinutes(1));
+        final var dataSource = new JdbcDataSource();
+        dataSource.setUrl("jdbc:h2:mem:entity-cache;DB_CLOSE_DELAY=-1");
+        transactionTemplate = new TransactionTemplate(dataSource);
+    }
+
+    @Test
+    void loadOnceAndRecordHitRate() {
+        final var loads = new AtomicInteger();
+
+        entityCache.getOrLoad(String.class, 1L, () -> "gugu" + loads.incrementAndGet());
+        final var cached = entityCache.getOrLoad(String.class, 1L, () -> "gugu" + loads.incrementAndGet());
+
+        assertThat(cached).isEqualTo("gugu1");
+        assertThat(loads).hasValue(1);
+        assertThat(entityCache.stats().hits()).isEqualTo(1);
+        assertThat(entityCache.stats().misses()).isEqualTo(1);
+        assertThat(entityCache.stats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void keyIncludesEntityType() {
+        entityCache.put(String.class, 1L, "gugu");
+
+        assertThat(entityCache.get(Integer.class, 1L)).isNull();
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        final var cache = new EntityCache(2, Duration.ZERO, 1);
+        cache.put(String.class, 1L, "a");
+        cache.put(String.class, 2L, "b");
+        cache.get(String.class, 1L);
+
+        cache.put(String.class, 3L, "c");
+
+        assertThat(cache.get(String.class, 2L)).isNull();
+        assertThat(cache.get(String.class, 1L)).isEqualTo("a");
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void expireAfterTtl() throws InterruptedException {
+        final var cache = new EntityCache(10, Duration.ofMillis(10));
+        cache.put(String.class, 1L, "gugu");
+
+        Thread.sleep(30);
+
+        assertThat(cache.get(String.class, 1L)).isNull();
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+    }
+
+    @Test
+    void publishWritesOnCommit() {
+        entityCache.put(String.class, 1L, "before");
+
+        transactionTemplate.executeWithoutResult(() -> {
+            entityCache.put(String.class, 1L, "after");
+
+            assertThat(entityCache.get(String.class, 1L)).isEqualTo("after");
+            assertThat(valueSeenByOtherThread(1L)).isNull();
+        });
+
+        assertThat(entityCache.get(String.class, 1L)).isEqualTo("after");
+    }
+
+    @Test
+    void discardWritesOnRollback() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(() -> {
+            entityCache.put(String.class, 1L, "uncommitted");
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(entityCache.get(String.class, 1L)).isNull();
+    }
+
+    private Object valueSeenByOtherThread(final Object id) {
+        final var result = new Object[1];
+        final var thread = new Thread(() -> result[0] = entityCache.get(String.class, id));
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result[0];
+    }
+}
@@ -0,0 +1,65 @@
+package com.interface21.dao.support;
+
+import com.interface21.dao.DataIntegrityViolationException;
+import com.interface21.dao.DeadlockLoserDataAccessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryPolicyTest {
+
+    private final RetryPolicy retryPolicy = new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(5));
+
+    @Test
+    void retryTransientFailure() {
+        final var attempts = new AtomicInteger();
+
+        final var result = retryPolicy.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new DeadlockLoserDataAccessException("deadlock");
+            }
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void giveUpAfterMaxAttempts() {
+        final var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryPolicy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new DeadlockLoserDataAccessException("deadlock");
+        })).isInstanceOf(DeadlockLoserDataAccessException.class);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void doNotRetryNonTransientFailure() {
+        final var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryPolicy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new DataIntegrityViolationException("not null");
+        })).isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void stopRetryingWhenBudgetIsExhausted() {
+        final var policy = new RetryPolicy(5, Duration.ZERO, Duration.ZERO, new RetryBudget(0, 2));
+        final var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> policy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new DeadlockLoserDataAccessException("deadlock");
+        })).isInstanceOf(DeadlockLoserDataAccessException.class);
+        assertThat(attempts).hasValue(3);
+    }
+}
@@ -0,0 +1,109 @@
+package com.interface21.jdbc.core;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkLoaderTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setUrl("jdbc:h2:mem:bulk;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("create table if not exists member (id bigint primary key, name varchar(100))");
+        jdbcTemplate.update("delete from member");
+    }
+
+    @Test
+    void loadRowsInBatches() {
+        final var progress = new ArrayList<Long>();
+        final var rows = LongStream.rangeClosed(1, 5)
+                .mapToObj(id -> new Object[]{id, "member" + id})
+                .iterator();
+
+        final var result = new BulkLoader(dataSource, 2)
+                .load("member", List.of("id", "name"), rows, (loaded, rowsPerSecond) -> progress.add(loaded));
+
+        assertThat(result.mode()).isEqualTo(BulkLoader.Mode.BATCH);
+        assertThat(result.rows()).isEqualTo(5);
+        assertThat(progress).containsExactly(2L, 4L, 5L);
+        assertThat(count()).isEqualTo(5);
+    }
+
+    @Test
+    void loadCsvWithCsvRead() {
+        final var csv = "1,gugu\n2,\"comma, and \"\"quote\"\"\"\n3,jinu\n";
+
+        final var result = new BulkLoader(dataSource)
+                .loadCsv("member", List.of("id", "name"), new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.mode()).isEqualTo(BulkLoader.Mode.H2_CSVREAD);
+        assertThat(result.rows()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select name from member where id = 2", rs -> rs.getString(1)))
+                .isEqualTo("comma, and \"quote\"");
+    }
+
+    @Test
+    void loadCsvFromStreamWhenH2IsRemote() throws SQLException {
+        final var server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        try {
+            final var remote = new JdbcDataSource();
+            remote.setUrl("jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:bulk-remote");
+            new JdbcTemplate(remote).update("create table member (id bigint primary key, name varchar(100))");
+            final var csv = "1,gugu\n2,\"multi\nline\"\n3,\n";
+
+            final var result = new BulkLoader(remote, 2)
+                    .loadCsv("member", List.of("id", "name"), new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+            assertThat(result.mode()).isEqualTo(BulkLoader.Mode.BATCH);
+            assertThat(result.rows()).isEqualTo(3);
+            assertThat(new JdbcTemplate(remote).queryForObject("select name from member where id = 2", rs -> rs.getString(1)))
+                    .isEqualTo("multi\nline");
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void rollbackFailedBatch() {
+        final var rows = List.of(new Object[]{1L, "gugu"}, new Object[]{1L, "duplicate"}).iterator();
+
+        assertThatThrownBy(() -> new BulkLoader(dataSource).load("member", List.of("id", "name"), rows))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    void rejectInvalidIdentifier() {
+        assertThatThrownBy(() -> new BulkLoader(dataSource).load("member; drop table member", List.of("id"),
+                List.<Object[]>of().iterator()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void loadEmptyMySqlFieldAsNull() {
+        final var sql = BulkLoader.loadDataSql("member", List.of("id", "name"), Path.of("/tmp/member.csv"));
+
+        assertThat(sql).contains("(@c0, @c1) set id = nullif(@c0, ''), name = nullif(@c1, '')");
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("select count(*) from member", rs -> rs.getInt(1));
+    }
+}
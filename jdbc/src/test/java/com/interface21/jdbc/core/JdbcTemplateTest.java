@@ -1,5 +1,258 @@
 package com.interface21.jdbc.core;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.interface21.core.deadline.Deadline;
+import com.interface21.core.deadline.DeadlineContext;
+import com.interface21.dao.DataAccessException;
+import com.interface21.dao.QueryTimeoutException;
+import com.interface21.dao.support.RetryPolicy;
+import com.interface21.jdbc.support.SqlStatistics;
+import com.interface21.tracing.InMemorySpanExporter;
+import com.interface21.tracing.Sampler;
+import com.interface21.tracing.Tracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import example.dao.AccountDao;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 class JdbcTemplateTest {
 
+    private Connection connection;
+    private PreparedStatement pstmt;
+    private ResultSet rs;
+    private SqlStatistics sqlStatistics;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        final var dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        pstmt = mock(PreparedStatement.class);
+        rs = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(pstmt);
+        when(pstmt.executeQuery()).thenReturn(rs);
+
+        sqlStatistics = new SqlStatistics(10);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setSqlStatistics(sqlStatistics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DeadlineContext.restore(null);
+    }
+
+    @Test
+    void update() throws SQLException {
+        when(pstmt.executeUpdate()).thenReturn(1);
+
+        final var affected = jdbcTemplate.update("update users set password = ? where id = ?", "password", 1L);
+
+        assertThat(affected).isEqualTo(1);
+        verify(pstmt).setString(1, "password");
+        verify(pstmt).setLong(2, 1L);
+        verify(connection).close();
+    }
+
+    @Test
+    void query() throws SQLException {
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getString(1)).thenReturn("gugu", "hkkang");
+
+        final var accounts = jdbcTemplate.query("select account from users", resultSet -> resultSet.getString(1));
+
+        assertThat(accounts).containsExactly("gugu", "hkkang");
+        verify(rs).close();
+        verify(pstmt).close();
+    }
+
+    @Test
+    void queryForStreamReleasesConnectionAfterLastRow() throws SQLException {
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(pstmt);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getString(1)).thenReturn("gugu", "hkkang");
+        jdbcTemplate.setFetchSize(100);
+
+        final var accounts = jdbcTemplate.queryForStream("select account from users", resultSet -> resultSet.getString(1));
+
+        verify(connection, never()).close();
+        assertThat(accounts.toList()).containsExactly("gugu", "hkkang");
+        verify(pstmt).setFetchSize(100);
+        verify(rs).close();
+        verify(pstmt).close();
+        verify(connection).close();
+        assertThat(sqlStatistics.snapshot()).singleElement()
+                .satisfies(snapshot -> assertThat(snapshot.rows()).isEqualTo(2));
+    }
+
+    @Test
+    void closingQueryForStreamEarlyReleasesConnection() throws SQLException {
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(pstmt);
+        when(rs.next()).thenReturn(true);
+        when(rs.getString(1)).thenReturn("gugu");
+
+        try (final var accounts = jdbcTemplate.queryForStream("select account from users", resultSet -> resultSet.getString(1))) {
+            assertThat(accounts.limit(3).toList()).hasSize(3);
+        }
+
+        verify(rs).close();
+        verify(connection).close();
+    }
+
+    @Test
+    void queryForObjectReturnsNullWhenEmpty() throws SQLException {
+        when(rs.next()).thenReturn(false);
+
+        final var account = jdbcTemplate.queryForObject("select account from users where id = ?", resultSet -> resultSet.getString(1), 1L);
+
+        assertThat(account).isNull();
+    }
+
+    @Test
+    void queryForObjectThrowsWhenMoreThanOneRow() throws SQLException {
+        when(rs.next()).thenReturn(true, true, false);
+
+        assertThatThrownBy(() -> jdbcTemplate.queryForObject("select account from users", resultSet -> resultSet.getString(1)))
+                .isInstanceOf(DataAccessException.class);
+    }
+
+    @Test
+    void wrapSQLException() throws SQLException {
+        when(pstmt.executeUpdate()).thenThrow(new SQLException("syntax error"));
+
+        assertThatThrownBy(() -> jdbcTemplate.update("update users"))
+                .isInstanceOf(DataAccessException.class);
+        assertThat(sqlStatistics.snapshot()).singleElement()
+                .satisfies(snapshot -> assertThat(snapshot.errors()).isEqualTo(1));
+        verify(connection).close();
+    }
+
+    @Test
+    void recordStatisticsByNormalizedSql() throws SQLException {
+        when(rs.next()).thenReturn(true, false, true, false);
+        jdbcTemplate.setSlowQueryThreshold(Duration.ZERO);
+
+        jdbcTemplate.query("select * from users where id = 1", resultSet -> "row");
+        jdbcTemplate.query("select *  from users where id = 2", resultSet -> "row");
+
+        assertThat(sqlStatistics.snapshot()).singleElement()
+                .satisfies(snapshot -> {
+                    assertThat(snapshot.sql()).isEqualTo("select * from users where id = ?");
+                    assertThat(snapshot.calls()).isEqualTo(2);
+                    assertThat(snapshot.rows()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void recordStatementSpanInsideRequestSpan() throws SQLException {
+        final var exporter = new InMemorySpanExporter(10);
+        final var tracer = new Tracer(Sampler.ALWAYS, exporter);
+        jdbcTemplate.setTracer(tracer);
+        when(pstmt.executeUpdate()).thenThrow(new SQLException("syntax error"));
+
+        try (final var request = tracer.startSpan("request", null)) {
+            assertThatThrownBy(() -> jdbcTemplate.update("update users set password = 'secret'"))
+                    .isInstanceOf(DataAccessException.class);
+        }
+
+        assertThat(exporter.getSpans()).hasSize(2).first()
+                .satisfies(span -> {
+                    assertThat(span.name()).isEqualTo("jdbc.statement");
+                    assertThat(span.attributes()).containsEntry("db.statement", "update users set password = ?");
+                    assertThat(span.error()).isNotNull();
+                });
+    }
+
+    @Test
+    void slowQueryLogNamesCallingDaoThroughRetryPolicy() throws SQLException {
+        when(rs.next()).thenReturn(false);
+        jdbcTemplate.setSlowQueryThreshold(Duration.ZERO);
+        jdbcTemplate.setRetryPolicy(new RetryPolicy(3, Duration.ZERO, Duration.ZERO));
+        final var logger = (Logger) LoggerFactory.getLogger(JdbcTemplate.class);
+        final var appender = new ListAppender<ILoggingEvent>();
+        appender.start();
+        logger.addAppender(appender);
+
+        try {
+            new AccountDao(jdbcTemplate).findAccounts();
+        } finally {
+            logger.detachAppender(appender);
+        }
+
+        assertThat(appender.list)
+                .filteredOn(event -> event.getMessage().startsWith("slow query"))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getArgumentArray()[6].toString())
+                        .startsWith(AccountDao.class.getName() + ".findAccounts:"));
+    }
+
+    @Test
+    void failFastWhenDeadlineExpired() throws SQLException {
+        DeadlineContext.set(Deadline.after(Duration.ZERO));
+
+        assertThatThrownBy(() -> jdbcTemplate.query("select account from users", rs -> rs.getString(1)))
+                .isInstanceOf(QueryTimeoutException.class);
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    void applyRemainingDeadlineAsQueryTimeout() throws SQLException {
+        jdbcTemplate.setQueryTimeout(Duration.ofSeconds(30));
+        DeadlineContext.set(Deadline.after(Duration.ofMillis(2500)));
+
+        jdbcTemplate.query("select account from users", rs -> rs.getString(1));
+
+        verify(pstmt).setQueryTimeout(3);
+    }
+
+    @Test
+    void applyDefaultQueryTimeoutWithoutDeadline() throws SQLException {
+        jdbcTemplate.setQueryTimeout(Duration.ofSeconds(5));
+
+        jdbcTemplate.query("select account from users", rs -> rs.getString(1));
+
+        verify(pstmt).setQueryTimeout(5);
+    }
+
+    @Test
+    void cancelStatementAfterDeadline() throws SQLException {
+        final var cancelled = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            cancelled.countDown();
+            return null;
+        }).when(pstmt).cancel();
+        when(pstmt.executeQuery()).thenAnswer(invocation -> {
+            cancelled.await();
+            throw new SQLException("Statement was canceled", "HY008");
+        });
+        DeadlineContext.set(Deadline.after(Duration.ofMillis(50)));
+
+        assertThatThrownBy(() -> jdbcTemplate.query("select account from users", rs -> rs.getString(1)))
+                .isInstanceOf(QueryTimeoutException.class);
+        verify(pstmt).cancel();
+        verify(pstmt).setQueryTimeout(anyInt());
+        verify(connection).close();
+    }
 }
@@ -0,0 +1,85 @@
+package com.interface21.jdbc.core;
+
+import com.interface21.jdbc.support.SqlStatistics;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultiRowInsertTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SqlStatistics sqlStatistics;
+
+    @BeforeEach
+    void setUp() {
+        final var dataSource = new JdbcDataSource();
+        dataSource.setUrl("jdbc:h2:mem:multirow;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        sqlStatistics = new SqlStatistics(100);
+        jdbcTemplate.update("create table if not exists member (id bigint primary key, name varchar(100))");
+        jdbcTemplate.update("delete from member");
+        jdbcTemplate.setSqlStatistics(sqlStatistics);
+    }
+
+    @Test
+    void insertRowsInPowerOfTwoBuckets() {
+        final var multiRowInsert = new MultiRowInsert(jdbcTemplate, "member", List.of("id", "name"), 8, Long.MAX_VALUE);
+
+        final var inserted = multiRowInsert.insert(rows(11));
+
+        assertThat(inserted).isEqualTo(11);
+        assertThat(count()).isEqualTo(11);
+        // 4 + 4 + 2 + 1
+        assertThat(statements()).isEqualTo(4);
+    }
+
+    @Test
+    void splitByPacketSize() {
+        final var multiRowInsert = new MultiRowInsert(jdbcTemplate, "member", List.of("id", "name"), 1_000, 200);
+
+        multiRowInsert.insert(rows(6));
+
+        assertThat(count()).isEqualTo(6);
+        assertThat(statements()).isGreaterThan(1);
+    }
+
+    @Test
+    void cacheSqlPerBucket() {
+        final var multiRowInsert = new MultiRowInsert(jdbcTemplate, "member", List.of("id", "name"));
+
+        assertThat(multiRowInsert.sqlFor(2)).isEqualTo("insert into member (id, name) values (?, ?), (?, ?)");
+        assertThat(multiRowInsert.sqlFor(4)).isSameAs(multiRowInsert.sqlFor(4));
+    }
+
+    @Test
+    void rejectRowWithWrongColumnCount() {
+        final var multiRowInsert = new MultiRowInsert(jdbcTemplate, "member", List.of("id", "name"));
+        final List<Object[]> rows = List.of(new Object[]{1L});
+
+        assertThatThrownBy(() -> multiRowInsert.insert(rows))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Object[]> rows(final int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new Object[]{id, "member" + id})
+                .toList();
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("select count(*) from member", rs -> rs.getInt(1));
+    }
+
+    private long statements() {
+        return sqlStatistics.snapshot().stream()
+                .filter(snapshot -> snapshot.sql().startsWith("insert into member"))
+                .mapToLong(SqlStatistics.Snapshot::calls)
+                .sum();
+    }
+}
@@ -0,0 +1,68 @@
+package com.interface21.jdbc.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ParameterBindersTest {
+
+    private final PreparedStatement pstmt = mock(PreparedStatement.class);
+
+    @Test
+    void bindByRuntimeType() throws SQLException {
+        final var createdAt = LocalDateTime.of(2024, 10, 1, 12, 30);
+
+        ParameterBinders.bind(pstmt, 1, 1L);
+        ParameterBinders.bind(pstmt, 2, 7);
+        ParameterBinders.bind(pstmt, 3, "gugu");
+        ParameterBinders.bind(pstmt, 4, createdAt);
+        ParameterBinders.bind(pstmt, 5, BigDecimal.TEN);
+        ParameterBinders.bind(pstmt, 6, false);
+
+        verify(pstmt).setLong(1, 1L);
+        verify(pstmt).setInt(2, 7);
+        verify(pstmt).setString(3, "gugu");
+        verify(pstmt).setTimestamp(4, Timestamp.valueOf(createdAt));
+        verify(pstmt).setBigDecimal(5, BigDecimal.TEN);
+        verify(pstmt).setBoolean(6, false);
+    }
+
+    @Test
+    void bindNull() throws SQLException {
+        ParameterBinders.bind(pstmt, 1, null);
+
+        verify(pstmt).setNull(1, Types.NULL);
+    }
+
+    @Test
+    void bindEnumByName() throws SQLException {
+        ParameterBinders.bind(pstmt, 1, Thread.State.RUNNABLE);
+
+        verify(pstmt).setString(1, "RUNNABLE");
+    }
+
+    @Test
+    void fallbackToSetObject() throws SQLException {
+        final var uuid = UUID.randomUUID();
+
+        ParameterBinders.bind(pstmt, 1, uuid);
+
+        verify(pstmt).setObject(1, uuid);
+    }
+
+    @Test
+    void primitiveAndWrapperShareBinder() {
+        assertThat(ParameterBinders.forType(long.class)).isSameAs(ParameterBinders.forType(Long.class));
+        assertThat(ParameterBinders.forType(String.class)).isSameAs(ParameterBinders.forType(String.class));
+    }
+}
@@ -0,0 +1,77 @@
+package com.interface21.jdbc.core.namedparam;
+
+import com.interface21.jdbc.core.JdbcTemplate;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NamedParameterJdbcTemplateTest {
+
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        final var dataSource = new JdbcDataSource();
+        dataSource.setUrl("jdbc:h2:mem:namedparam;DB_CLOSE_DELAY=-1");
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("create table if not exists member (id bigint primary key, name varchar(20))");
+        jdbcTemplate.update("delete from member");
+        namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Test
+    void parseSkipsLiteralsCommentsAndCasts() {
+        final var parsedSql = ParsedSql.parse(
+                "select ':x', \":y\" from t -- :z\n where a = :a /* :b */ and c = :c::int and d in (:ids)");
+
+        assertThat(parsedSql.getParameterNames()).containsExactly("a", "c", "ids");
+    }
+
+    @Test
+    void expandCollectionIntoInList() {
+        final var boundSql = ParsedSql.parse("select * from member where id in (:ids) and name = :name")
+                .bind(Map.of("ids", List.of(1L, 2L, 3L), "name", "gugu"));
+
+        assertThat(boundSql.sql()).isEqualTo("select * from member where id in (?, ?, ?) and name = ?");
+        assertThat(boundSql.args()).containsExactly(1L, 2L, 3L, "gugu");
+    }
+
+    @Test
+    void failWhenParameterIsMissing() {
+        final var parsedSql = ParsedSql.parse("select * from member where id = :id");
+
+        assertThatThrownBy(() -> parsedSql.bind(Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("id");
+    }
+
+    @Test
+    void reuseParsedSql() {
+        final var sql = "select name from member where id = :id";
+
+        assertThat(namedParameterJdbcTemplate.getParsedSql(sql)).isSameAs(namedParameterJdbcTemplate.getParsedSql(sql));
+    }
+
+    @Test
+    void updateAndQuery() {
+        final var insert = "insert into member (id, name) values (:id, :name)";
+        namedParameterJdbcTemplate.batchUpdate(insert, List.of(
+                Map.of("id", 1L, "name", "gugu"),
+                Map.of("id", 2L, "name", "hkkang"),
+                Map.of("id", 3L, "name", "jinu")));
+
+        final var names = namedParameterJdbcTemplate.query("select name from member where id in (:ids) order by id",
+                Map.of("ids", List.of(1L, 3L)), rs -> rs.getString("name"));
+        final var none = namedParameterJdbcTemplate.query("select name from member where id in (:ids)",
+                Map.of("ids", List.of()), rs -> rs.getString("name"));
+
+        assertThat(names).containsExactly("gugu", "jinu");
+        assertThat(none).isEmpty();
+    }
+}
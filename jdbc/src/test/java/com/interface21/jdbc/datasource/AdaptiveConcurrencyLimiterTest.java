@@ -0,0 +1,72 @@
+package com.interface21.jdbc.datasource;
+
+import com.interface21.jdbc.support.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            new ConnectionPoolMetrics("test"), 2, 10, Duration.ofMillis(100), Duration.ofHours(1));
+
+    @Test
+    void rejectWhenLimitReached() {
+        limiter.adjust(snapshot(0, 100, 500 * MILLIS, 100, 500 * MILLIS));
+        limiter.adjust(snapshot(0, 200, 500 * MILLIS, 200, 500 * MILLIS));
+        final var limit = limiter.getLimit();
+
+        for (int i = 0; i < limit; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release();
+
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void decreaseLimitWhenRecentDbLatencyRises() {
+        limiter.adjust(snapshot(0, 100, MILLIS, 100, 10 * MILLIS));
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        // 직전 100 건의 평균은 11ms 였고, 이후 100 건은 대기 100ms + 보유 100ms 가 걸렸다.
+        limiter.adjust(snapshot(0, 200, 50 * MILLIS + MILLIS / 2, 200, 55 * MILLIS));
+
+        assertThat(limiter.getLimit()).isEqualTo(9);
+    }
+
+    @Test
+    void decreaseLimitWhenConnectionsAreNotReturned() {
+        limiter.adjust(snapshot(0, 100, MILLIS, 100, MILLIS));
+
+        limiter.adjust(snapshot(5, 100, MILLIS, 100, MILLIS));
+
+        assertThat(limiter.getLimit()).isEqualTo(9);
+    }
+
+    @Test
+    void recoverAdditivelyAndNeverLeaveBounds() {
+        for (int i = 1; i <= 30; i++) {
+            limiter.adjust(snapshot(0, i * 10L, 200 * MILLIS, i * 10L, 200 * MILLIS));
+        }
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.adjust(snapshot(0, 310, 200 * MILLIS * 300 / 310, 310, 200 * MILLIS * 300 / 310));
+        limiter.adjust(snapshot(0, 320, 200 * MILLIS * 300 / 320, 320, 200 * MILLIS * 300 / 320));
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    private static ConnectionPoolMetrics.Snapshot snapshot(final int pending, final long waitCount, final long waitMean,
+                                                           final long holdCount, final long holdMean) {
+        return new ConnectionPoolMetrics.Snapshot("test", 0, 0, pending, 0, 0,
+                new LatencyHistogram.Snapshot(waitCount, waitMean, 0, 0, 0),
+                new LatencyHistogram.Snapshot(holdCount, holdMean, 0, 0, 0));
+    }
+}
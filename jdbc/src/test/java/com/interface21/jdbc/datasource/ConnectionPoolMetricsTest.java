@@ -0,0 +1,60 @@
+package com.interface21.jdbc.datasource;
+
+import com.interface21.jdbc.CannotGetJdbcConnectionException;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConnectionPoolMetricsTest {
+
+    @Test
+    void recordBorrowAndRelease() throws Exception {
+        final var dataSource = mock(DataSource.class);
+        final var connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        final var conn = DataSourceUtils.getConnection(dataSource);
+        final var borrowed = ConnectionPoolMetrics.of(dataSource).snapshot();
+        DataSourceUtils.releaseConnection(conn, dataSource);
+        final var released = ConnectionPoolMetrics.of(dataSource).snapshot();
+
+        assertThat(borrowed.active()).isEqualTo(1);
+        assertThat(borrowed.borrowWait().count()).isEqualTo(1);
+        assertThat(released.active()).isZero();
+        assertThat(released.pending()).isZero();
+        assertThat(released.hold().count()).isEqualTo(1);
+    }
+
+    @Test
+    void countTimeouts() throws Exception {
+        final var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+
+        assertThatThrownBy(() -> DataSourceUtils.getConnection(dataSource))
+                .isInstanceOf(CannotGetJdbcConnectionException.class);
+
+        final var snapshot = ConnectionPoolMetrics.of(dataSource).snapshot();
+        assertThat(snapshot.timeouts()).isEqualTo(1);
+        assertThat(snapshot.failures()).isZero();
+        assertThat(snapshot.pending()).isZero();
+    }
+
+    @Test
+    void idleIsUnknownByDefault() {
+        final var dataSource = mock(DataSource.class);
+        final var metrics = ConnectionPoolMetrics.of(dataSource);
+
+        assertThat(metrics.snapshot().idle()).isEqualTo(-1);
+
+        metrics.setIdleCounter(() -> 3);
+
+        assertThat(metrics.snapshot().idle()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,53 @@
+package com.interface21.jdbc.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConnectionWarmerTest {
+
+    @Test
+    void openConnectionsConcurrentlyAndPrepareHotStatements() throws SQLException {
+        final var open = new AtomicInteger();
+        final var maxOpen = new AtomicInteger();
+        final var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+            final var connection = mock(Connection.class);
+            when(connection.prepareStatement("select 1")).thenReturn(mock(PreparedStatement.class));
+            when(connection.prepareStatement("select broken")).thenThrow(new SQLException("syntax error"));
+            doAnswer(closed -> open.decrementAndGet()).when(connection).close();
+            return connection;
+        });
+
+        final var result = new ConnectionWarmer(dataSource, 3, List.of("select 1", "select broken"))
+                .warmUp(Duration.ofSeconds(5));
+
+        assertThat(result.connections()).isEqualTo(3);
+        assertThat(result.preparedStatements()).isEqualTo(3);
+        assertThat(result.failures()).isEqualTo(3);
+        assertThat(maxOpen).hasValue(3);
+    }
+
+    @Test
+    void countFailedConnections() throws SQLException {
+        final var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        final var result = new ConnectionWarmer(dataSource, 2, List.of()).warmUp(Duration.ofSeconds(5));
+
+        assertThat(result.connections()).isZero();
+        assertThat(result.failures()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,98 @@
+package com.interface21.jdbc.datasource;
+
+import com.interface21.jdbc.core.JdbcTemplate;
+import com.interface21.transaction.support.TransactionTemplate;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String WHO_AM_I = "select name from node";
+
+    private ReadWriteRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReadWriteRoutingDataSource(node("primary"),
+                List.of(node("replica1"), node("replica2")));
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.clear();
+    }
+
+    @Test
+    void routeToPrimaryByDefault() {
+        assertThat(whoAmI(jdbcTemplate)).isEqualTo("primary");
+    }
+
+    @Test
+    void routeReadOnlyTransactionToReplica() {
+        final var transactionTemplate = new TransactionTemplate(routingDataSource, true);
+
+        final var node = transactionTemplate.execute(() -> whoAmI(jdbcTemplate));
+
+        assertThat(node).startsWith("replica");
+    }
+
+    @Test
+    void roundRobinReplicaHint() {
+        final var replicaTemplate = jdbcTemplate.readFromReplica();
+
+        assertThat(List.of(whoAmI(replicaTemplate), whoAmI(replicaTemplate), whoAmI(replicaTemplate)))
+                .containsExactly("replica1", "replica2", "replica1");
+    }
+
+    @Test
+    void stickToPrimaryAfterWrite() {
+        final var replicaTemplate = jdbcTemplate.readFromReplica();
+
+        jdbcTemplate.update("update node set name = name");
+
+        assertThat(whoAmI(replicaTemplate)).isEqualTo("primary");
+
+        DataSourceRoutingContext.clear();
+
+        assertThat(whoAmI(replicaTemplate)).startsWith("replica");
+    }
+
+    @Test
+    void leastBusyReplica() throws Exception {
+        final var dataSource = new ReadWriteRoutingDataSource(node("primary"),
+                List.of(node("replica1"), node("replica2")), new LeastBusyReplicaSelector());
+        DataSourceRoutingContext.setHint(RoutingHint.REPLICA);
+
+        try (final var busy = dataSource.getConnection();
+             final var next = dataSource.getConnection()) {
+            assertThat(dataSource.getInFlightConnections(0)).isEqualTo(1);
+            assertThat(dataSource.getInFlightConnections(1)).isEqualTo(1);
+        }
+
+        assertThat(dataSource.getInFlightConnections(0)).isZero();
+        assertThat(dataSource.getInFlightConnections(1)).isZero();
+    }
+
+    private String whoAmI(final JdbcTemplate template) {
+        return template.queryForObject(WHO_AM_I, rs -> rs.getString(1));
+    }
+
+    private static DataSource node(final String name) {
+        final var dataSource = new JdbcDataSource();
+        dataSource.setUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).update("create table if not exists node (name varchar(20))");
+        new JdbcTemplate(dataSource).update("delete from node");
+        new JdbcTemplate(dataSource).update("insert into node (name) values (?)", name);
+        DataSourceRoutingContext.clear();
+        return dataSource;
+    }
+}
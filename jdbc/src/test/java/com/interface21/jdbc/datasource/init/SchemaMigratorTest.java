@@ -0,0 +1,68 @@
+package com.interface21.jdbc.datasource.init;
+
+import com.interface21.jdbc.core.JdbcTemplate;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SchemaMigratorTest {
+
+    private static final String[] SCRIPTS = {
+            "db/migration/V2__insert_members.sql",
+            "db/migration/V1__create_member.sql",
+            "db/migration/V1__create_team.sql"
+    };
+
+    private JdbcTemplate jdbcTemplate;
+    private SchemaMigrator schemaMigrator;
+
+    @BeforeEach
+    void setUp() {
+        final var dataSource = new JdbcDataSource();
+        dataSource.setUrl("jdbc:h2:mem:migration;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("drop all objects");
+        schemaMigrator = new SchemaMigrator(dataSource, "schema_history", 2);
+    }
+
+    @Test
+    void applyScriptsInVersionOrder() {
+        final var applied = schemaMigrator.migrate(SCRIPTS);
+
+        assertThat(applied).isEqualTo(3);
+        assertThat(jdbcTemplate.query("select name from member order by id", rs -> rs.getString(1)))
+                .containsExactly("gugu", "semi;colon", "it's -- not a comment");
+        assertThat(jdbcTemplate.query("select script from schema_history order by version, script", rs -> rs.getString(1)))
+                .containsExactly("V1__create_member.sql", "V1__create_team.sql", "V2__insert_members.sql");
+    }
+
+    @Test
+    void skipAppliedScripts() {
+        schemaMigrator.migrate(SCRIPTS);
+
+        final var applied = schemaMigrator.migrate(SCRIPTS);
+
+        assertThat(applied).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from member", rs -> rs.getInt(1))).isEqualTo(3);
+    }
+
+    @Test
+    void reportFailedStatement() {
+        schemaMigrator.migrate(SCRIPTS);
+
+        assertThatThrownBy(() -> schemaMigrator.migrate("db/migration/V3__broken.sql"))
+                .isInstanceOf(ScriptException.class)
+                .hasMessageContaining("#2")
+                .hasMessageContaining("no_such_table");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from schema_history", rs -> rs.getInt(1))).isEqualTo(3);
+    }
+
+    @Test
+    void rejectScriptWithoutVersion() {
+        assertThatThrownBy(() -> schemaMigrator.migrate("schema.sql"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,34 @@
+package com.interface21.jdbc.datasource.init;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScriptUtilsTest {
+
+    @Test
+    void splitStatements() throws IOException, SQLException {
+        final var script = """
+                -- comment; with delimiter
+                create table t (id bigint);
+                /* block; comment */
+                insert into t values (1);;
+                insert into t values ('a;b', "c;d", 'it''s');
+                select 1
+                """;
+        final var statements = new ArrayList<String>();
+
+        ScriptUtils.splitSqlScript(new StringReader(script), statements::add);
+
+        assertThat(statements).containsExactly(
+                "create table t (id bigint)",
+                "insert into t values (1)",
+                "insert into t values ('a;b', \"c;d\", 'it''s')",
+                "select 1");
+    }
+}
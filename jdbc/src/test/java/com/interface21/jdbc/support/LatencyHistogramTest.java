@@ -0,0 +1,34 @@
+package com.interface21.jdbc.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentiles() {
+        final var histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(500));
+
+        final var snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.p50Nanos()).isBetween(TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(2));
+        assertThat(snapshot.p99Nanos()).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(snapshot.maxNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void emptySnapshot() {
+        final var snapshot = new LatencyHistogram().snapshot();
+
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.p99Nanos()).isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package com.interface21.jdbc.support;
+
+import com.interface21.dao.CannotAcquireLockException;
+import com.interface21.dao.DataAccessException;
+import com.interface21.dao.DataAccessResourceFailureException;
+import com.interface21.dao.DeadlockLoserDataAccessException;
+import com.interface21.dao.DuplicateKeyException;
+import com.interface21.dao.QueryTimeoutException;
+import com.interface21.dao.TransientDataAccessException;
+import com.interface21.dao.TransientDataAccessResourceException;
+import com.interface21.jdbc.BadSqlGrammarException;
+import com.interface21.jdbc.core.JdbcTemplate;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SQLErrorCodeSQLExceptionTranslatorTest {
+
+    @Test
+    void translateH2Errors() {
+        final var dataSource = new JdbcDataSource();
+        dataSource.setUrl("jdbc:h2:mem:translator;DB_CLOSE_DELAY=-1");
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("create table if not exists member (id bigint primary key)");
+        jdbcTemplate.update("delete from member");
+        jdbcTemplate.update("insert into member (id) values (?)", 1L);
+
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into member (id) values (?)", 1L))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into nothing (id) values (?)", 1L))
+                .isInstanceOf(BadSqlGrammarException.class);
+    }
+
+    @Test
+    void translateMySqlErrorCodes() {
+        final var translator = new SQLErrorCodeSQLExceptionTranslator(SQLErrorCodes.MYSQL);
+
+        assertThat(translator.translate("task", "sql", new SQLException("deadlock", "40001", 1213)))
+                .isInstanceOf(DeadlockLoserDataAccessException.class)
+                .isInstanceOf(TransientDataAccessException.class);
+        assertThat(translator.translate("task", "sql", new SQLException("lock wait timeout", "HY000", 1205)))
+                .isInstanceOf(CannotAcquireLockException.class);
+        assertThat(translator.translate("task", "sql", new SQLException("duplicate", "23000", 1062)))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThat(translator.translate("task", "sql", new SQLException("syntax", "42000", 1064)))
+                .isInstanceOf(BadSqlGrammarException.class);
+    }
+
+    @Test
+    void fallbackToSqlState() {
+        final var translator = new SQLErrorCodeSQLExceptionTranslator(SQLErrorCodes.EMPTY);
+
+        assertThat(translator.translate("task", "sql", new SQLTimeoutException("timeout")))
+                .isInstanceOf(QueryTimeoutException.class);
+        assertThat(translator.translate("task", "sql", new SQLException("connection", "08S01")))
+                .isInstanceOf(TransientDataAccessResourceException.class);
+        assertThat(translator.translate("task", "sql", new SQLException("unknown")))
+                .isExactlyInstanceOf(DataAccessException.class);
+    }
+
+    @Test
+    void connectionFailuresThatRetryCannotFixAreNotTransient() {
+        final var translator = new SQLErrorCodeSQLExceptionTranslator(SQLErrorCodes.EMPTY);
+
+        assertThat(translator.translate("task", null, new SQLNonTransientConnectionException("refused")))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(translator.translate("task", null, new SQLException("rejected", "08004")))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(translator.translate("task", null, new SQLException("bad password", "28000")))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(translator.translate("task", null, new SQLException("cannot connect", "08001")))
+                .isInstanceOf(TransientDataAccessResourceException.class);
+        assertThat(new SQLErrorCodeSQLExceptionTranslator(SQLErrorCodes.MYSQL)
+                .translate("task", null, new SQLException("access denied", "28000", 1045)))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    @Test
+    void forDatabase() {
+        assertThat(SQLErrorCodes.forDatabase("H2")).isSameAs(SQLErrorCodes.H2);
+        assertThat(SQLErrorCodes.forDatabase("MySQL")).isSameAs(SQLErrorCodes.MYSQL);
+        assertThat(SQLErrorCodes.forDatabase("PostgreSQL")).isSameAs(SQLErrorCodes.EMPTY);
+    }
+}
@@ -0,0 +1,30 @@
+package com.interface21.jdbc.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatisticsTest {
+
+    @Test
+    void normalize() {
+        assertThat(SqlStatistics.normalize("select * from users\n  where account = 'gugu' and id = 10"))
+                .isEqualTo("select * from users where account = ? and id = ?");
+        assertThat(SqlStatistics.normalize("select * from users where id in (?, ?, ?)"))
+                .isEqualTo("select * from users where id in (?, ...)");
+        assertThat(SqlStatistics.normalize("select col1 from t1"))
+                .isEqualTo("select col1 from t1");
+    }
+
+    @Test
+    void overflowToOther() {
+        final var sqlStatistics = new SqlStatistics(1);
+
+        sqlStatistics.record("select * from users", 1_000L, 0L, 1);
+        sqlStatistics.record("select * from user_history", 1_000L, 0L, 1);
+
+        assertThat(sqlStatistics.snapshot())
+                .extracting(SqlStatistics.Snapshot::sql)
+                .containsExactlyInAnyOrder("select * from users", SqlStatistics.OTHER);
+    }
+}
@@ -0,0 +1,103 @@
+package com.interface21.transaction.support;
+
+import com.interface21.dao.DeadlockLoserDataAccessException;
+import com.interface21.dao.support.RetryPolicy;
+import com.interface21.jdbc.core.JdbcTemplate;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionTemplateTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setUrl("jdbc:h2:mem:transaction;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("create table if not exists counter (value int)");
+        jdbcTemplate.update("delete from counter");
+        jdbcTemplate.update("insert into counter (value) values (0)");
+    }
+
+    @Test
+    void commit() {
+        new TransactionTemplate(dataSource).executeWithoutResult(() ->
+                jdbcTemplate.update("update counter set value = value + 1"));
+
+        assertThat(value()).isEqualTo(1);
+    }
+
+    @Test
+    void rollback() {
+        assertThatThrownBy(() -> new TransactionTemplate(dataSource).executeWithoutResult(() -> {
+            jdbcTemplate.update("update counter set value = value + 1");
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(value()).isZero();
+    }
+
+    @Test
+    void replayWholeUnitOfWorkWithFreshConnection() {
+        final var retryPolicy = new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(5));
+        final var transactionTemplate = new TransactionTemplate(dataSource, false, retryPolicy);
+        final Set<Connection> connections = new HashSet<>();
+
+        transactionTemplate.executeWithoutResult(() -> {
+            connections.add(TransactionSynchronizationManager.getResource(dataSource));
+            jdbcTemplate.update("update counter set value = value + 1");
+            if (connections.size() < 2) {
+                throw new DeadlockLoserDataAccessException("deadlock");
+            }
+        });
+
+        assertThat(connections).hasSize(2);
+        assertThat(value()).isEqualTo(1);
+        assertThat(TransactionSynchronizationManager.getResource(dataSource)).isNull();
+    }
+
+    @Test
+    void nestedTransactionOnAnotherDataSourceKeepsOuterSynchronization() {
+        final var other = new JdbcDataSource();
+        other.setUrl("jdbc:h2:mem:transaction-other;DB_CLOSE_DELAY=-1");
+        final var otherJdbcTemplate = new JdbcTemplate(other);
+        otherJdbcTemplate.update("create table if not exists audit (value int)");
+        otherJdbcTemplate.update("delete from audit");
+        final List<Integer> completions = new ArrayList<>();
+
+        new TransactionTemplate(dataSource).executeWithoutResult(() -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    completions.add(status);
+                }
+            });
+            new TransactionTemplate(other).executeWithoutResult(() ->
+                    otherJdbcTemplate.update("insert into audit (value) values (1)"));
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+            jdbcTemplate.update("update counter set value = value + 1");
+        });
+
+        assertThat(value()).isEqualTo(1);
+        assertThat(otherJdbcTemplate.queryForObject("select count(*) from audit", rs -> rs.getInt(1))).isEqualTo(1);
+        assertThat(completions).containsExactly(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+    }
+
+    private int value() {
+        return jdbcTemplate.queryForObject("select value from counter", rs -> rs.getInt(1));
+    }
+}
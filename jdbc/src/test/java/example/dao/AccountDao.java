@@ -0,0 +1,21 @@
+package example.dao;
+
+import com.interface21.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 프레임워크 밖의 호출자. JdbcTemplate 이 느린 쿼리 로그에 남기는 호출 위치를 확인하는 데 쓴다.
+ */
+public class AccountDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<String> findAccounts() {
+        return jdbcTemplate.query("select account from users", rs -> rs.getString(1));
+    }
+}
@@ -0,0 +1,5 @@
+-- 회원
+create table member (
+    id bigint primary key,
+    name varchar(100) not null
+);
@@ -0,0 +1,5 @@
+/* 팀; 회원과 독립적으로 만들 수 있다 */
+create table team (
+    id bigint primary key,
+    name varchar(100) not null
+);
@@ -0,0 +1,4 @@
+insert into member (id, name) values (1, 'gugu');
+insert into member (id, name) values (2, 'semi;colon');
+insert into member (id, name) values (3, 'it''s -- not a comment');
+insert into team (id, name) values (1, 'techcourse');
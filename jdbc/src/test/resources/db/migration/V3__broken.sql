@@ -0,0 +1,2 @@
+insert into member (id, name) values (4, 'ok');
+insert into no_such_table (id) values (1);
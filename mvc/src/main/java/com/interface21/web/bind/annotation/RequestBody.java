@@ -0,0 +1,10 @@
+package com.interface21.web.bind.annotation;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestBody {
+    boolean required() default true;
+}
@@ -1,5 +1,189 @@
 package com.interface21.web.http;
 
-public class MediaType {
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * type/subtype 과 charset, q 값만 다루는 미디어 타입. 불변이라 공유해도 안전하다.
+ */
+public final class MediaType {
+
     public static final String APPLICATION_JSON_UTF8_VALUE = "application/json;charset=UTF-8";
+    public static final String TEXT_HTML_UTF8_VALUE = "text/html;charset=UTF-8";
+    public static final String APPLICATION_JSON_VALUE = "application/json";
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final String TEXT_PLAIN_VALUE = "text/plain";
+    public static final String ALL_VALUE = "*/*";
+
+    public static final MediaType APPLICATION_JSON = valueOf(APPLICATION_JSON_VALUE);
+    public static final MediaType APPLICATION_SMILE = valueOf(APPLICATION_SMILE_VALUE);
+    public static final MediaType TEXT_PLAIN = valueOf(TEXT_PLAIN_VALUE);
+    public static final MediaType ALL = valueOf(ALL_VALUE);
+
+    private static final String WILDCARD = "*";
+    private static final int MAX_CACHED_HEADERS = 256;
+    private static final Map<String, List<MediaType>> parsedHeaders = new ConcurrentHashMap<>();
+
+    // q 값이 높은 것, 같으면 더 구체적인 것이 앞에 온다. List.sort 는 안정 정렬이라 나머지는 헤더 순서를 따른다.
+    private static final Comparator<MediaType> BY_QUALITY_AND_SPECIFICITY = Comparator
+            .comparingDouble(MediaType::getQuality).reversed()
+            .thenComparing(MediaType::isWildcardType)
+            .thenComparing(MediaType::isWildcardSubtype);
+
+    private final String type;
+    private final String subtype;
+    private final Charset charset;
+    private final double quality;
+
+    public MediaType(final String type, final String subtype, final Charset charset, final double quality) {
+        this.type = Objects.requireNonNull(type).toLowerCase(Locale.ROOT);
+        this.subtype = Objects.requireNonNull(subtype).toLowerCase(Locale.ROOT);
+        this.charset = charset;
+        this.quality = quality;
+    }
+
+    public static MediaType valueOf(final String value) {
+        final var parts = value.split(";");
+        final var fullType = parts[0].trim();
+        final var slash = fullType.indexOf('/');
+        if (WILDCARD.equals(fullType)) {
+            return new MediaType(WILDCARD, WILDCARD, null, 1.0);
+        }
+        if (slash <= 0 || slash == fullType.length() - 1) {
+            throw new IllegalArgumentException("invalid media type : " + value);
+        }
+        Charset charset = null;
+        var quality = 1.0;
+        for (int i = 1; i < parts.length; i++) {
+            final var parameter = parts[i].trim();
+            final var equals = parameter.indexOf('=');
+            if (equals < 0) {
+                continue;
+            }
+            final var name = parameter.substring(0, equals).trim();
+            final var parameterValue = unquote(parameter.substring(equals + 1).trim());
+            if ("charset".equalsIgnoreCase(name)) {
+                charset = Charset.forName(parameterValue);
+            } else if ("q".equals(name)) {
+                quality = Double.parseDouble(parameterValue);
+            }
+        }
+        return new MediaType(fullType.substring(0, slash), fullType.substring(slash + 1), charset, quality);
+    }
+
+    /**
+     * Accept 헤더를 q 값 순으로 정렬해 돌려준다. 같은 헤더 값은 한 번만 파싱하며, 잘못된 항목은 건너뛴다.
+     * q=0 항목은 그 타입을 받지 않겠다는 뜻이므로 버리지 않고 맨 뒤에 남긴다.
+     * 헤더가 없거나 비어 있으면 {@link #ALL} 하나를 돌려준다.
+     */
+    public static List<MediaType> parseMediaTypes(final String header) {
+        if (header == null || header.isBlank()) {
+            return List.of(ALL);
+        }
+        final var cached = parsedHeaders.get(header);
+        if (cached != null) {
+            return cached;
+        }
+        final var parsed = parse(header);
+        if (parsedHeaders.size() < MAX_CACHED_HEADERS) {
+            parsedHeaders.putIfAbsent(header, parsed);
+        }
+        return parsed;
+    }
+
+    private static List<MediaType> parse(final String header) {
+        final var mediaTypes = new ArrayList<MediaType>();
+        for (final var token : header.split(",")) {
+            if (token.isBlank()) {
+                continue;
+            }
+            try {
+                final var mediaType = valueOf(token);
+                if (mediaType.quality >= 0) {
+                    mediaTypes.add(mediaType);
+                }
+            } catch (IllegalArgumentException e) {
+                // 잘못된 항목 하나 때문에 요청 전체를 거절하지 않는다.
+            }
+        }
+        mediaTypes.sort(BY_QUALITY_AND_SPECIFICITY);
+        return List.copyOf(mediaTypes);
+    }
+
+    private static String unquote(final String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    public boolean isCompatibleWith(final MediaType other) {
+        if (isWildcardType() || other.isWildcardType()) {
+            return true;
+        }
+        if (!type.equals(other.type)) {
+            return false;
+        }
+        return isWildcardSubtype() || other.isWildcardSubtype() || subtype.equals(other.subtype);
+    }
+
+    public boolean isWildcardType() {
+        return WILDCARD.equals(type);
+    }
+
+    public boolean isWildcardSubtype() {
+        return WILDCARD.equals(subtype);
+    }
+
+    public MediaType withCharset(final Charset charset) {
+        return new MediaType(type, subtype, charset, 1.0);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getSubtype() {
+        return subtype;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    public double getQuality() {
+        return quality;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MediaType that)) {
+            return false;
+        }
+        return Double.compare(quality, that.quality) == 0 && type.equals(that.type) && subtype.equals(that.subtype)
+                && Objects.equals(charset, that.charset);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, subtype, charset, quality);
+    }
+
+    /**
+     * Content-Type 헤더에 그대로 쓸 수 있는 형태. q 값은 포함하지 않는다.
+     */
+    @Override
+    public String toString() {
+        final var value = type + "/" + subtype;
+        return charset == null ? value : value + ";charset=" + charset.name();
+    }
 }
@@ -0,0 +1,51 @@
+package com.interface21.web.http.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.interface21.web.http.MediaType;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ObjectWriter 를 한 번 만들어 공유하고, 중간 byte[] 없이 응답 스트림에 바로 직렬화한다.
+ * Iterator 나 Stream 값은 {@link JsonStreamingSupport} 로 원소 단위로 쓴다.
+ */
+public abstract class AbstractJacksonHttpMessageConverter implements HttpMessageConverter {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
+    private final List<MediaType> supportedMediaTypes;
+
+    protected AbstractJacksonHttpMessageConverter(final ObjectMapper objectMapper, final MediaType... supportedMediaTypes) {
+        this.objectMapper = objectMapper;
+        this.objectWriter = objectMapper.writer();
+        this.supportedMediaTypes = List.of(supportedMediaTypes);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return supportedMediaTypes;
+    }
+
+    @Override
+    public boolean canWrite(final Class<?> type, final MediaType mediaType) {
+        return !CharSequence.class.isAssignableFrom(type) && objectMapper.canSerialize(type);
+    }
+
+    @Override
+    public void write(final Object value, final MediaType contentType, final HttpServletResponse response) throws IOException {
+        response.setContentType(contentType.toString());
+        if (JsonStreamingSupport.isStreaming(value) || value instanceof Map<?, ?>) {
+            JsonStreamingSupport.write(objectWriter, value, response.getOutputStream(), JsonStreamingSupport.DEFAULT_FLUSH_INTERVAL);
+            return;
+        }
+        objectWriter.writeValue(response.getOutputStream(), value);
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+}
@@ -0,0 +1,19 @@
+package com.interface21.web.http.converter;
+
+import com.interface21.web.http.MediaType;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface HttpMessageConverter {
+
+    List<MediaType> getSupportedMediaTypes();
+
+    boolean canWrite(final Class<?> type, final MediaType mediaType);
+
+    /**
+     * contentType 은 {@link #getSupportedMediaTypes()} 중 협상으로 고른 값이다.
+     */
+    void write(final Object value, final MediaType contentType, final HttpServletResponse response) throws IOException;
+}
@@ -0,0 +1,14 @@
+package com.interface21.web.http.converter;
+
+public class HttpMessageNotReadableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public HttpMessageNotReadableException(final String message) {
+        super(message);
+    }
+
+    public HttpMessageNotReadableException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
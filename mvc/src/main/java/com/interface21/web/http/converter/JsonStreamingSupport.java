@@ -0,0 +1,112 @@
+package com.interface21.web.http.converter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.BaseStream;
+
+/**
+ * Iterator 나 Stream 값을 목록으로 모으지 않고 원소 하나씩 JSON 배열로 쓴다.
+ * flushInterval 개의 원소마다 flush 해 클라이언트가 첫 바이트를 일찍 받도록 하고, 다 쓰거나 실패하면 원본을 닫는다.
+ */
+public final class JsonStreamingSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonStreamingSupport.class);
+
+    public static final int DEFAULT_FLUSH_INTERVAL = 256;
+
+    private JsonStreamingSupport() {}
+
+    public static boolean isStreaming(final Object value) {
+        return value instanceof Iterator<?> || value instanceof BaseStream<?, ?>;
+    }
+
+    /**
+     * Map 의 값 중 Iterator 나 Stream 이 있어도 그 값만 스트리밍하고 나머지는 그대로 직렬화한다.
+     */
+    public static void write(final ObjectWriter writer, final Object value, final OutputStream outputStream,
+                             final int flushInterval) throws IOException {
+        // 기본 설정은 값 하나를 쓸 때마다 flush 하므로 원소 단위 flush 를 끄고 flushInterval 로만 flush 한다.
+        final var objectWriter = writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (final var generator = objectWriter.createGenerator(outputStream)) {
+            if (value instanceof Map<?, ?> map && map.values().stream().anyMatch(JsonStreamingSupport::isStreaming)) {
+                generator.writeStartObject();
+                for (final var entry : map.entrySet()) {
+                    generator.writeFieldName(String.valueOf(entry.getKey()));
+                    writeValue(objectWriter, generator, entry.getValue(), flushInterval);
+                }
+                generator.writeEndObject();
+            } else {
+                writeValue(objectWriter, generator, value, flushInterval);
+            }
+        }
+    }
+
+    /**
+     * 값 중 Stream 이나 AutoCloseable 을 닫는다. 406 처럼 {@link #write} 를 거치지 않고 끝난 응답에서도
+     * queryForStream 의 커넥션과 ResultSet 이 남지 않도록 뷰가 렌더링을 마칠 때 부른다. 이미 닫힌 값은 다시 닫아도 된다.
+     */
+    public static void closeAll(final Collection<?> values) {
+        for (final var value : values) {
+            if (value instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("failed to close model value : {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void writeValue(final ObjectWriter objectWriter, final JsonGenerator generator, final Object value,
+                                   final int flushInterval) throws IOException {
+        if (value instanceof BaseStream<?, ?> stream) {
+            try (stream) {
+                writeArray(objectWriter, generator, stream.iterator(), flushInterval);
+            }
+            return;
+        }
+        if (value instanceof Iterator<?> iterator) {
+            try {
+                writeArray(objectWriter, generator, iterator, flushInterval);
+            } finally {
+                if (iterator instanceof AutoCloseable closeable) {
+                    close(closeable);
+                }
+            }
+            return;
+        }
+        objectWriter.writeValue(generator, value);
+    }
+
+    private static void writeArray(final ObjectWriter objectWriter, final JsonGenerator generator,
+                                   final Iterator<?> iterator, final int flushInterval) throws IOException {
+        generator.writeStartArray();
+        var written = 0;
+        while (iterator.hasNext()) {
+            objectWriter.writeValue(generator, iterator.next());
+            if (++written % flushInterval == 0) {
+                generator.flush();
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private static void close(final AutoCloseable closeable) throws IOException {
+        try {
+            closeable.close();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+}
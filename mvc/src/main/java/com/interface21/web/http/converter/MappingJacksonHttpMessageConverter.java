@@ -0,0 +1,17 @@
+package com.interface21.web.http.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interface21.web.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+public class MappingJacksonHttpMessageConverter extends AbstractJacksonHttpMessageConverter {
+
+    public MappingJacksonHttpMessageConverter() {
+        this(new ObjectMapper());
+    }
+
+    public MappingJacksonHttpMessageConverter(final ObjectMapper objectMapper) {
+        super(objectMapper, MediaType.APPLICATION_JSON.withCharset(StandardCharsets.UTF_8));
+    }
+}
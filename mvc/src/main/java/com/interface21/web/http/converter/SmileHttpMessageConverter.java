@@ -0,0 +1,19 @@
+package com.interface21.web.http.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.interface21.web.http.MediaType;
+
+/**
+ * 서비스 사이 호출용 이진 JSON. 필드 이름과 짧은 문자열을 back-reference 로 줄여 JSON 보다 작고 빠르게 인코딩한다.
+ */
+public class SmileHttpMessageConverter extends AbstractJacksonHttpMessageConverter {
+
+    public SmileHttpMessageConverter() {
+        this(new ObjectMapper(new SmileFactory()));
+    }
+
+    public SmileHttpMessageConverter(final ObjectMapper objectMapper) {
+        super(objectMapper, MediaType.APPLICATION_SMILE);
+    }
+}
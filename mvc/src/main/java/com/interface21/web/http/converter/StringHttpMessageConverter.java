@@ -0,0 +1,35 @@
+package com.interface21.web.http.converter;
+
+import com.interface21.web.http.MediaType;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 문자열, 숫자, boolean 을 text/plain 으로 쓴다. 한 번에 인코딩해 Content-Length 를 함께 보낸다.
+ */
+public class StringHttpMessageConverter implements HttpMessageConverter {
+
+    private static final MediaType TEXT_PLAIN_UTF8 = MediaType.TEXT_PLAIN.withCharset(StandardCharsets.UTF_8);
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return List.of(TEXT_PLAIN_UTF8);
+    }
+
+    @Override
+    public boolean canWrite(final Class<?> type, final MediaType mediaType) {
+        return CharSequence.class.isAssignableFrom(type) || Number.class.isAssignableFrom(type) || type == Boolean.class;
+    }
+
+    @Override
+    public void write(final Object value, final MediaType contentType, final HttpServletResponse response) throws IOException {
+        final var charset = contentType.getCharset() == null ? StandardCharsets.UTF_8 : contentType.getCharset();
+        final var bytes = value.toString().getBytes(charset);
+        response.setContentType(contentType.toString());
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+}
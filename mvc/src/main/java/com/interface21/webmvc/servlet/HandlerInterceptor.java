@@ -0,0 +1,24 @@
+package com.interface21.webmvc.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 핸들러 실행 앞뒤에 끼워 넣는 공통 처리. preHandle 이 false 를 돌려주면 응답은 인터셉터가 이미 썼다고 보고 핸들러를 실행하지 않는다.
+ * preHandle 은 등록한 순서대로, postHandle 은 역순으로 불린다.
+ * afterCompletion 은 preHandle 이 true 를 돌려준 인터셉터에 대해서만 역순으로 불린다.
+ */
+public interface HandlerInterceptor {
+
+    default boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception {
+        return true;
+    }
+
+    default void postHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                            final ModelAndView modelAndView) throws Exception {
+    }
+
+    default void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                                 final Exception ex) throws Exception {
+    }
+}
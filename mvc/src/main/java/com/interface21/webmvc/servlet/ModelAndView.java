@@ -3,14 +3,35 @@ package com.interface21.webmvc.servlet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 public class ModelAndView {
 
     private final View view;
+    private final String viewName;
     private final Map<String, Object> model;
 
+    /**
+     * View 를 정하지 않으면 DispatcherServlet 이 Accept 헤더로 응답 형식을 고른다.
+     */
+    public ModelAndView() {
+        this.view = null;
+        this.viewName = null;
+        this.model = new HashMap<>();
+    }
+
     public ModelAndView(final View view) {
         this.view = view;
+        this.viewName = null;
+        this.model = new HashMap<>();
+    }
+
+    /**
+     * 뷰 이름만 정해 두고 실제 View 는 DispatcherServlet 의 {@link ViewResolver} 가 찾는다.
+     */
+    public ModelAndView(final String viewName) {
+        this.view = null;
+        this.viewName = Objects.requireNonNull(viewName, "viewName is null. 이동할 URL을 입력하세요.");
         this.model = new HashMap<>();
     }
 
@@ -30,4 +51,12 @@ public class ModelAndView {
     public View getView() {
         return view;
     }
+
+    public String getViewName() {
+        return viewName;
+    }
+
+    public boolean isReference() {
+        return view == null && viewName != null;
+    }
 }
@@ -0,0 +1,5 @@
+package com.interface21.webmvc.servlet;
+
+public interface ViewResolver {
+    View resolveViewName(final String viewName);
+}
@@ -0,0 +1,142 @@
+package com.interface21.webmvc.servlet.admission;
+
+import com.interface21.core.concurrent.ConcurrencyLimiter;
+import com.interface21.webmvc.servlet.HandlerInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 핸들러를 실행하기 전에 요청을 받을지 정한다.
+ * <ul>
+ *     <li>클라이언트(remote address)마다, 그리고 핸들러(경로)마다 토큰 버킷을 두고 토큰이 없으면 429 와 Retry-After 로 거절한다.</li>
+ *     <li>concurrencyLimiter 를 지정하면 DB 지연에 따라 줄어드는 동시 처리 한도를 넘는 요청을 503 으로 거절한다.</li>
+ * </ul>
+ * 클라이언트 버킷은 maxClients 개까지 보관한다. 넘으면 가득 찬 버킷부터 지우고, 그래도 많으면 임의로 지워 3/4 까지 줄인다.
+ * 클라이언트 버킷은 이 인터셉터를 등록한 경로들이 함께 쓴다. 경로마다 따로 세려면 인터셉터를 따로 등록한다.
+ */
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionControlInterceptor.class);
+
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+    private static final int DEFAULT_MAX_CLIENTS = 10_000;
+    private static final String RETRY_AFTER = "Retry-After";
+    private static final String OVERLOADED_RETRY_AFTER_SECONDS = "1";
+    private static final String UNKNOWN_CLIENT = "unknown";
+
+    private final RateLimit routeLimit;
+    private final RateLimit clientLimit;
+    private final int maxClients;
+    private final Map<Object, TokenBucket> routeBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private ConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * routeLimit 이나 clientLimit 이 null 이면 그 기준으로는 제한하지 않는다.
+     */
+    public AdmissionControlInterceptor(final RateLimit routeLimit, final RateLimit clientLimit) {
+        this(routeLimit, clientLimit, DEFAULT_MAX_CLIENTS);
+    }
+
+    public AdmissionControlInterceptor(final RateLimit routeLimit, final RateLimit clientLimit, final int maxClients) {
+        if (maxClients <= 0) {
+            throw new IllegalArgumentException("maxClients must be positive");
+        }
+        this.routeLimit = routeLimit;
+        this.clientLimit = clientLimit;
+        this.maxClients = maxClients;
+    }
+
+    public void setConcurrencyLimiter(final ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    // 한 클라이언트가 경로의 토큰을 다 쓰지 못하도록 클라이언트 버킷을 먼저 확인한다.
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception {
+        return preHandle(request, response, handler, System.nanoTime());
+    }
+
+    boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                      final long now) throws IOException {
+        if (clientLimit != null) {
+            final var client = request.getRemoteAddr() == null ? UNKNOWN_CLIENT : request.getRemoteAddr();
+            final var waitNanos = clientBucket(client, now).tryAcquire(now);
+            if (waitNanos > 0) {
+                return reject(response, waitNanos, "client " + client);
+            }
+        }
+        if (routeLimit != null) {
+            final var waitNanos = routeBuckets.computeIfAbsent(handler, key -> routeLimit.newBucket(now)).tryAcquire(now);
+            if (waitNanos > 0) {
+                return reject(response, waitNanos, "route " + request.getRequestURI());
+            }
+        }
+        if (concurrencyLimiter != null && !concurrencyLimiter.tryAcquire()) {
+            log.debug("request shed : limit {}, uri {}", concurrencyLimiter.getLimit(), request.getRequestURI());
+            response.setHeader(RETRY_AFTER, OVERLOADED_RETRY_AFTER_SECONDS);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return false;
+        }
+        return true;
+    }
+
+    // preHandle 이 true 를 반환한 요청에만 불리므로 한도를 얻은 요청만 반납한다.
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                                final Exception ex) {
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.release();
+        }
+    }
+
+    private static boolean reject(final HttpServletResponse response, final long waitNanos, final String target) throws IOException {
+        final var seconds = Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        log.debug("rate limited : {}, retry after {}s", target, seconds);
+        response.setHeader(RETRY_AFTER, String.valueOf(seconds));
+        response.sendError(SC_TOO_MANY_REQUESTS);
+        return false;
+    }
+
+    private TokenBucket clientBucket(final String client, final long now) {
+        final var bucket = clientBuckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (clientBuckets.size() >= maxClients) {
+            evict(now);
+        }
+        return clientBuckets.computeIfAbsent(client, key -> clientLimit.newBucket(now));
+    }
+
+    int clientCount() {
+        return clientBuckets.size();
+    }
+
+    // 한 스레드만 정리하고, 그동안 다른 스레드는 기다리지 않고 잠시 한도를 넘겨 넣는다.
+    private void evict(final long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            clientBuckets.values().removeIf(bucket -> bucket.isFull(now));
+            final var target = maxClients / 4 * 3;
+            final var iterator = clientBuckets.keySet().iterator();
+            while (clientBuckets.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
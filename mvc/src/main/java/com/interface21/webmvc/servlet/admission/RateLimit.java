@@ -0,0 +1,17 @@
+package com.interface21.webmvc.servlet.admission;
+
+/**
+ * 한 번에 허용할 요청 수(capacity)와 초당 채워지는 요청 수.
+ */
+public record RateLimit(int capacity, double permitsPerSecond) {
+
+    public RateLimit {
+        if (capacity <= 0 || permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and permitsPerSecond must be positive");
+        }
+    }
+
+    TokenBucket newBucket(final long nowNanos) {
+        return new TokenBucket(capacity, permitsPerSecond, nowNanos);
+    }
+}
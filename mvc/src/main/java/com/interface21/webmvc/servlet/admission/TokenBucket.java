@@ -0,0 +1,52 @@
+package com.interface21.webmvc.servlet.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * capacity 개까지 모이고 초당 permitsPerSecond 개씩 채워지는 토큰 버킷.
+ * 남은 토큰 수 대신 버킷이 다시 가득 차는 시각 하나만 보관하므로 채우기와 꺼내기가 CAS 한 번으로 끝난다.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(final int capacity, final double permitsPerSecond) {
+        this(capacity, permitsPerSecond, System.nanoTime());
+    }
+
+    TokenBucket(final int capacity, final double permitsPerSecond, final long nowNanos) {
+        if (capacity <= 0 || permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and permitsPerSecond must be positive");
+        }
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰을 하나 꺼냈으면 0 을, 없으면 다음 토큰이 생길 때까지 남은 나노초를 반환한다.
+     */
+    public long tryAcquire(final long nowNanos) {
+        while (true) {
+            final var current = fullAt.get();
+            final var next = (current - nowNanos < 0 ? nowNanos : current) + intervalNanos;
+            final var waitNanos = next - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬 버킷은 새로 만든 버킷과 같으므로 버려도 된다.
+     */
+    public boolean isFull(final long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+}
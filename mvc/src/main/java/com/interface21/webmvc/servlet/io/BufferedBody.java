@@ -0,0 +1,126 @@
+package com.interface21.webmvc.servlet.io;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * 풀에서 빌린 버퍼 여러 개에 나눠 담긴 본문. 하나의 byte[] 로 합치지 않고 그대로 읽는다.
+ * 다 쓴 뒤에는 {@link #release()} 로 버퍼를 돌려줘야 한다.
+ */
+public final class BufferedBody {
+
+    private final ByteBufferPool pool;
+    private final List<ByteBuffer> buffers;
+    private final long size;
+    private boolean released;
+
+    BufferedBody(final ByteBufferPool pool, final List<ByteBuffer> buffers) {
+        this.pool = pool;
+        this.buffers = buffers;
+        this.size = buffers.stream().mapToLong(ByteBuffer::remaining).sum();
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public ServletInputStream inputStream() {
+        return new ByteBufferInputStream(buffers.stream().map(ByteBuffer::duplicate).toList());
+    }
+
+    /**
+     * 본문을 중간 문자열 없이 바로 DTO 로 읽는다.
+     */
+    public <T> T decode(final ObjectReader objectReader) throws IOException {
+        try (final var input = inputStream()) {
+            return objectReader.readValue(input);
+        }
+    }
+
+    List<ByteBuffer> buffers() {
+        return buffers;
+    }
+
+    public synchronized void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        buffers.forEach(pool::release);
+    }
+
+    private static final class ByteBufferInputStream extends ServletInputStream {
+
+        private final List<ByteBuffer> buffers;
+        private int index;
+
+        private ByteBufferInputStream(final List<ByteBuffer> buffers) {
+            this.buffers = buffers;
+        }
+
+        @Override
+        public int read() {
+            final var buffer = current();
+            return buffer == null ? -1 : buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            if (length == 0) {
+                return 0;
+            }
+            final var buffer = current();
+            if (buffer == null) {
+                return -1;
+            }
+            final var count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            final var buffer = current();
+            return buffer == null ? 0 : buffer.remaining();
+        }
+
+        private ByteBuffer current() {
+            while (index < buffers.size()) {
+                final var buffer = buffers.get(index);
+                if (buffer.hasRemaining()) {
+                    return buffer;
+                }
+                index++;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return current() == null;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        // 이미 모두 메모리에 있으므로 바로 알린다.
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            try {
+                if (!isFinished()) {
+                    readListener.onDataAvailable();
+                }
+                readListener.onAllDataRead();
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+    }
+}
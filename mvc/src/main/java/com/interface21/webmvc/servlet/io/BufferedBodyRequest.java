@@ -0,0 +1,63 @@
+package com.interface21.webmvc.servlet.io;
+
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 미리 읽어 둔 본문을 getInputStream 과 getReader 로 돌려주는 요청.
+ */
+public class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+    private final BufferedBody body;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    public BufferedBodyRequest(final HttpServletRequest request, final BufferedBody body) {
+        super(request);
+        this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        if (reader != null) {
+            throw new IllegalStateException("getReader() has already been called for this request");
+        }
+        if (inputStream == null) {
+            inputStream = body.inputStream();
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        if (inputStream != null) {
+            throw new IllegalStateException("getInputStream() has already been called for this request");
+        }
+        if (reader == null) {
+            final var encoding = getCharacterEncoding();
+            final var charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            reader = new BufferedReader(new InputStreamReader(body.inputStream(), charset));
+        }
+        return reader;
+    }
+
+    @Override
+    public int getContentLength() {
+        return (int) Math.min(body.size(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return body.size();
+    }
+
+    public BufferedBody getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,91 @@
+package com.interface21.webmvc.servlet.io;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 본문을 실제 응답 대신 풀의 버퍼에 모으는 응답. 상태와 헤더는 그대로 원래 응답에 설정된다.
+ * 모은 본문은 {@link #toBody()} 로 꺼내 {@link NonBlockingBodyWriter} 로 쓴다.
+ */
+public class BufferedBodyResponse extends HttpServletResponseWrapper {
+
+    private final PooledByteBufferOutputStream buffer;
+    private final ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public BufferedBodyResponse(final HttpServletResponse response, final ByteBufferPool pool) {
+        super(response);
+        this.buffer = new PooledByteBufferOutputStream(pool);
+        this.outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+                throw new IllegalStateException("buffered response does not support non-blocking writes");
+            }
+
+            @Override
+            public void write(final int b) {
+                buffer.write(b);
+            }
+
+            @Override
+            public void write(final byte[] bytes, final int offset, final int length) {
+                buffer.write(bytes, offset, length);
+            }
+        };
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            final var encoding = getCharacterEncoding();
+            final var charset = encoding == null ? StandardCharsets.ISO_8859_1 : Charset.forName(encoding);
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, charset));
+        }
+        return writer;
+    }
+
+    // 버퍼에 모으는 동안에는 실제 응답을 커밋하지 않는다.
+    @Override
+    public void flushBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        buffer.reset();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        buffer.reset();
+    }
+
+    public BufferedBody toBody() {
+        flushBuffer();
+        return buffer.toBody();
+    }
+
+    public void release() {
+        buffer.reset();
+    }
+}
@@ -0,0 +1,59 @@
+package com.interface21.webmvc.servlet.io;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 같은 크기의 ByteBuffer 를 재사용한다. 최대 maxPooled 개까지만 보관하고 넘치는 버퍼는 GC 에 맡긴다.
+ * ServletInputStream/ServletOutputStream 이 byte[] 로만 읽고 쓰므로 복사가 생기지 않도록 heap 버퍼를 쓴다.
+ */
+public class ByteBufferPool {
+
+    public static final int DEFAULT_BUFFER_SIZE = 16 * 1024;
+    private static final int DEFAULT_MAX_POOLED = 512;
+    private static final ByteBufferPool shared = new ByteBufferPool(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_POOLED);
+
+    private final int bufferSize;
+    private final int maxPooled;
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    public ByteBufferPool(final int bufferSize, final int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    public static ByteBufferPool shared() {
+        return shared;
+    }
+
+    public ByteBuffer acquire() {
+        final var buffer = buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocate(bufferSize);
+        }
+        pooled.decrementAndGet();
+        return buffer.clear();
+    }
+
+    public void release(final ByteBuffer buffer) {
+        if (buffer.capacity() != bufferSize || !buffer.hasArray()) {
+            return;
+        }
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        buffers.offer(buffer.clear());
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getPooledCount() {
+        return pooled.get();
+    }
+}
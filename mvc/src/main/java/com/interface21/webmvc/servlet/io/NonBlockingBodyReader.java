@@ -0,0 +1,99 @@
+package com.interface21.webmvc.servlet.io;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * {@link ReadListener} 로 요청 본문을 풀의 버퍼에 읽는다. 데이터가 도착했을 때만 읽으므로 느린 클라이언트가 스레드를 붙잡지 않는다.
+ * servlet async 가 시작된 뒤에 불러야 하며, 결과는 컨테이너 스레드에서 {@link BodyHandler} 로 전달된다.
+ */
+public class NonBlockingBodyReader {
+
+    private static final long DEFAULT_MAX_BODY_SIZE = 1024 * 1024;
+
+    private final ByteBufferPool pool;
+    private final long maxBodySize;
+
+    public NonBlockingBodyReader() {
+        this(ByteBufferPool.shared(), DEFAULT_MAX_BODY_SIZE);
+    }
+
+    public NonBlockingBodyReader(final ByteBufferPool pool, final long maxBodySize) {
+        this.pool = pool;
+        this.maxBodySize = maxBodySize;
+    }
+
+    /**
+     * 본문이 있는 JSON 요청만 비동기로 읽는다. 폼 요청은 getParameter 가 본문을 직접 읽어야 하므로 제외한다.
+     */
+    public boolean supports(final HttpServletRequest request) {
+        if (!request.isAsyncSupported() || request.getContentLengthLong() == 0) {
+            return false;
+        }
+        final var contentType = request.getContentType();
+        if (contentType == null) {
+            return false;
+        }
+        final var mediaType = contentType.toLowerCase(Locale.ROOT);
+        return mediaType.startsWith("application/json") || mediaType.contains("+json");
+    }
+
+    public void read(final HttpServletRequest request, final BodyHandler handler) throws IOException {
+        final var contentLength = request.getContentLengthLong();
+        if (contentLength > maxBodySize) {
+            handler.onError(new RequestBodyTooLargeException(maxBodySize));
+            return;
+        }
+        final var input = request.getInputStream();
+        final var output = new PooledByteBufferOutputStream(pool);
+        input.setReadListener(new ReadListener() {
+
+            private boolean failed;
+
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (!failed && input.isReady() && !input.isFinished()) {
+                    final var buffer = output.writableBuffer();
+                    final var count = input.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                    if (count < 0) {
+                        return;
+                    }
+                    output.advance(count);
+                    if (output.size() > maxBodySize) {
+                        fail(new RequestBodyTooLargeException(maxBodySize));
+                    }
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                if (!failed) {
+                    handler.onBody(output.toBody());
+                }
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                if (!failed) {
+                    fail(t);
+                }
+            }
+
+            private void fail(final Throwable t) {
+                failed = true;
+                output.reset();
+                handler.onError(t);
+            }
+        });
+    }
+
+    public interface BodyHandler {
+
+        void onBody(BufferedBody body);
+
+        void onError(Throwable t);
+    }
+}
@@ -0,0 +1,67 @@
+package com.interface21.webmvc.servlet.io;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * 버퍼에 모아 둔 응답을 {@link WriteListener} 로 쓴다. 출력할 수 없으면 onWritePossible 이 다시 불릴 때까지 기다린다.
+ * 다 쓰거나 실패하면 버퍼를 돌려주고 onComplete 를 한 번 부른다.
+ */
+public final class NonBlockingBodyWriter implements WriteListener {
+
+    private static final Logger log = LoggerFactory.getLogger(NonBlockingBodyWriter.class);
+
+    private final ServletOutputStream output;
+    private final BufferedBody body;
+    private final Runnable onComplete;
+    private int index;
+    private boolean flushed;
+    private boolean completed;
+
+    private NonBlockingBodyWriter(final ServletOutputStream output, final BufferedBody body, final Runnable onComplete) {
+        this.output = output;
+        this.body = body;
+        this.onComplete = onComplete;
+    }
+
+    public static void write(final ServletOutputStream output, final BufferedBody body, final Runnable onComplete) {
+        output.setWriteListener(new NonBlockingBodyWriter(output, body, onComplete));
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+        final var buffers = body.buffers();
+        while (!completed && output.isReady()) {
+            if (index < buffers.size()) {
+                final var buffer = buffers.get(index++);
+                output.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                continue;
+            }
+            if (!flushed) {
+                flushed = true;
+                output.flush();
+                continue;
+            }
+            complete();
+        }
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        log.debug("failed to write response body : {}", t.getMessage());
+        complete();
+    }
+
+    private void complete() {
+        if (completed) {
+            return;
+        }
+        completed = true;
+        body.release();
+        onComplete.run();
+    }
+}
@@ -0,0 +1,80 @@
+package com.interface21.webmvc.servlet.io;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 풀에서 빌린 버퍼를 이어 붙여 쓰는 OutputStream. 크기를 미리 알 수 없어도 배열을 다시 할당해 복사하지 않는다.
+ */
+public class PooledByteBufferOutputStream extends OutputStream {
+
+    private final ByteBufferPool pool;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private long size;
+
+    public PooledByteBufferOutputStream(final ByteBufferPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void write(final int b) {
+        writableBuffer().put((byte) b);
+        size++;
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+        var position = offset;
+        final var end = offset + length;
+        while (position < end) {
+            final var buffer = writableBuffer();
+            final var count = Math.min(end - position, buffer.remaining());
+            buffer.put(bytes, position, count);
+            position += count;
+        }
+        size += length;
+    }
+
+    /**
+     * 남은 공간이 있는 마지막 버퍼를 돌려준다. 직접 채운 경우 {@link #advance(int)} 로 쓴 만큼 알려야 한다.
+     */
+    ByteBuffer writableBuffer() {
+        if (!buffers.isEmpty()) {
+            final var last = buffers.get(buffers.size() - 1);
+            if (last.hasRemaining()) {
+                return last;
+            }
+        }
+        final var buffer = pool.acquire();
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    void advance(final int count) {
+        final var buffer = buffers.get(buffers.size() - 1);
+        buffer.position(buffer.position() + count);
+        size += count;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public void reset() {
+        buffers.forEach(pool::release);
+        buffers.clear();
+        size = 0;
+    }
+
+    /**
+     * 지금까지 쓴 내용을 읽기용 본문으로 넘긴다. 이후 이 스트림은 비어 있는 상태가 된다.
+     */
+    public BufferedBody toBody() {
+        final var body = new BufferedBody(pool, buffers.stream().map(ByteBuffer::flip).toList());
+        buffers.clear();
+        size = 0;
+        return body;
+    }
+}
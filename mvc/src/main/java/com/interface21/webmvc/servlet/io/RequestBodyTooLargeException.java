@@ -0,0 +1,12 @@
+package com.interface21.webmvc.servlet.io;
+
+import java.io.IOException;
+
+public class RequestBodyTooLargeException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public RequestBodyTooLargeException(final long maxBodySize) {
+        super("request body exceeds " + maxBodySize + " bytes");
+    }
+}
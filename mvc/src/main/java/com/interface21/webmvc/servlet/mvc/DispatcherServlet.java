@@ -1,21 +1,58 @@
 package com.interface21.webmvc.servlet.mvc;
 
+import com.interface21.core.deadline.Deadline;
+import com.interface21.core.deadline.DeadlineContext;
+import com.interface21.tracing.Tracer;
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.interface21.web.http.converter.HttpMessageConverter;
+import com.interface21.web.http.converter.HttpMessageNotReadableException;
+import com.interface21.webmvc.servlet.HandlerInterceptor;
 import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.View;
+import com.interface21.webmvc.servlet.ViewResolver;
+import com.interface21.webmvc.servlet.io.BufferedBody;
+import com.interface21.webmvc.servlet.io.BufferedBodyRequest;
+import com.interface21.webmvc.servlet.io.BufferedBodyResponse;
+import com.interface21.webmvc.servlet.io.ByteBufferPool;
+import com.interface21.webmvc.servlet.io.NonBlockingBodyReader;
+import com.interface21.webmvc.servlet.io.NonBlockingBodyWriter;
+import com.interface21.webmvc.servlet.io.RequestBodyTooLargeException;
+import com.interface21.webmvc.servlet.mvc.tobe.HandlerExecution;
+import com.interface21.webmvc.servlet.view.ContentNegotiatingView;
+import com.interface21.webmvc.servlet.view.JspViewResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 public class DispatcherServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
     private static final Logger log = LoggerFactory.getLogger(DispatcherServlet.class);
+    private static final int MAX_CACHED_INTERCEPTOR_PATHS = 1024;
 
     private final HandlerMappingRegistry handlerMappingRegistry;
     private final HandlerAdapterRegistry handlerAdapterRegistry;
     private HandlerExecutor handlerExecutor;
+    private ViewResolver viewResolver = new JspViewResolver();
+    private View contentNegotiatingView = new ContentNegotiatingView();
+    private Duration requestTimeout;
+    private List<String> warmUpRequests = List.of();
+    private NonBlockingBodyReader nonBlockingBodyReader;
+    private ByteBufferPool bufferPool = ByteBufferPool.shared();
+    private final List<MappedInterceptor> interceptors = new ArrayList<>();
+    private final Map<String, HandlerInterceptor[]> interceptorsByPath = new ConcurrentHashMap<>();
+    private Tracer tracer = Tracer.shared();
 
     public DispatcherServlet() {
         handlerMappingRegistry = new HandlerMappingRegistry();
@@ -25,6 +62,34 @@ public class DispatcherServlet extends HttpServlet {
     @Override
     public void init() {
         handlerExecutor = new HandlerExecutor(handlerAdapterRegistry);
+        handlerMappingRegistry.applyInterceptors(interceptors);
+        warmUp();
+    }
+
+    /**
+     * init 이 끝나기 전에 주어진 경로로 GET 요청을 흉내 내어 보낸다. 응답은 버린다.
+     * 부수 효과가 없는 조회 경로만 지정해야 한다.
+     */
+    public void setWarmUpRequests(final List<String> warmUpRequests) {
+        this.warmUpRequests = List.copyOf(warmUpRequests);
+    }
+
+    private void warmUp() {
+        if (warmUpRequests.isEmpty()) {
+            return;
+        }
+        final var start = System.nanoTime();
+        var failures = 0;
+        for (final var path : warmUpRequests) {
+            try {
+                dispatch(WarmUpRequests.request(path), WarmUpRequests.response());
+            } catch (ServletException | RuntimeException e) {
+                failures++;
+                log.warn("warm-up request failed : {} ({})", path, e.getMessage());
+            }
+        }
+        log.info("warm-up requests finished : {} requests, {} failures, {}ms", warmUpRequests.size(), failures,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
     public void addHandlerMapping(final HandlerMapping handlerMapping) {
@@ -35,10 +100,172 @@ public class DispatcherServlet extends HttpServlet {
         handlerAdapterRegistry.addHandlerAdapter(handlerAdapter);
     }
 
+    /**
+     * preHandle 은 등록한 순서대로, postHandle 과 afterCompletion 은 역순으로 부른다. init 전에 등록해야 한다.
+     */
+    public void addInterceptor(final MappedInterceptor interceptor) {
+        interceptors.add(interceptor);
+    }
+
+    public void addInterceptor(final HandlerInterceptor interceptor, final String... includePatterns) {
+        addInterceptor(new MappedInterceptor(interceptor, includePatterns));
+    }
+
+    public void setViewResolver(final ViewResolver viewResolver) {
+        this.viewResolver = viewResolver;
+    }
+
+    /**
+     * View 없이 모델만 돌려준 핸들러의 응답을 쓸 converter 들. 앞에 있을수록 Accept 헤더가 없을 때 우선한다.
+     */
+    public void setMessageConverters(final List<HttpMessageConverter> messageConverters) {
+        this.contentNegotiatingView = new ContentNegotiatingView(messageConverters);
+    }
+
+    /**
+     * 요청마다 마감 시각을 정한다. 요청 처리 중 실행되는 JdbcTemplate 은 남은 시간 안에서만 statement 를 실행한다.
+     */
+    public void setRequestTimeout(final Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * 지정하면 본문이 있는 JSON 요청은 servlet async 로 본문을 다 읽은 뒤에 처리하고, 응답도 버퍼에 모았다가 non-blocking 으로 쓴다.
+     * 핸들러는 평소처럼 getInputStream 과 getOutputStream 을 쓰면 된다.
+     */
+    public void setNonBlockingBodyReader(final NonBlockingBodyReader nonBlockingBodyReader) {
+        this.nonBlockingBodyReader = nonBlockingBodyReader;
+    }
+
+    public void setBufferPool(final ByteBufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    /**
+     * 요청마다 dispatch, handler, render span 을 기록한다. 들어온 traceparent 헤더가 있으면 그 trace 를 이어 간다.
+     */
+    public void setTracer(final Tracer tracer) {
+        this.tracer = tracer;
+    }
+
     @Override
     protected void service(final HttpServletRequest request, final HttpServletResponse response) throws ServletException {
         log.debug("Method : {}, Request URI : {}", request.getMethod(), request.getRequestURI());
 
+        if (nonBlockingBodyReader != null && nonBlockingBodyReader.supports(request)) {
+            serviceNonBlocking(request, response);
+            return;
+        }
+        dispatchTraced(request, response);
+    }
+
+    private void serviceNonBlocking(final HttpServletRequest request, final HttpServletResponse response) throws ServletException {
+        final var asyncContext = request.startAsync(request, response);
+        try {
+            nonBlockingBodyReader.read(request, new NonBlockingBodyReader.BodyHandler() {
+                @Override
+                public void onBody(final BufferedBody body) {
+                    dispatchBuffered(asyncContext, new BufferedBodyRequest(request, body), response);
+                }
+
+                @Override
+                public void onError(final Throwable t) {
+                    final var status = t instanceof RequestBodyTooLargeException
+                            ? HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE
+                            : HttpServletResponse.SC_BAD_REQUEST;
+                    log.debug("failed to read request body : {}", t.getMessage());
+                    sendErrorAndComplete(asyncContext, response, status);
+                }
+            });
+        } catch (IOException e) {
+            sendErrorAndComplete(asyncContext, response, HttpServletResponse.SC_BAD_REQUEST);
+        }
+    }
+
+    // 본문을 다 읽은 컨테이너 스레드에서 평소처럼 처리하고, 버퍼에 모은 응답을 non-blocking 으로 쓴다.
+    // 필터 체인이 이미 끝난 스레드이므로 요청 범위의 상태는 인터셉터의 afterCompletion 에서 정리해야 한다.
+    private void dispatchBuffered(final AsyncContext asyncContext, final BufferedBodyRequest request,
+                                  final HttpServletResponse response) {
+        final var bufferedResponse = new BufferedBodyResponse(response, bufferPool);
+        try {
+            dispatchTraced(request, bufferedResponse);
+        } catch (ServletException e) {
+            bufferedResponse.release();
+            sendErrorAndComplete(asyncContext, response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            return;
+        } finally {
+            request.getBody().release();
+        }
+        // sendError 나 sendRedirect 로 이미 커밋된 응답에는 본문을 쓰지 않는다.
+        if (response.isCommitted()) {
+            bufferedResponse.release();
+            asyncContext.complete();
+            return;
+        }
+        final var body = bufferedResponse.toBody();
+        response.setContentLengthLong(body.size());
+        try {
+            NonBlockingBodyWriter.write(response.getOutputStream(), body, asyncContext::complete);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("failed to write response body : {}", e.getMessage());
+            body.release();
+            asyncContext.complete();
+        }
+    }
+
+    private static void sendError(final HttpServletResponse response, final int status) throws ServletException {
+        try {
+            response.sendError(status);
+        } catch (IOException e) {
+            throw new ServletException(e.getMessage());
+        }
+    }
+
+    private static void sendErrorAndComplete(final AsyncContext asyncContext, final HttpServletResponse response,
+                                             final int status) {
+        try {
+            if (!response.isCommitted()) {
+                response.sendError(status);
+            }
+        } catch (IOException e) {
+            log.debug("failed to send error status {} : {}", status, e.getMessage());
+        } finally {
+            asyncContext.complete();
+        }
+    }
+
+    private void dispatchTraced(final HttpServletRequest request, final HttpServletResponse response) throws ServletException {
+        final var span = tracer.startSpan("http.dispatch", request.getHeader(Tracer.TRACEPARENT));
+        if (!span.isRecording()) {
+            dispatchWithDeadline(request, response);
+            return;
+        }
+        span.setAttribute("http.method", request.getMethod())
+                .setAttribute("http.target", request.getRequestURI());
+        try {
+            dispatchWithDeadline(request, response);
+        } catch (ServletException | RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.setAttribute("http.status_code", response.getStatus()).end();
+        }
+    }
+
+    private void dispatchWithDeadline(final HttpServletRequest request, final HttpServletResponse response) throws ServletException {
+        if (requestTimeout == null) {
+            dispatch(request, response);
+            return;
+        }
+        final var previous = DeadlineContext.set(Deadline.after(requestTimeout));
+        try {
+            dispatch(request, response);
+        } finally {
+            DeadlineContext.restore(previous);
+        }
+    }
+
+    private void dispatch(final HttpServletRequest request, final HttpServletResponse response) throws ServletException {
         try {
             final var handler = handlerMappingRegistry.getHandler(request);
             if (!handler.isPresent()) {
@@ -46,16 +273,89 @@ public class DispatcherServlet extends HttpServlet {
                 return;
             }
 
-            final var modelAndView = handlerExecutor.handle(request, response, handler.get());
-            render(modelAndView, request, response);
+            handle(request, response, handler.get());
+        } catch (HttpMessageNotReadableException e) {
+            log.debug("bad request body : {}", e.getMessage());
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST);
         } catch (Throwable e) {
             log.error("Exception : {}", e.getMessage(), e);
             throw new ServletException(e.getMessage());
         }
     }
 
+    private void handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception {
+        final var chain = getInterceptors(handler, request);
+        var applied = 0;
+        Exception failure = null;
+        try {
+            for (; applied < chain.length; applied++) {
+                if (!chain[applied].preHandle(request, response, handler)) {
+                    return;
+                }
+            }
+            final ModelAndView modelAndView;
+            try (final var span = tracer.startSpan("handler")) {
+                if (span.isRecording()) {
+                    span.setAttribute("handler", handler);
+                }
+                modelAndView = handlerExecutor.handle(request, response, handler);
+            }
+            for (int i = chain.length - 1; i >= 0; i--) {
+                chain[i].postHandle(request, response, handler, modelAndView);
+            }
+            render(modelAndView, request, response);
+        } catch (Exception e) {
+            failure = e;
+            throw e;
+        } finally {
+            triggerAfterCompletion(chain, applied, request, response, handler, failure);
+        }
+    }
+
+    // AnnotationHandlerMapping 의 핸들러는 시작할 때 정해 둔 배열을 쓰고, 경로를 미리 알 수 없는 핸들러는 경로마다 한 번만 비교한다.
+    private HandlerInterceptor[] getInterceptors(final Object handler, final HttpServletRequest request) {
+        if (handler instanceof HandlerExecution handlerExecution) {
+            return handlerExecution.getInterceptors();
+        }
+        final var path = request.getRequestURI();
+        final var cached = interceptorsByPath.get(path);
+        if (cached != null) {
+            return cached;
+        }
+        final var matched = MappedInterceptor.matching(interceptors, path);
+        if (interceptorsByPath.size() < MAX_CACHED_INTERCEPTOR_PATHS) {
+            interceptorsByPath.putIfAbsent(path, matched);
+        }
+        return matched;
+    }
+
+    private static void triggerAfterCompletion(final HandlerInterceptor[] chain, final int applied,
+                                               final HttpServletRequest request, final HttpServletResponse response,
+                                               final Object handler, final Exception failure) {
+        for (int i = applied - 1; i >= 0; i--) {
+            try {
+                chain[i].afterCompletion(request, response, handler, failure);
+            } catch (Exception e) {
+                log.warn("interceptor afterCompletion failed : {}", e.getMessage(), e);
+            }
+        }
+    }
+
     private void render(final ModelAndView modelAndView, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+        final var view = resolveView(modelAndView);
+        try (final var span = tracer.startSpan("view.render")) {
+            if (span.isRecording()) {
+                span.setAttribute("view", view.getClass().getSimpleName());
+            }
+            view.render(modelAndView.getModel(), request, response);
+        }
+    }
+
+    private View resolveView(final ModelAndView modelAndView) {
+        if (modelAndView.isReference()) {
+            return viewResolver.resolveViewName(modelAndView.getViewName());
+        }
         final var view = modelAndView.getView();
-        view.render(modelAndView.getModel(), request, response);
+        return view == null ? contentNegotiatingView : view;
     }
 }
@@ -2,9 +2,18 @@ package com.interface21.webmvc.servlet.mvc;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.util.List;
+
 public interface HandlerMapping {
 
     void initialize();
 
     Object getHandler(final HttpServletRequest request);
+
+    /**
+     * 경로를 미리 알고 있는 매핑은 핸들러마다 적용할 인터셉터를 여기서 정해 둔다.
+     * 정해 두지 않은 핸들러는 {@link DispatcherServlet} 이 요청 경로로 찾는다.
+     */
+    default void applyInterceptors(final List<MappedInterceptor> interceptors) {
+    }
 }
@@ -15,6 +15,10 @@ public class HandlerMappingRegistry {
         handlerMappings.add(handlerMapping);
     }
 
+    public void applyInterceptors(final List<MappedInterceptor> interceptors) {
+        handlerMappings.forEach(handlerMapping -> handlerMapping.applyInterceptors(interceptors));
+    }
+
     public Optional<Object> getHandler(final HttpServletRequest request) {
         return handlerMappings.stream()
                 .map(hm -> hm.getHandler(request))
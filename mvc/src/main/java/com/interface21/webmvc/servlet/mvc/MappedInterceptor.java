@@ -0,0 +1,54 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import com.interface21.webmvc.servlet.HandlerInterceptor;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 적용할 경로와 제외할 경로를 가진 인터셉터. 포함 패턴이 없으면 모든 경로에 적용한다.
+ */
+public class MappedInterceptor {
+
+    private final HandlerInterceptor interceptor;
+    private final List<PathPattern> includePatterns;
+    private final List<PathPattern> excludePatterns;
+
+    public MappedInterceptor(final HandlerInterceptor interceptor, final String... includePatterns) {
+        this(interceptor, List.of(includePatterns), List.of());
+    }
+
+    public MappedInterceptor(final HandlerInterceptor interceptor, final List<String> includePatterns,
+                             final List<String> excludePatterns) {
+        this.interceptor = Objects.requireNonNull(interceptor);
+        this.includePatterns = includePatterns.stream().map(PathPattern::compile).toList();
+        this.excludePatterns = excludePatterns.stream().map(PathPattern::compile).toList();
+    }
+
+    public boolean matches(final String path) {
+        if (excludePatterns.stream().anyMatch(pattern -> pattern.matches(path))) {
+            return false;
+        }
+        return includePatterns.isEmpty() || includePatterns.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    public HandlerInterceptor getInterceptor() {
+        return interceptor;
+    }
+
+    /**
+     * 등록 순서를 유지한 채 path 에 적용되는 인터셉터만 배열로 모은다.
+     */
+    public static HandlerInterceptor[] matching(final List<MappedInterceptor> interceptors, final String path) {
+        return interceptors.stream()
+                .filter(interceptor -> interceptor.matches(path))
+                .map(MappedInterceptor::getInterceptor)
+                .toArray(HandlerInterceptor[]::new);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedInterceptor[" + interceptor.getClass().getSimpleName()
+                + ", include=" + includePatterns + ", exclude=" + excludePatterns + "]";
+    }
+}
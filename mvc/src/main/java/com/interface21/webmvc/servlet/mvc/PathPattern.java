@@ -0,0 +1,83 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * {@code /api/**}, {@code /users/*}, {@code *.jsp} 형태의 경로 패턴. {@code *} 는 한 세그먼트 안에서, {@code **} 는 0 개 이상의 세그먼트와 맞는다.
+ */
+public final class PathPattern {
+
+    private static final String ANY_SEGMENTS = "**";
+
+    private final String pattern;
+    private final Object[] segments;
+
+    private PathPattern(final String pattern, final Object[] segments) {
+        this.pattern = pattern;
+        this.segments = segments;
+    }
+
+    public static PathPattern compile(final String pattern) {
+        final var segments = Arrays.stream(split(pattern))
+                .map(PathPattern::compileSegment)
+                .toArray();
+        return new PathPattern(pattern, segments);
+    }
+
+    // 와일드카드가 없는 세그먼트는 문자열 그대로, 있는 세그먼트만 정규식으로 바꾼다.
+    private static Object compileSegment(final String segment) {
+        if (ANY_SEGMENTS.equals(segment) || !segment.contains("*")) {
+            return segment;
+        }
+        final var regex = new StringBuilder();
+        for (final var part : segment.split("\\*", -1)) {
+            if (!regex.isEmpty()) {
+                regex.append("[^/]*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    public boolean matches(final String path) {
+        return matches(split(path), 0, 0);
+    }
+
+    private boolean matches(final String[] path, final int pathIndex, final int patternIndex) {
+        if (patternIndex == segments.length) {
+            return pathIndex == path.length;
+        }
+        final var segment = segments[patternIndex];
+        if (ANY_SEGMENTS.equals(segment)) {
+            for (int i = pathIndex; i <= path.length; i++) {
+                if (matches(path, i, patternIndex + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (pathIndex == path.length || !matchesSegment(segment, path[pathIndex])) {
+            return false;
+        }
+        return matches(path, pathIndex + 1, patternIndex + 1);
+    }
+
+    private static boolean matchesSegment(final Object segment, final String value) {
+        if (segment instanceof Pattern regex) {
+            return regex.matcher(value).matches();
+        }
+        return segment.equals(value);
+    }
+
+    private static String[] split(final String path) {
+        return Arrays.stream(path.split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,113 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 기동 시 DispatcherServlet 에 흘려 보낼 가짜 GET 요청과 결과를 버리는 응답을 만든다.
+ * 핸들러 조회, 컨트롤러, 뷰 렌더링 경로를 JIT 가 미리 컴파일하도록 하는 용도이며 실제 요청과 같은 동작을 보장하지 않는다.
+ */
+abstract class WarmUpRequests {
+
+    private WarmUpRequests() {}
+
+    static HttpServletRequest request(final String path) {
+        final var queryIndex = path.indexOf('?');
+        final var uri = queryIndex < 0 ? path : path.substring(0, queryIndex);
+        final var queryString = queryIndex < 0 ? null : path.substring(queryIndex + 1);
+        final var parameters = parseQuery(queryString);
+        final var attributes = new HashMap<String, Object>();
+        final var session = session();
+
+        return (HttpServletRequest) Proxy.newProxyInstance(WarmUpRequests.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getMethod" -> "GET";
+                    case "getRequestURI", "getServletPath" -> uri;
+                    case "getContextPath" -> "";
+                    case "getQueryString" -> queryString;
+                    case "getParameter" -> parameters.get((String) args[0]);
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                    case "removeAttribute" -> attributes.remove((String) args[0]);
+                    case "getSession" -> session;
+                    case "getHeaders" -> Collections.emptyEnumeration();
+                    case "getCharacterEncoding" -> StandardCharsets.UTF_8.name();
+                    case "toString" -> "WarmUpRequest[" + path + "]";
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    static HttpServletResponse response() {
+        final var writer = new PrintWriter(Writer.nullWriter());
+        final var outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(final int b) {
+            }
+        };
+        return (HttpServletResponse) Proxy.newProxyInstance(WarmUpRequests.class.getClassLoader(),
+                new Class<?>[]{HttpServletResponse.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getWriter" -> writer;
+                    case "getOutputStream" -> outputStream;
+                    case "getCharacterEncoding" -> StandardCharsets.UTF_8.name();
+                    case "toString" -> "WarmUpResponse";
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    private static HttpSession session() {
+        final var attributes = new HashMap<String, Object>();
+        return (HttpSession) Proxy.newProxyInstance(WarmUpRequests.class.getClassLoader(),
+                new Class<?>[]{HttpSession.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                    case "removeAttribute" -> attributes.remove((String) args[0]);
+                    case "getId" -> "warm-up";
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    private static Map<String, String> parseQuery(final String queryString) {
+        final var parameters = new HashMap<String, String>();
+        if (queryString == null || queryString.isEmpty()) {
+            return parameters;
+        }
+        for (final var pair : queryString.split("&")) {
+            final var index = pair.indexOf('=');
+            final var name = index < 0 ? pair : pair.substring(0, index);
+            final var value = index < 0 ? "" : pair.substring(index + 1);
+            parameters.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    // 원시 타입은 0 에 해당하는 값, 그 외에는 null 을 돌려준다.
+    private static Object defaultValue(final Class<?> type) {
+        if (type.isPrimitive() && type != void.class) {
+            return Array.get(Array.newInstance(type, 1), 0);
+        }
+        return null;
+    }
+}
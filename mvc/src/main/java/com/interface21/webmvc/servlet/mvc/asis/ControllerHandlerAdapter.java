@@ -2,7 +2,6 @@ package com.interface21.webmvc.servlet.mvc.asis;
 
 import com.interface21.webmvc.servlet.ModelAndView;
 import com.interface21.webmvc.servlet.mvc.HandlerAdapter;
-import com.interface21.webmvc.servlet.view.JspView;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -16,6 +15,6 @@ public class ControllerHandlerAdapter implements HandlerAdapter {
     @Override
     public ModelAndView handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception {
         final var forwardView = ((Controller) handler).execute(request, response);
-        return new ModelAndView(new JspView(forwardView));
+        return new ModelAndView(forwardView);
     }
 }
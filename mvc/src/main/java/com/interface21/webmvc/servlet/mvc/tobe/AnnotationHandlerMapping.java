@@ -1,6 +1,7 @@
 package com.interface21.webmvc.servlet.mvc.tobe;
 
 import com.interface21.webmvc.servlet.mvc.HandlerMapping;
+import com.interface21.webmvc.servlet.mvc.MappedInterceptor;
 import jakarta.servlet.http.HttpServletRequest;
 import com.interface21.web.bind.annotation.RequestMapping;
 import com.interface21.web.bind.annotation.RequestMethod;
@@ -64,6 +65,12 @@ public class AnnotationHandlerMapping implements HandlerMapping {
         return requestMappingMethods;
     }
 
+    @Override
+    public void applyInterceptors(final List<MappedInterceptor> interceptors) {
+        handlerExecutions.forEach((handlerKey, handlerExecution) ->
+                handlerExecution.setInterceptors(MappedInterceptor.matching(interceptors, handlerKey.getUrl())));
+    }
+
     public Object getHandler(final HttpServletRequest request) {
         final var requestUri = request.getRequestURI();
         final var requestMethod = RequestMethod.valueOf(request.getMethod().toUpperCase());
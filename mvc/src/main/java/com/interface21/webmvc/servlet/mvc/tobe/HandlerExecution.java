@@ -1,32 +1,88 @@
 package com.interface21.webmvc.servlet.mvc.tobe;
 
+import com.interface21.web.bind.annotation.RequestBody;
+import com.interface21.webmvc.servlet.HandlerInterceptor;
 import com.interface21.webmvc.servlet.ModelAndView;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 
 public class HandlerExecution {
 
     private static final Logger log = LoggerFactory.getLogger(HandlerExecution.class);
+    private static final HandlerInterceptor[] NO_INTERCEPTORS = new HandlerInterceptor[0];
 
     private final Object declaredObject;
     private final Method method;
+    private final HandlerMethodArgumentResolver[] argumentResolvers;
+    private volatile HandlerInterceptor[] interceptors = NO_INTERCEPTORS;
 
     public HandlerExecution(final Object declaredObject, final Method method) {
         this.declaredObject = declaredObject;
         this.method = method;
+        this.argumentResolvers = resolveArguments(method);
     }
 
-    public ModelAndView handle(final HttpServletRequest request, final HttpServletResponse response) {
+    // 파라미터마다 값을 채울 방법을 등록 시점에 정해 두고, 요청마다 배열만 순회한다.
+    private static HandlerMethodArgumentResolver[] resolveArguments(final Method method) {
+        final var parameters = method.getParameters();
+        final var resolvers = new HandlerMethodArgumentResolver[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            resolvers[i] = resolveArgument(method, parameters[i]);
+        }
+        return resolvers;
+    }
+
+    private static HandlerMethodArgumentResolver resolveArgument(final Method method, final Parameter parameter) {
+        final var requestBody = parameter.getAnnotation(RequestBody.class);
+        if (requestBody != null) {
+            return new RequestBodyArgumentResolver(parameter.getParameterizedType(), requestBody.required());
+        }
+        final var type = parameter.getType();
+        if (type == HttpServletRequest.class) {
+            return (request, response) -> request;
+        }
+        if (type == HttpServletResponse.class) {
+            return (request, response) -> response;
+        }
+        if (type == HttpSession.class) {
+            return (request, response) -> request.getSession();
+        }
+        throw new IllegalStateException("unsupported parameter " + parameter + " of " + method);
+    }
+
+    public HandlerInterceptor[] getInterceptors() {
+        return interceptors;
+    }
+
+    /**
+     * 이 핸들러의 경로에 맞는 인터셉터를 시작할 때 한 번 정해 둔다. 요청마다 패턴을 다시 비교하지 않는다.
+     */
+    public void setInterceptors(final HandlerInterceptor[] interceptors) {
+        this.interceptors = interceptors.clone();
+    }
+
+    public ModelAndView handle(final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+        final var args = new Object[argumentResolvers.length];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = argumentResolvers[i].resolve(request, response);
+        }
         try {
-            return (ModelAndView) method.invoke(declaredObject, request, response);
+            return (ModelAndView) method.invoke(declaredObject, args);
         } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
             log.error("{} method invoke fail. error message : {}", method, e.getMessage());
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public String toString() {
+        return method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+    }
 }
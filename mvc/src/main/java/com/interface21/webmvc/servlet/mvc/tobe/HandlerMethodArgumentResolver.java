@@ -0,0 +1,12 @@
+package com.interface21.webmvc.servlet.mvc.tobe;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 핸들러 메서드의 파라미터 하나를 채운다. 어떤 resolver 를 쓸지는 등록 시점에 파라미터마다 한 번만 정한다.
+ */
+@FunctionalInterface
+public interface HandlerMethodArgumentResolver {
+    Object resolve(final HttpServletRequest request, final HttpServletResponse response) throws Exception;
+}
@@ -0,0 +1,67 @@
+package com.interface21.webmvc.servlet.mvc.tobe;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.interface21.web.http.converter.HttpMessageNotReadableException;
+import com.interface21.webmvc.servlet.io.BufferedBodyRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code @RequestBody} 파라미터를 JSON 본문으로 채운다. ObjectReader 는 대상 타입마다 하나를 만들어 모든 핸들러가 공유한다.
+ * 이미 버퍼에 모아 둔 본문은 버퍼에서 바로 파싱한다. 그 외에는 Content-Length 가 작으면 그 크기의 배열로 한 번에 읽어 파싱하고,
+ * 모르거나 크면 입력 스트림에서 바로 읽는다.
+ */
+public class RequestBodyArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final int MAX_PRESIZED_BODY = 64 * 1024;
+
+    private final ObjectReader objectReader;
+    private final boolean required;
+    private final String description;
+
+    public RequestBodyArgumentResolver(final Type targetType, final boolean required) {
+        this.objectReader = readers.computeIfAbsent(targetType,
+                type -> objectMapper.readerFor(objectMapper.constructType(type)));
+        this.required = required;
+        this.description = targetType.getTypeName();
+    }
+
+    @Override
+    public Object resolve(final HttpServletRequest request, final HttpServletResponse response) {
+        final var contentLength = request.getContentLengthLong();
+        try {
+            if (contentLength == 0) {
+                return emptyBody();
+            }
+            if (request instanceof BufferedBodyRequest bufferedBodyRequest) {
+                return bufferedBodyRequest.getBody().decode(objectReader);
+            }
+            if (contentLength > 0 && contentLength <= MAX_PRESIZED_BODY) {
+                final var body = request.getInputStream().readNBytes((int) contentLength);
+                return body.length == 0 ? emptyBody() : objectReader.readValue(body);
+            }
+            final var parser = objectReader.createParser(request.getInputStream());
+            if (parser.nextToken() == null) {
+                return emptyBody();
+            }
+            return objectReader.readValue(parser);
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("failed to read request body as " + description + " : " + e.getMessage(), e);
+        }
+    }
+
+    private Object emptyBody() {
+        if (required) {
+            throw new HttpMessageNotReadableException("required request body is missing : " + description);
+        }
+        return null;
+    }
+}
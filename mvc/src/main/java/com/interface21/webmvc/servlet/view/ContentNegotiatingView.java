@@ -0,0 +1,100 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.interface21.web.http.MediaType;
+import com.interface21.web.http.converter.HttpMessageConverter;
+import com.interface21.web.http.converter.JsonStreamingSupport;
+import com.interface21.web.http.converter.MappingJacksonHttpMessageConverter;
+import com.interface21.web.http.converter.SmileHttpMessageConverter;
+import com.interface21.web.http.converter.StringHttpMessageConverter;
+import com.interface21.webmvc.servlet.View;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accept 헤더의 q 값 순서대로 쓸 수 있는 converter 를 찾아 모델을 쓴다. 맞는 converter 가 없으면 406 으로 응답한다.
+ * Accept 헤더가 없으면 첫 번째 converter 를 쓴다.
+ * 어떤 타입과 맞는 가장 구체적인 Accept 항목이 q=0 이면, 더 넓은 항목과 맞더라도 그 타입으로는 쓰지 않는다.
+ */
+public class ContentNegotiatingView implements View {
+
+    private final List<HttpMessageConverter> converters;
+
+    public ContentNegotiatingView() {
+        this(List.of(new MappingJacksonHttpMessageConverter(), new SmileHttpMessageConverter(),
+                new StringHttpMessageConverter()));
+    }
+
+    public ContentNegotiatingView(final List<HttpMessageConverter> converters) {
+        this.converters = List.copyOf(converters);
+    }
+
+    @Override
+    public void render(final Map<String, ?> model, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+        if (model == null || model.isEmpty()) {
+            return;
+        }
+        try {
+            write(toRenderObject(model), request, response);
+        } finally {
+            // 406 으로 끝나 converter 가 값을 쓰지 않았어도 queryForStream 의 Stream 은 닫아야 커넥션이 반환된다.
+            JsonStreamingSupport.closeAll(model.values());
+        }
+    }
+
+    private void write(final Object value, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+        response.addHeader("Vary", "Accept");
+
+        final var acceptedTypes = MediaType.parseMediaTypes(request.getHeader("Accept"));
+        for (final var accepted : acceptedTypes) {
+            if (accepted.getQuality() <= 0) {
+                break;
+            }
+            for (final var converter : converters) {
+                for (final var supported : converter.getSupportedMediaTypes()) {
+                    if (supported.isCompatibleWith(accepted) && !isRejected(supported, acceptedTypes)
+                            && converter.canWrite(value.getClass(), supported)) {
+                        converter.write(value, supported, response);
+                        return;
+                    }
+                }
+            }
+        }
+        response.sendError(HttpServletResponse.SC_NOT_ACCEPTABLE);
+    }
+
+    // */*, type/*, type/subtype 순으로 구체적이다. 가장 구체적으로 맞는 항목의 q 값이 그 타입의 q 값이다.
+    private static boolean isRejected(final MediaType mediaType, final List<MediaType> acceptedTypes) {
+        MediaType mostSpecific = null;
+        for (final var accepted : acceptedTypes) {
+            if (accepted.isCompatibleWith(mediaType)
+                    && (mostSpecific == null || specificity(accepted) > specificity(mostSpecific))) {
+                mostSpecific = accepted;
+            }
+        }
+        return mostSpecific != null && mostSpecific.getQuality() <= 0;
+    }
+
+    private static int specificity(final MediaType mediaType) {
+        if (mediaType.isWildcardType()) {
+            return 0;
+        }
+        return mediaType.isWildcardSubtype() ? 1 : 2;
+    }
+
+    private Object toRenderObject(final Map<String, ?> model) {
+        if (model.size() == 1) {
+            final var value = model.values().iterator().next();
+            if (value != null) {
+                return value;
+            }
+        }
+        return model;
+    }
+
+    public List<HttpMessageConverter> getConverters() {
+        return converters;
+    }
+}
@@ -1,32 +1,48 @@
 package com.interface21.webmvc.servlet.view;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.servlet.ServletOutputStream;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import com.interface21.web.http.MediaType;
+import com.interface21.web.http.converter.JsonStreamingSupport;
 import com.interface21.webmvc.servlet.View;
 
-import java.io.IOException;
 import java.util.Map;
 
+/**
+ * 모델 값이 Iterator 나 Stream 이면 목록으로 모으지 않고 JSON 배열로 흘려 쓴다.
+ * JdbcTemplate.queryForStream 의 결과를 넘기면 ResultSet 에서 소켓까지 한 행씩 전달되고, 다 쓰거나 실패하면 Stream 을 닫는다.
+ */
 public class JsonView implements View {
 
+    private static final ObjectWriter objectWriter = new ObjectMapper().writer();
+
+    private final int flushInterval;
+
+    public JsonView() {
+        this(JsonStreamingSupport.DEFAULT_FLUSH_INTERVAL);
+    }
+
+    public JsonView(final int flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
     @Override
     public void render(final Map<String, ?> model, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
         if (model == null || model.isEmpty()) {
             return;
         }
 
-        response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
-
-        final Object renderObject = toJsonObject(model);
-        render(renderObject, response.getOutputStream());
-    }
+        try {
+            response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
 
-    private void render(final Object renderObject, final ServletOutputStream outputStream) throws IOException {
-        final ObjectMapper mapper = new ObjectMapper();
-        mapper.writeValue(outputStream, renderObject);
+            final Object renderObject = toJsonObject(model);
+            JsonStreamingSupport.write(objectWriter, renderObject, response.getOutputStream(), flushInterval);
+        } finally {
+            // 쓰기 전에 실패했거나 여러 값 중 일부만 썼더라도 Stream 값은 모두 닫는다.
+            JsonStreamingSupport.closeAll(model.values());
+        }
     }
 
     private Object toJsonObject(final Map<String, ?> model) {
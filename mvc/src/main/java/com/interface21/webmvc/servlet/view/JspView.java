@@ -1,5 +1,6 @@
 package com.interface21.webmvc.servlet.view;
 
+import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
@@ -9,6 +10,10 @@ import com.interface21.webmvc.servlet.View;
 import java.util.Map;
 import java.util.Objects;
 
+/**
+ * redirect 여부와 이동할 경로는 생성 시점에 한 번만 판단한다.
+ * 절대 경로로 forward 하는 경우 ServletContext 의 RequestDispatcher 를 처음 얻은 뒤 재사용한다.
+ */
 public class JspView implements View {
 
     private static final Logger log = LoggerFactory.getLogger(JspView.class);
@@ -16,25 +21,52 @@ public class JspView implements View {
     public static final String REDIRECT_PREFIX = "redirect:";
 
     private final String viewName;
+    private final boolean redirect;
+    private final String path;
+    private volatile RequestDispatcher requestDispatcher;
 
     public JspView(final String viewName) {
         this.viewName = Objects.requireNonNull(viewName, "viewName is null. 이동할 URL을 입력하세요.");
+        this.redirect = viewName.startsWith(REDIRECT_PREFIX);
+        this.path = redirect ? viewName.substring(REDIRECT_PREFIX.length()) : viewName;
     }
 
     @Override
     public void render(final Map<String, ?> model, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
         log.debug("ViewName : {}", viewName);
-        if (viewName.startsWith(REDIRECT_PREFIX)) {
-            response.sendRedirect(viewName.substring(REDIRECT_PREFIX.length()));
+        if (redirect) {
+            response.sendRedirect(path);
             return;
         }
 
-        model.keySet().forEach(key -> {
-            log.debug("attribute name : {}, value : {}", key, model.get(key));
-            request.setAttribute(key, model.get(key));
-        });
+        for (final var entry : model.entrySet()) {
+            log.debug("attribute name : {}, value : {}", entry.getKey(), entry.getValue());
+            request.setAttribute(entry.getKey(), entry.getValue());
+        }
+
+        getRequestDispatcher(request).forward(request, response);
+    }
+
+    // 상대 경로는 요청 URI 에 따라 대상이 달라지므로 캐시하지 않는다.
+    private RequestDispatcher getRequestDispatcher(final HttpServletRequest request) {
+        final var cached = requestDispatcher;
+        if (cached != null) {
+            return cached;
+        }
+        final var servletContext = request.getServletContext();
+        if (!path.startsWith("/") || servletContext == null) {
+            return request.getRequestDispatcher(path);
+        }
+        final var dispatcher = servletContext.getRequestDispatcher(path);
+        requestDispatcher = dispatcher;
+        return dispatcher;
+    }
+
+    public String getViewName() {
+        return viewName;
+    }
 
-        final var requestDispatcher = request.getRequestDispatcher(viewName);
-        requestDispatcher.forward(request, response);
+    public boolean isRedirect() {
+        return redirect;
     }
 }
@@ -0,0 +1,39 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.interface21.webmvc.servlet.View;
+import com.interface21.webmvc.servlet.ViewResolver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 뷰 이름마다 {@link JspView} 를 한 번만 만들어 재사용한다. JspView 는 불변이라 요청 사이에 공유해도 안전하다.
+ * 캐시가 maxCacheSize 에 이르면 이후의 이름은 캐시하지 않고 매번 새로 만든다.
+ */
+public class JspViewResolver implements ViewResolver {
+
+    private static final int DEFAULT_MAX_CACHE_SIZE = 1024;
+
+    private final int maxCacheSize;
+    private final Map<String, View> views = new ConcurrentHashMap<>();
+
+    public JspViewResolver() {
+        this(DEFAULT_MAX_CACHE_SIZE);
+    }
+
+    public JspViewResolver(final int maxCacheSize) {
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    @Override
+    public View resolveViewName(final String viewName) {
+        final var cached = views.get(viewName);
+        if (cached != null) {
+            return cached;
+        }
+        if (views.size() >= maxCacheSize) {
+            return new JspView(viewName);
+        }
+        return views.computeIfAbsent(viewName, JspView::new);
+    }
+}
@@ -0,0 +1,328 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 핸들러가 반환한 뒤에도 응답을 이어 쓰는 emitter. {@link StreamingView} 가 servlet async 를 시작하고 연결한다.
+ * <p>
+ * send 는 어느 스레드에서 불러도 되며, 인코딩한 조각을 큐에 넣고 출력이 가능할 때만 쓴다. 출력할 수 없으면
+ * {@link WriteListener#onWritePossible()} 이 다시 불릴 때까지 기다리므로 느린 클라이언트가 스레드를 붙잡지 않는다.
+ * 쓰지 못한 바이트가 maxPendingBytes 를 넘으면 연결을 끊는다.
+ * <p>
+ * 하트비트는 모든 emitter 가 공유하는 스케줄러 하나가 보내며, 마지막 쓰기 이후 heartbeatInterval 동안 조용했던 연결에만 보낸다.
+ */
+public class ResponseBodyEmitter {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseBodyEmitter.class);
+
+    private static final ObjectWriter objectWriter = new ObjectMapper().writer();
+    private static final int DEFAULT_MAX_PENDING_BYTES = 1024 * 1024;
+    private static final long HEARTBEAT_TICK_MILLIS = 1_000L;
+    private static final Set<ResponseBodyEmitter> heartbeatTargets = ConcurrentHashMap.newKeySet();
+
+    private static volatile ScheduledExecutorService heartbeatScheduler;
+
+    private final String contentType;
+    private final long timeoutMillis;
+    private final long heartbeatIntervalNanos;
+    private final int maxPendingBytes;
+    private final Queue<byte[]> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingBytes = new AtomicLong();
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final List<Runnable> completionCallbacks = new ArrayList<>();
+
+    private volatile AsyncContext asyncContext;
+    private volatile ServletOutputStream outputStream;
+    private volatile boolean completeRequested;
+    private volatile long lastWriteNanos = System.nanoTime();
+    private boolean flushNeeded;
+
+    /**
+     * heartbeatInterval 이 0 이거나 {@link #heartbeat()} 가 null 이면 하트비트를 보내지 않는다.
+     */
+    public ResponseBodyEmitter(final String contentType, final Duration timeout, final Duration heartbeatInterval) {
+        this(contentType, timeout, heartbeatInterval, DEFAULT_MAX_PENDING_BYTES);
+    }
+
+    public ResponseBodyEmitter(final String contentType, final Duration timeout, final Duration heartbeatInterval,
+                               final int maxPendingBytes) {
+        this.contentType = contentType;
+        this.timeoutMillis = timeout.toMillis();
+        this.heartbeatIntervalNanos = heartbeatInterval.toNanos();
+        this.maxPendingBytes = maxPendingBytes;
+    }
+
+    /**
+     * 문자열은 그대로, 나머지 객체는 JSON 으로 쓴다.
+     */
+    public void send(final Object data) throws IOException {
+        enqueue(encode(data));
+    }
+
+    public void complete() {
+        completeRequested = true;
+        drainQuietly();
+    }
+
+    public void completeWithError(final Throwable cause) {
+        log.debug("emitter completed with error : {}", cause.getMessage());
+        close();
+    }
+
+    /**
+     * 클라이언트가 끊거나 시간이 초과되거나 complete 된 뒤 한 번 불린다.
+     */
+    public void onCompletion(final Runnable callback) {
+        synchronized (completionCallbacks) {
+            if (!closed.get()) {
+                completionCallbacks.add(callback);
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    protected byte[] encode(final Object data) throws IOException {
+        if (data instanceof byte[] bytes) {
+            return bytes;
+        }
+        return toText(data).getBytes(StandardCharsets.UTF_8);
+    }
+
+    protected static String toText(final Object data) throws JsonProcessingException {
+        if (data instanceof CharSequence text) {
+            return text.toString();
+        }
+        return objectWriter.writeValueAsString(data);
+    }
+
+    /**
+     * 연결이 조용할 때 보낼 바이트. null 이면 하트비트를 보내지 않는다.
+     */
+    protected byte[] heartbeat() {
+        return null;
+    }
+
+    protected final void enqueue(final byte[] chunk) throws IOException {
+        if (closed.get() || completeRequested) {
+            throw new IllegalStateException("emitter already completed");
+        }
+        if (pendingBytes.addAndGet(chunk.length) > maxPendingBytes) {
+            close();
+            throw new IOException("client is too slow, pending bytes exceeded " + maxPendingBytes);
+        }
+        pending.add(chunk);
+        drain();
+    }
+
+    void attach(final AsyncContext asyncContext, final ServletOutputStream outputStream) {
+        this.asyncContext = asyncContext;
+        // 연결하기 전에 completeWithError 나 maxPendingBytes 초과로 닫혔다면 close 가 끝낼 async 가 없었으므로 여기서 끝낸다.
+        // close 가 asyncContext 를 저장한 뒤에 불렸다면 양쪽에서 complete 할 수 있으므로 이미 끝난 경우는 무시한다.
+        if (closed.get()) {
+            completeQuietly(asyncContext);
+            return;
+        }
+        asyncContext.setTimeout(timeoutMillis);
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(final AsyncEvent event) {
+                close();
+            }
+
+            @Override
+            public void onTimeout(final AsyncEvent event) {
+                close();
+            }
+
+            @Override
+            public void onError(final AsyncEvent event) {
+                close();
+            }
+
+            @Override
+            public void onStartAsync(final AsyncEvent event) {
+                // 다시 async 를 시작하는 경우는 없다.
+            }
+        });
+        if (heartbeatIntervalNanos > 0 && heartbeat() != null) {
+            heartbeatTargets.add(this);
+            scheduler();
+        }
+        // WriteListener 를 등록하기 전에는 isReady 를 부를 수 없으므로 등록한 뒤에 다른 스레드의 send 가 쓰도록 연다.
+        // 등록하면 컨테이너가 onWritePossible 을 불러 그 전에 쌓인 조각을 쓴다.
+        outputStream.setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() throws IOException {
+                drain(outputStream);
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                log.debug("streaming response failed : {}", t.getMessage());
+                close();
+            }
+        });
+        this.outputStream = outputStream;
+        drainQuietly();
+    }
+
+    // 한 번에 한 스레드만 쓴다. 쓰는 동안 다른 스레드가 넣은 조각은 잠금을 놓은 뒤 다시 확인해 놓치지 않는다.
+    private void drain() throws IOException {
+        final var out = outputStream;
+        if (out != null) {
+            drain(out);
+        }
+    }
+
+    private void drain(final ServletOutputStream out) throws IOException {
+        while (writing.compareAndSet(false, true)) {
+            final boolean ready;
+            try {
+                ready = writeAvailable(out);
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            } finally {
+                writing.set(false);
+            }
+            if (!ready || pending.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    // isReady 가 false 를 돌려주면 onWritePossible 이 다시 불릴 때까지 쓰지 않고 false 를 돌려준다.
+    private boolean writeAvailable(final ServletOutputStream out) throws IOException {
+        while (out.isReady()) {
+            final var chunk = pending.poll();
+            if (chunk != null) {
+                out.write(chunk);
+                pendingBytes.addAndGet(-chunk.length);
+                lastWriteNanos = System.nanoTime();
+                flushNeeded = true;
+                continue;
+            }
+            if (flushNeeded) {
+                flushNeeded = false;
+                out.flush();
+                continue;
+            }
+            if (completeRequested) {
+                close();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (IOException e) {
+            log.debug("failed to write streaming response : {}", e.getMessage());
+        }
+    }
+
+    private void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        heartbeatTargets.remove(this);
+        pending.clear();
+        pendingBytes.set(0);
+        final var context = asyncContext;
+        if (context != null) {
+            completeQuietly(context);
+        }
+        final List<Runnable> callbacks;
+        synchronized (completionCallbacks) {
+            callbacks = List.copyOf(completionCallbacks);
+            completionCallbacks.clear();
+        }
+        for (final var callback : callbacks) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                log.warn("emitter completion callback failed", e);
+            }
+        }
+    }
+
+    private static void completeQuietly(final AsyncContext context) {
+        try {
+            context.complete();
+        } catch (IllegalStateException e) {
+            // 이미 끝난 요청이다.
+        }
+    }
+
+    void sendHeartbeatIfIdle(final long now) {
+        if (now - lastWriteNanos < heartbeatIntervalNanos || !pending.isEmpty()) {
+            return;
+        }
+        try {
+            lastWriteNanos = now;
+            enqueue(heartbeat());
+        } catch (IOException | IllegalStateException e) {
+            heartbeatTargets.remove(this);
+        }
+    }
+
+    private static void scheduler() {
+        if (heartbeatScheduler == null) {
+            synchronized (ResponseBodyEmitter.class) {
+                if (heartbeatScheduler == null) {
+                    final var scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        final var thread = new Thread(runnable, "response-body-emitter-heartbeat");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    scheduler.scheduleAtFixedRate(ResponseBodyEmitter::sendHeartbeats,
+                            HEARTBEAT_TICK_MILLIS, HEARTBEAT_TICK_MILLIS, TimeUnit.MILLISECONDS);
+                    heartbeatScheduler = scheduler;
+                }
+            }
+        }
+    }
+
+    private static void sendHeartbeats() {
+        final var now = System.nanoTime();
+        for (final var emitter : heartbeatTargets) {
+            emitter.sendHeartbeatIfIdle(now);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.interface21.webmvc.servlet.view;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * text/event-stream 형식으로 이벤트를 보내는 emitter. 여러 줄 데이터는 줄마다 data: 를 붙이고,
+ * 조용한 연결에는 주석 줄을 하트비트로 보내 프록시가 연결을 끊지 않도록 한다.
+ */
+public class SseEmitter extends ResponseBodyEmitter {
+
+    public static final String TEXT_EVENT_STREAM_VALUE = "text/event-stream;charset=UTF-8";
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+
+    public SseEmitter() {
+        this(DEFAULT_TIMEOUT);
+    }
+
+    public SseEmitter(final Duration timeout) {
+        this(timeout, DEFAULT_HEARTBEAT_INTERVAL);
+    }
+
+    public SseEmitter(final Duration timeout, final Duration heartbeatInterval) {
+        super(TEXT_EVENT_STREAM_VALUE, timeout, heartbeatInterval);
+    }
+
+    public void send(final String eventName, final Object data) throws IOException {
+        send(null, eventName, data);
+    }
+
+    /**
+     * id 와 eventName 은 null 이면 생략한다. 클라이언트는 다시 연결할 때 마지막 id 를 Last-Event-ID 헤더로 보낸다.
+     */
+    public void send(final String id, final String eventName, final Object data) throws IOException {
+        final var event = new StringBuilder();
+        if (id != null) {
+            appendField(event, "id", id);
+        }
+        if (eventName != null) {
+            appendField(event, "event", eventName);
+        }
+        appendData(event, toText(data));
+        enqueue(event.append('\n').toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    protected byte[] encode(final Object data) throws IOException {
+        final var event = new StringBuilder();
+        appendData(event, toText(data));
+        return event.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected byte[] heartbeat() {
+        return HEARTBEAT;
+    }
+
+    private static void appendField(final StringBuilder event, final String name, final String value) {
+        if (value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException(name + " must not contain line breaks : " + value);
+        }
+        event.append(name).append(": ").append(value).append('\n');
+    }
+
+    private static void appendData(final StringBuilder event, final String data) {
+        for (final var line : data.split("\r\n|\r|\n", -1)) {
+            event.append("data: ").append(line).append('\n');
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.interface21.webmvc.servlet.View;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * servlet async 를 시작해 응답을 {@link ResponseBodyEmitter} 에 넘긴다. 요청 스레드는 render 가 끝나면 바로 반환된다.
+ * DispatcherServlet 과 그 앞의 필터가 async 를 지원하도록 등록되어 있어야 한다.
+ */
+public class StreamingView implements View {
+
+    private final ResponseBodyEmitter emitter;
+
+    public StreamingView(final ResponseBodyEmitter emitter) {
+        this.emitter = Objects.requireNonNull(emitter);
+    }
+
+    @Override
+    public void render(final Map<String, ?> model, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+        response.setContentType(emitter.getContentType());
+        response.setHeader("Cache-Control", "no-cache");
+        // nginx 같은 프록시가 응답을 모았다가 보내지 않도록 한다.
+        response.setHeader("X-Accel-Buffering", "no");
+        response.flushBuffer();
+
+        final var asyncContext = request.startAsync(request, response);
+        emitter.attach(asyncContext, response.getOutputStream());
+    }
+
+    public ResponseBodyEmitter getEmitter() {
+        return emitter;
+    }
+}
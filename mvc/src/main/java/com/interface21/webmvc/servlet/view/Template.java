@@ -0,0 +1,355 @@
+package com.interface21.webmvc.servlet.view;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * mustache 문법의 일부를 지원하는 템플릿. 한 번 컴파일한 노드 트리를 여러 요청이 공유한다.
+ * <ul>
+ *     <li>{@code {{name}}} HTML 이스케이프 후 출력, {@code {{{name}}}} 그대로 출력</li>
+ *     <li>{@code {{#name}}...{{/name}}} 값이 컬렉션이면 반복, 참이면 한 번 출력</li>
+ *     <li>{@code {{^name}}...{{/name}}} 값이 없거나 거짓이거나 비어 있을 때만 출력</li>
+ *     <li>{@code {{> name}}} 다른 템플릿을 컴파일 시점에 끼워 넣는다</li>
+ *     <li>{@code {{! comment}}} 주석</li>
+ * </ul>
+ * 정적 텍스트는 컴파일할 때 UTF-8 바이트로 인코딩해 두고, 렌더링할 때는 값만 인코딩한다.
+ */
+public final class Template {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int MAX_PARTIAL_DEPTH = 16;
+    private static final Object MISSING = new Object();
+
+    private static final ClassValue<Map<String, Optional<Member>>> accessors = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<Member>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String name;
+    private final Node[] nodes;
+
+    private Template(final String name, final Node[] nodes) {
+        this.name = name;
+        this.nodes = nodes;
+    }
+
+    /**
+     * partialLoader 는 {@code {{> name}}} 의 원문을 돌려주며, 찾지 못하면 null 을 돌려준다.
+     */
+    public static Template compile(final String name, final String source, final Function<String, String> partialLoader) {
+        return new Template(name, new Parser(name, partialLoader).parse(source, 0));
+    }
+
+    public static Template compile(final String name, final String source) {
+        return compile(name, source, partial -> null);
+    }
+
+    public void render(final Map<String, ?> model, final OutputStream out) throws IOException {
+        renderAll(nodes, new Scope(model, null), out);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private static void renderAll(final Node[] nodes, final Scope scope, final OutputStream out) throws IOException {
+        for (final var node : nodes) {
+            node.render(scope, out);
+        }
+    }
+
+    private sealed interface Node permits Text, Variable, Section {
+        void render(Scope scope, OutputStream out) throws IOException;
+    }
+
+    private record Text(byte[] bytes) implements Node {
+
+        @Override
+        public void render(final Scope scope, final OutputStream out) throws IOException {
+            out.write(bytes);
+        }
+    }
+
+    private record Variable(String[] path, boolean escape) implements Node {
+
+        @Override
+        public void render(final Scope scope, final OutputStream out) throws IOException {
+            final var value = scope.lookup(path);
+            if (value == null) {
+                return;
+            }
+            final var text = value.toString();
+            out.write((escape ? escapeHtml(text) : text).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private record Section(String[] path, boolean inverted, Node[] children) implements Node {
+
+        @Override
+        public void render(final Scope scope, final OutputStream out) throws IOException {
+            final var value = scope.lookup(path);
+            if (inverted) {
+                if (isFalsy(value)) {
+                    renderAll(children, scope, out);
+                }
+                return;
+            }
+            if (isFalsy(value)) {
+                return;
+            }
+            if (value instanceof Boolean) {
+                renderAll(children, scope, out);
+            } else if (value instanceof Iterable<?> iterable) {
+                for (final var element : iterable) {
+                    renderAll(children, new Scope(element, scope), out);
+                }
+            } else if (value.getClass().isArray()) {
+                final var length = Array.getLength(value);
+                for (int i = 0; i < length; i++) {
+                    renderAll(children, new Scope(Array.get(value, i), scope), out);
+                }
+            } else {
+                renderAll(children, new Scope(value, scope), out);
+            }
+        }
+
+        private static boolean isFalsy(final Object value) {
+            if (value == null || Boolean.FALSE.equals(value)) {
+                return true;
+            }
+            if (value instanceof Collection<?> collection) {
+                return collection.isEmpty();
+            }
+            if (value instanceof Map<?, ?> map) {
+                return map.isEmpty();
+            }
+            return value.getClass().isArray() && Array.getLength(value) == 0;
+        }
+    }
+
+    private record Scope(Object value, Scope parent) {
+
+        // 첫 번째 이름은 안쪽 scope 부터 찾고, 나머지 이름은 찾은 값의 속성으로 따라간다.
+        private Object lookup(final String[] path) {
+            if (path.length == 0) {
+                return value;
+            }
+            Object current = null;
+            for (var scope = this; scope != null; scope = scope.parent) {
+                final var found = property(scope.value, path[0]);
+                if (found != MISSING) {
+                    current = found;
+                    break;
+                }
+            }
+            for (int i = 1; i < path.length && current != null; i++) {
+                final var found = property(current, path[i]);
+                current = found == MISSING ? null : found;
+            }
+            return current;
+        }
+    }
+
+    private static Object property(final Object target, final String property) {
+        if (target == null) {
+            return MISSING;
+        }
+        if (target instanceof Map<?, ?> map) {
+            final var value = map.get(property);
+            return value != null || map.containsKey(property) ? value : MISSING;
+        }
+        final var accessor = accessor(target.getClass(), property);
+        if (accessor.isEmpty()) {
+            return MISSING;
+        }
+        try {
+            if (accessor.get() instanceof Method method) {
+                return method.invoke(target);
+            }
+            return ((Field) accessor.get()).get(target);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("failed to read property '" + property + "' of " + target.getClass().getName(), e);
+        }
+    }
+
+    // getter, record 접근자, public 필드 순으로 찾고 결과를 클래스마다 캐시한다.
+    private static Optional<Member> accessor(final Class<?> type, final String property) {
+        return accessors.get(type).computeIfAbsent(property, key -> findAccessor(type, key));
+    }
+
+    private static Optional<Member> findAccessor(final Class<?> type, final String property) {
+        final var capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (final var candidate : List.of("get" + capitalized, "is" + capitalized, property)) {
+            try {
+                final var method = type.getMethod(candidate);
+                if (method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers())) {
+                    method.trySetAccessible();
+                    return Optional.of(method);
+                }
+            } catch (NoSuchMethodException ignored) {
+                // 다음 후보를 찾는다.
+            }
+        }
+        try {
+            return Optional.of(type.getField(property));
+        } catch (NoSuchFieldException e) {
+            return Optional.empty();
+        }
+    }
+
+    static String escapeHtml(final String text) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            final var replacement = switch (text.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement == null) {
+                if (escaped != null) {
+                    escaped.append(text.charAt(i));
+                }
+                continue;
+            }
+            if (escaped == null) {
+                escaped = new StringBuilder(text.length() + 16).append(text, 0, i);
+            }
+            escaped.append(replacement);
+        }
+        return escaped == null ? text : escaped.toString();
+    }
+
+    private static final class Parser {
+
+        private final String templateName;
+        private final Function<String, String> partialLoader;
+
+        private Parser(final String templateName, final Function<String, String> partialLoader) {
+            this.templateName = templateName;
+            this.partialLoader = partialLoader;
+        }
+
+        private Node[] parse(final String source, final int depth) {
+            final var root = new ArrayList<Node>();
+            final var open = new ArrayDeque<OpenSection>();
+            List<Node> children = root;
+            final var text = new StringBuilder();
+            int position = 0;
+
+            while (position < source.length()) {
+                final var start = source.indexOf(OPEN, position);
+                if (start < 0) {
+                    text.append(source, position, source.length());
+                    break;
+                }
+                text.append(source, position, start);
+                final var triple = source.startsWith("{{{", start);
+                final var end = source.indexOf(triple ? "}}}" : CLOSE, start);
+                if (end < 0) {
+                    throw error("unclosed tag", start);
+                }
+                final var tag = source.substring(start + (triple ? 3 : 2), end).trim();
+                position = end + (triple ? 3 : 2);
+                if (tag.isEmpty()) {
+                    throw error("empty tag", start);
+                }
+                if (tag.charAt(0) == '!') {
+                    continue;
+                }
+                flush(text, children);
+
+                if (triple || tag.charAt(0) == '&') {
+                    children.add(new Variable(path(triple ? tag : tag.substring(1).trim()), false));
+                } else if (tag.charAt(0) == '#' || tag.charAt(0) == '^') {
+                    final var section = new OpenSection(tag.substring(1).trim(), tag.charAt(0) == '^', children, start);
+                    open.push(section);
+                    children = section.children;
+                } else if (tag.charAt(0) == '/') {
+                    final var sectionName = tag.substring(1).trim();
+                    final var section = open.poll();
+                    if (section == null || !section.name.equals(sectionName)) {
+                        throw error("unexpected closing tag {{/" + sectionName + "}}", start);
+                    }
+                    children = section.parent;
+                    children.add(new Section(path(section.name), section.inverted, section.children.toArray(Node[]::new)));
+                } else if (tag.charAt(0) == '>') {
+                    children.addAll(List.of(partial(tag.substring(1).trim(), depth, start)));
+                } else {
+                    children.add(new Variable(path(tag), true));
+                }
+            }
+            if (!open.isEmpty()) {
+                throw error("unclosed section {{#" + open.peek().name + "}}", open.peek().position);
+            }
+            flush(text, children);
+            return root.toArray(Node[]::new);
+        }
+
+        private Node[] partial(final String partialName, final int depth, final int position) {
+            if (depth >= MAX_PARTIAL_DEPTH) {
+                throw error("partials nested too deeply at {{> " + partialName + "}}", position);
+            }
+            final var source = partialLoader.apply(partialName);
+            if (source == null) {
+                throw error("partial not found : " + partialName, position);
+            }
+            return parse(source, depth + 1);
+        }
+
+        private static void flush(final StringBuilder text, final List<Node> children) {
+            if (text.isEmpty()) {
+                return;
+            }
+            children.add(new Text(text.toString().getBytes(StandardCharsets.UTF_8)));
+            text.setLength(0);
+        }
+
+        private static String[] path(final String name) {
+            if (".".equals(name)) {
+                return new String[0];
+            }
+            return name.split("\\.");
+        }
+
+        private IllegalArgumentException error(final String message, final int position) {
+            return new IllegalArgumentException(message + " in template '" + templateName + "' at " + position);
+        }
+    }
+
+    private static final class OpenSection {
+
+        private final String name;
+        private final boolean inverted;
+        private final List<Node> parent;
+        private final List<Node> children = new ArrayList<>();
+        private final int position;
+
+        private OpenSection(final String name, final boolean inverted, final List<Node> parent, final int position) {
+            this.name = name;
+            this.inverted = inverted;
+            this.parent = parent;
+            this.position = position;
+        }
+    }
+}
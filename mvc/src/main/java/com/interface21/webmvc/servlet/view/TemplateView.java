@@ -0,0 +1,31 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.interface21.web.http.MediaType;
+import com.interface21.webmvc.servlet.View;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 컴파일된 {@link Template} 을 forward 없이 응답 스트림에 바로 쓴다. 템플릿은 불변이라 요청 사이에 공유한다.
+ */
+public class TemplateView implements View {
+
+    private final Template template;
+
+    public TemplateView(final Template template) {
+        this.template = Objects.requireNonNull(template);
+    }
+
+    @Override
+    public void render(final Map<String, ?> model, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+        response.setContentType(MediaType.TEXT_HTML_UTF8_VALUE);
+        template.render(model, response.getOutputStream());
+    }
+
+    public Template getTemplate() {
+        return template;
+    }
+}
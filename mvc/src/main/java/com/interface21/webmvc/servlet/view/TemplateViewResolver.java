@@ -0,0 +1,81 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.interface21.webmvc.servlet.View;
+import com.interface21.webmvc.servlet.ViewResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 뷰 이름을 classpath 의 prefix + 이름 + suffix 템플릿으로 찾아 한 번만 컴파일한다.
+ * {@code redirect:} 로 시작하는 이름은 {@link JspView} 가 redirect 로 처리한다.
+ */
+public class TemplateViewResolver implements ViewResolver {
+
+    private static final String DEFAULT_PREFIX = "templates/";
+    private static final String DEFAULT_SUFFIX = ".html";
+    private static final int DEFAULT_MAX_CACHE_SIZE = 1024;
+
+    private final String prefix;
+    private final String suffix;
+    private final int maxCacheSize;
+    private final ClassLoader classLoader;
+    private final Map<String, View> views = new ConcurrentHashMap<>();
+
+    public TemplateViewResolver() {
+        this(DEFAULT_PREFIX, DEFAULT_SUFFIX);
+    }
+
+    public TemplateViewResolver(final String prefix, final String suffix) {
+        this(prefix, suffix, DEFAULT_MAX_CACHE_SIZE);
+    }
+
+    public TemplateViewResolver(final String prefix, final String suffix, final int maxCacheSize) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.maxCacheSize = maxCacheSize;
+        this.classLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    @Override
+    public View resolveViewName(final String viewName) {
+        final var cached = views.get(viewName);
+        if (cached != null) {
+            return cached;
+        }
+        if (views.size() >= maxCacheSize) {
+            return createView(viewName);
+        }
+        return views.computeIfAbsent(viewName, this::createView);
+    }
+
+    private View createView(final String viewName) {
+        if (viewName.startsWith(JspView.REDIRECT_PREFIX)) {
+            return new JspView(viewName);
+        }
+        final var source = load(viewName);
+        if (source == null) {
+            throw new IllegalArgumentException("template not found : " + resourceName(viewName));
+        }
+        return new TemplateView(Template.compile(viewName, source, this::load));
+    }
+
+    private String load(final String name) {
+        try (final var input = classLoader.getResourceAsStream(resourceName(name))) {
+            if (input == null) {
+                return null;
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read template : " + resourceName(name), e);
+        }
+    }
+
+    private String resourceName(final String name) {
+        final var relative = name.startsWith("/") ? name.substring(1) : name;
+        return prefix + relative + suffix;
+    }
+}
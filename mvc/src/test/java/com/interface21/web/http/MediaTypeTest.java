@@ -0,0 +1,100 @@
+package com.interface21.web.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MediaTypeTest {
+
+    @Test
+    void parseParameters() {
+        final var mediaType = MediaType.valueOf("Text/HTML; charset=\"utf-8\"; q=0.7");
+
+        assertThat(mediaType.getType()).isEqualTo("text");
+        assertThat(mediaType.getSubtype()).isEqualTo("html");
+        assertThat(mediaType.getCharset()).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(mediaType.getQuality()).isEqualTo(0.7);
+        assertThat(mediaType.toString()).isEqualTo("text/html;charset=UTF-8");
+    }
+
+    @Test
+    void parseSingleWildcard() {
+        assertThat(MediaType.valueOf("*")).isEqualTo(MediaType.ALL);
+        assertThat(MediaType.valueOf("*/*")).isEqualTo(MediaType.ALL);
+    }
+
+    @Test
+    void rejectInvalidMediaType() {
+        assertThatThrownBy(() -> MediaType.valueOf("application"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MediaType.valueOf("/json"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MediaType.valueOf("application/"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void orderByQuality() {
+        final var mediaTypes = MediaType.parseMediaTypes(
+                "text/plain;q=0.5, application/json, application/x-jackson-smile;q=0.8");
+
+        assertThat(names(mediaTypes)).containsExactly("application/json", "application/x-jackson-smile", "text/plain");
+    }
+
+    @Test
+    void moreSpecificTypeWinsOnEqualQuality() {
+        final var mediaTypes = MediaType.parseMediaTypes("*/*, application/*, application/json");
+
+        assertThat(names(mediaTypes)).containsExactly("application/json", "application/*", "*/*");
+    }
+
+    @Test
+    void keepHeaderOrderOnEqualQualityAndSpecificity() {
+        final var mediaTypes = MediaType.parseMediaTypes("text/html, application/json;q=1.0, text/plain");
+
+        assertThat(names(mediaTypes)).containsExactly("text/html", "application/json", "text/plain");
+    }
+
+    @Test
+    void keepZeroQualityEntriesLast() {
+        final var mediaTypes = MediaType.parseMediaTypes("application/json;q=0, */*;q=0.1");
+
+        assertThat(names(mediaTypes)).containsExactly("*/*", "application/json");
+        assertThat(mediaTypes.get(1).getQuality()).isZero();
+    }
+
+    @Test
+    void skipMalformedEntries() {
+        final var mediaTypes = MediaType.parseMediaTypes(
+                "application, /json, text/, text/html;q=abc, text/plain;charset=nope, , application/json");
+
+        assertThat(names(mediaTypes)).containsExactly("application/json");
+    }
+
+    @Test
+    void acceptEverythingWithoutHeader() {
+        assertThat(MediaType.parseMediaTypes(null)).containsExactly(MediaType.ALL);
+        assertThat(MediaType.parseMediaTypes(" ")).containsExactly(MediaType.ALL);
+    }
+
+    @Test
+    void compatibility() {
+        final var json = MediaType.APPLICATION_JSON;
+
+        assertThat(json.isCompatibleWith(MediaType.ALL)).isTrue();
+        assertThat(json.isCompatibleWith(MediaType.valueOf("application/*"))).isTrue();
+        assertThat(json.isCompatibleWith(MediaType.valueOf("application/json;charset=UTF-8"))).isTrue();
+        assertThat(json.isCompatibleWith(MediaType.APPLICATION_SMILE)).isFalse();
+        assertThat(json.isCompatibleWith(MediaType.valueOf("text/*"))).isFalse();
+    }
+
+    private static List<String> names(final List<MediaType> mediaTypes) {
+        return mediaTypes.stream()
+                .map(MediaType::toString)
+                .toList();
+    }
+}
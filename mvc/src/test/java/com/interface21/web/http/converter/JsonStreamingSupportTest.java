@@ -0,0 +1,138 @@
+package com.interface21.web.http.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonStreamingSupportTest {
+
+    private final ObjectWriter writer = new ObjectMapper().writer();
+    private final FlushRecordingOutputStream output = new FlushRecordingOutputStream();
+
+    @Test
+    void writeStreamElementWiseAndClose() throws IOException {
+        final var closed = new AtomicBoolean();
+        final var stream = Stream.of(new Account("gugu"), new Account("kuku")).onClose(() -> closed.set(true));
+
+        JsonStreamingSupport.write(writer, stream, output, JsonStreamingSupport.DEFAULT_FLUSH_INTERVAL);
+
+        assertThat(output.body()).isEqualTo("[{\"account\":\"gugu\"},{\"account\":\"kuku\"}]");
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    void flushEveryInterval() throws IOException {
+        JsonStreamingSupport.write(writer, List.of(1, 2, 3, 4, 5).iterator(), output, 2);
+
+        assertThat(output.flushedBodies.get(0)).isEqualTo("[1,2");
+        assertThat(output.flushedBodies.get(1)).isEqualTo("[1,2,3,4");
+        assertThat(output.body()).isEqualTo("[1,2,3,4,5]");
+    }
+
+    @Test
+    void streamOnlyStreamingEntriesOfMap() throws IOException {
+        final var model = new LinkedHashMap<String, Object>();
+        model.put("count", 2);
+        model.put("users", Stream.of("gugu", "kuku"));
+        model.put("owner", new Account("gugu"));
+
+        JsonStreamingSupport.write(writer, model, output, JsonStreamingSupport.DEFAULT_FLUSH_INTERVAL);
+
+        assertThat(output.body()).isEqualTo("{\"count\":2,\"users\":[\"gugu\",\"kuku\"],\"owner\":{\"account\":\"gugu\"}}");
+    }
+
+    @Test
+    void closeStreamWhenElementFails() {
+        final var closed = new AtomicBoolean();
+        final var stream = Stream.of(new Account("gugu"), new Broken()).onClose(() -> closed.set(true));
+
+        assertThatThrownBy(() -> JsonStreamingSupport.write(writer, stream, output, 1))
+                .isInstanceOf(IOException.class);
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    void closeCloseableIteratorWhenElementFails() {
+        final var iterator = new CloseableIterator(List.of(new Account("gugu"), new Broken()));
+
+        assertThatThrownBy(() -> JsonStreamingSupport.write(writer, iterator, output, 1))
+                .isInstanceOf(IOException.class);
+        assertThat(iterator.closed).isTrue();
+    }
+
+    @Test
+    void closeAllClosesEveryCloseableValue() {
+        final var closed = new AtomicBoolean();
+        final var iterator = new CloseableIterator(List.of());
+        final AutoCloseable failing = () -> {
+            throw new IllegalStateException("close failed");
+        };
+
+        JsonStreamingSupport.closeAll(List.of(failing, Stream.of(1).onClose(() -> closed.set(true)), "plain", iterator));
+
+        assertThat(closed.get()).isTrue();
+        assertThat(iterator.closed).isTrue();
+    }
+
+    public record Account(String account) {
+    }
+
+    public static class Broken {
+
+        public String getAccount() {
+            throw new IllegalStateException("broken element");
+        }
+    }
+
+    private static class CloseableIterator implements Iterator<Object>, AutoCloseable {
+
+        private final Iterator<?> delegate;
+        private boolean closed;
+
+        private CloseableIterator(final List<?> values) {
+            this.delegate = values.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            return delegate.next();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static class FlushRecordingOutputStream extends ByteArrayOutputStream {
+
+        private final List<String> flushedBodies = new ArrayList<>();
+
+        @Override
+        public void flush() {
+            flushedBodies.add(body());
+        }
+
+        private String body() {
+            return toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.interface21.webmvc.servlet.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdmissionControlInterceptorTest {
+
+    private static final long T0 = 1_000_000_000_000L;
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final Object HANDLER = new Object();
+
+    private HttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        response = mock(HttpServletResponse.class);
+    }
+
+    @Test
+    void rejectClientOverLimitWithRetryAfter() throws Exception {
+        final var interceptor = new AdmissionControlInterceptor(null, new RateLimit(2, 1));
+        final var request = request("10.0.0.1");
+
+        assertThat(interceptor.preHandle(request, response, HANDLER, T0)).isTrue();
+        assertThat(interceptor.preHandle(request, response, HANDLER, T0)).isTrue();
+        assertThat(interceptor.preHandle(request, response, HANDLER, T0)).isFalse();
+
+        verify(response).setHeader("Retry-After", "1");
+        verify(response).sendError(429);
+    }
+
+    @Test
+    void countClientsSeparately() throws Exception {
+        final var interceptor = new AdmissionControlInterceptor(null, new RateLimit(1, 1));
+
+        assertThat(interceptor.preHandle(request("10.0.0.1"), response, HANDLER, T0)).isTrue();
+        assertThat(interceptor.preHandle(request("10.0.0.2"), response, HANDLER, T0)).isTrue();
+        assertThat(interceptor.preHandle(request(null), response, HANDLER, T0)).isTrue();
+        assertThat(interceptor.preHandle(request(null), response, HANDLER, T0)).isFalse();
+    }
+
+    @Test
+    void countRoutesSeparately() throws Exception {
+        final var interceptor = new AdmissionControlInterceptor(new RateLimit(1, 1), null);
+        final var request = request("10.0.0.1");
+
+        assertThat(interceptor.preHandle(request, response, HANDLER, T0)).isTrue();
+        assertThat(interceptor.preHandle(request, response, HANDLER, T0)).isFalse();
+        assertThat(interceptor.preHandle(request, response, new Object(), T0)).isTrue();
+        assertThat(interceptor.preHandle(request, response, HANDLER, T0 + SECOND)).isTrue();
+    }
+
+    @Test
+    void roundRetryAfterUpToWholeSeconds() throws Exception {
+        final var interceptor = new AdmissionControlInterceptor(new RateLimit(1, 0.25), null);
+        final var request = request("10.0.0.1");
+        interceptor.preHandle(request, response, HANDLER, T0);
+
+        interceptor.preHandle(request, response, HANDLER, T0 + SECOND / 2);
+        interceptor.preHandle(request, response, HANDLER, T0 + SECOND);
+        interceptor.preHandle(request, response, HANDLER, T0 + 4 * SECOND - 1);
+
+        verify(response).setHeader("Retry-After", "4");
+        verify(response).setHeader("Retry-After", "3");
+        verify(response).setHeader("Retry-After", "1");
+    }
+
+    @Test
+    void doNotRejectWithoutLimits() throws Exception {
+        final var interceptor = new AdmissionControlInterceptor(null, null);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(interceptor.preHandle(request("10.0.0.1"), response, HANDLER, T0)).isTrue();
+        }
+        verify(response, never()).sendError(429);
+    }
+
+    @Test
+    void evictDownToThreeQuartersOfMaxClients() throws Exception {
+        final var interceptor = new AdmissionControlInterceptor(null, new RateLimit(1, 1), 8);
+        for (int i = 0; i < 8; i++) {
+            interceptor.preHandle(request("10.0.0." + i), response, HANDLER, T0);
+        }
+        assertThat(interceptor.clientCount()).isEqualTo(8);
+
+        interceptor.preHandle(request("10.0.1.0"), response, HANDLER, T0);
+
+        assertThat(interceptor.clientCount()).isEqualTo(7);
+    }
+
+    @Test
+    void evictFullBucketsFirst() throws Exception {
+        final var interceptor = new AdmissionControlInterceptor(null, new RateLimit(1, 1), 8);
+        for (int i = 0; i < 4; i++) {
+            interceptor.preHandle(request("10.0.0." + i), response, HANDLER, T0);
+        }
+        for (int i = 4; i < 8; i++) {
+            interceptor.preHandle(request("10.0.0." + i), response, HANDLER, T0 + SECOND / 2);
+        }
+        final var now = T0 + SECOND + SECOND / 5;
+
+        interceptor.preHandle(request("10.0.1.0"), response, HANDLER, now);
+
+        assertThat(interceptor.clientCount()).isEqualTo(5);
+        // 아직 채워지지 않은 버킷은 남아 있으므로 여전히 거절된다.
+        for (int i = 4; i < 8; i++) {
+            assertThat(interceptor.preHandle(request("10.0.0." + i), response, HANDLER, now)).isFalse();
+        }
+    }
+
+    private static HttpServletRequest request(final String remoteAddr) {
+        final var request = mock(HttpServletRequest.class);
+        when(request.getRemoteAddr()).thenReturn(remoteAddr);
+        when(request.getRequestURI()).thenReturn("/api/users");
+        return request;
+    }
+}
@@ -0,0 +1,80 @@
+package com.interface21.webmvc.servlet.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    private static final long T0 = 1_000_000_000_000L;
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowBurstUpToCapacity() {
+        final var bucket = new TokenBucket(3, 1, T0);
+
+        assertThat(bucket.tryAcquire(T0)).isZero();
+        assertThat(bucket.tryAcquire(T0)).isZero();
+        assertThat(bucket.tryAcquire(T0)).isZero();
+        assertThat(bucket.tryAcquire(T0)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void returnTimeUntilNextToken() {
+        final var bucket = new TokenBucket(1, 4, T0);
+
+        assertThat(bucket.tryAcquire(T0)).isZero();
+        assertThat(bucket.tryAcquire(T0 + SECOND / 8)).isEqualTo(SECOND / 8);
+    }
+
+    @Test
+    void refillOneTokenPerInterval() {
+        final var bucket = new TokenBucket(2, 2, T0);
+        bucket.tryAcquire(T0);
+        bucket.tryAcquire(T0);
+
+        assertThat(bucket.tryAcquire(T0 + SECOND / 2)).isZero();
+        assertThat(bucket.tryAcquire(T0 + SECOND / 2)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    void doNotAccumulateBeyondCapacity() {
+        final var bucket = new TokenBucket(2, 1, T0);
+        final var later = T0 + 60 * SECOND;
+
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void supportFractionalRate() {
+        final var bucket = new TokenBucket(1, 0.5, T0);
+
+        assertThat(bucket.tryAcquire(T0)).isZero();
+        assertThat(bucket.tryAcquire(T0)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    void fullAgainAfterRefill() {
+        final var bucket = new TokenBucket(2, 1, T0);
+        assertThat(bucket.isFull(T0)).isTrue();
+
+        bucket.tryAcquire(T0);
+
+        assertThat(bucket.isFull(T0)).isFalse();
+        assertThat(bucket.isFull(T0 + SECOND - 1)).isFalse();
+        assertThat(bucket.isFull(T0 + SECOND)).isTrue();
+    }
+
+    @Test
+    void rejectNonPositiveArguments() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
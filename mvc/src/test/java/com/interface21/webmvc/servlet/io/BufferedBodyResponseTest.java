@@ -0,0 +1,82 @@
+package com.interface21.webmvc.servlet.io;
+
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BufferedBodyResponseTest {
+
+    private final ByteBufferPool pool = new ByteBufferPool(4, 8);
+    private HttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        response = mock(HttpServletResponse.class);
+    }
+
+    @Test
+    void collectBodyWithoutCommitting() throws IOException {
+        final var buffered = new BufferedBodyResponse(response, pool);
+
+        buffered.getOutputStream().write("hello ".getBytes(StandardCharsets.UTF_8));
+        buffered.getOutputStream().flush();
+        buffered.flushBuffer();
+        buffered.getOutputStream().write("world".getBytes(StandardCharsets.UTF_8));
+        final var body = buffered.toBody();
+
+        verify(response, never()).flushBuffer();
+        verify(response, never()).getOutputStream();
+        assertThat(new String(body.inputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("hello world");
+    }
+
+    @Test
+    void flushWriterIntoBody() throws IOException {
+        when(response.getCharacterEncoding()).thenReturn("UTF-8");
+        final var buffered = new BufferedBodyResponse(response, pool);
+
+        buffered.getWriter().print("안녕");
+        final var body = buffered.toBody();
+
+        assertThat(new String(body.inputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("안녕");
+    }
+
+    @Test
+    void discardBodyOnResetBuffer() throws IOException {
+        final var buffered = new BufferedBodyResponse(response, pool);
+        buffered.getOutputStream().write(new byte[6], 0, 6);
+
+        buffered.resetBuffer();
+
+        assertThat(buffered.toBody().size()).isZero();
+        assertThat(pool.getPooledCount()).isEqualTo(2);
+    }
+
+    @Test
+    void returnBuffersOnRelease() throws IOException {
+        final var buffered = new BufferedBodyResponse(response, pool);
+        buffered.getOutputStream().write(new byte[9], 0, 9);
+
+        buffered.release();
+
+        assertThat(pool.getPooledCount()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectNonBlockingWrites() {
+        final var buffered = new BufferedBodyResponse(response, pool);
+
+        assertThatThrownBy(() -> buffered.getOutputStream().setWriteListener(mock(WriteListener.class)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,97 @@
+package com.interface21.webmvc.servlet.io;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class BufferedBodyTest {
+
+    private final ByteBufferPool pool = new ByteBufferPool(4, 8);
+
+    @Test
+    void readAcrossBufferBoundaries() throws IOException {
+        final var body = body("{\"account\":\"gugu\"}");
+        final var input = body.inputStream();
+        final var bytes = new byte[32];
+
+        // 한 번의 read 는 현재 버퍼의 끝을 넘지 않는다.
+        assertThat(input.read(bytes, 0, bytes.length)).isEqualTo(4);
+        assertThat(input.available()).isEqualTo(4);
+        assertThat(input.read()).isEqualTo((int) 'c');
+        assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("ount\":\"gugu\"}");
+        assertThat(input.read()).isEqualTo(-1);
+        assertThat(input.isFinished()).isTrue();
+    }
+
+    @Test
+    void readIndependentlyEachTime() throws IOException {
+        final var body = body("hello");
+
+        body.inputStream().readAllBytes();
+
+        assertThat(new String(body.inputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("hello");
+    }
+
+    @Test
+    void decode() throws IOException {
+        final var body = body("{\"account\":\"gugu\",\"age\":3}");
+
+        final var decoded = body.decode(new ObjectMapper().readerFor(Account.class));
+
+        assertThat(decoded).isEqualTo(new Account("gugu", 3));
+    }
+
+    @Test
+    void notifyReadListenerImmediately() {
+        final var events = new ArrayList<String>();
+
+        body("hello").inputStream().setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                events.add("data");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("data", "done");
+    }
+
+    @Test
+    void exposeBodyThroughRequest() throws IOException {
+        final var request = new BufferedBodyRequest(mock(HttpServletRequest.class), body("line1\nline2"));
+
+        assertThat(request.getContentLengthLong()).isEqualTo(11L);
+        assertThat(request.getContentLength()).isEqualTo(11);
+        assertThat(request.getReader().readLine()).isEqualTo("line1");
+        assertThatThrownBy(request::getInputStream)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private BufferedBody body(final String content) {
+        final var output = new PooledByteBufferOutputStream(pool);
+        final var bytes = content.getBytes(StandardCharsets.UTF_8);
+        output.write(bytes, 0, bytes.length);
+        return output.toBody();
+    }
+
+    record Account(String account, int age) {
+    }
+}
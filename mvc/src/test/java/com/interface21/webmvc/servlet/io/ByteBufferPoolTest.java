@@ -0,0 +1,48 @@
+package com.interface21.webmvc.servlet.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteBufferPoolTest {
+
+    @Test
+    void reuseReleasedBuffer() {
+        final var pool = new ByteBufferPool(8, 2);
+        final var buffer = pool.acquire();
+        buffer.put((byte) 1);
+
+        pool.release(buffer);
+        final var reused = pool.acquire();
+
+        assertThat(reused).isSameAs(buffer);
+        assertThat(reused.position()).isZero();
+        assertThat(pool.getPooledCount()).isZero();
+    }
+
+    @Test
+    void keepAtMostMaxPooledBuffers() {
+        final var pool = new ByteBufferPool(8, 2);
+        final var first = pool.acquire();
+        final var second = pool.acquire();
+        final var third = pool.acquire();
+
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+
+        assertThat(pool.getPooledCount()).isEqualTo(2);
+    }
+
+    @Test
+    void ignoreBufferOfOtherSize() {
+        final var pool = new ByteBufferPool(8, 2);
+
+        pool.release(ByteBuffer.allocate(16));
+        pool.release(ByteBuffer.allocateDirect(8));
+
+        assertThat(pool.getPooledCount()).isZero();
+    }
+}
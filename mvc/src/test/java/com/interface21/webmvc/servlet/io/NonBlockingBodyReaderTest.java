@@ -0,0 +1,116 @@
+package com.interface21.webmvc.servlet.io;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NonBlockingBodyReaderTest {
+
+    private final ByteBufferPool pool = new ByteBufferPool(4, 8);
+    private final NonBlockingBodyReader reader = new NonBlockingBodyReader(pool, 10);
+    private final StubServletInputStream input = new StubServletInputStream();
+    private final RecordingHandler handler = new RecordingHandler();
+    private HttpServletRequest request;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        request = mock(HttpServletRequest.class);
+        when(request.getInputStream()).thenReturn(input);
+    }
+
+    @Test
+    void supportOnlyJsonBodyWithAsync() {
+        when(request.isAsyncSupported()).thenReturn(true);
+        when(request.getContentLengthLong()).thenReturn(-1L);
+        when(request.getContentType()).thenReturn("application/vnd.api+json");
+        assertThat(reader.supports(request)).isTrue();
+
+        when(request.getContentType()).thenReturn("application/x-www-form-urlencoded");
+        assertThat(reader.supports(request)).isFalse();
+
+        when(request.getContentType()).thenReturn("application/json");
+        when(request.getContentLengthLong()).thenReturn(0L);
+        assertThat(reader.supports(request)).isFalse();
+    }
+
+    @Test
+    void readChunksAsTheyArrive() throws IOException {
+        when(request.getContentLengthLong()).thenReturn(9L);
+        reader.read(request, handler);
+
+        input.receive("{\"a\"");
+        input.receive(":");
+        input.receive("\"bc\"}");
+        assertThat(handler.body).isNull();
+        input.finish();
+
+        assertThat(handler.error).isNull();
+        assertThat(handler.body.size()).isEqualTo(10L);
+        assertThat(new String(handler.body.inputStream().readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"a\":\"bc\"}");
+    }
+
+    @Test
+    void rejectDeclaredContentLengthOverMaxBodySize() throws IOException {
+        when(request.getContentLengthLong()).thenReturn(11L);
+
+        reader.read(request, handler);
+
+        assertThat(handler.error).isInstanceOf(RequestBodyTooLargeException.class);
+        assertThat(input.getReadListener()).isNull();
+    }
+
+    @Test
+    void rejectChunkedBodyOverMaxBodySize() throws IOException {
+        when(request.getContentLengthLong()).thenReturn(-1L);
+        reader.read(request, handler);
+
+        input.receive("123456");
+        input.receive("78901");
+        input.finish();
+
+        assertThat(handler.error).isInstanceOf(RequestBodyTooLargeException.class);
+        assertThat(handler.body).isNull();
+        assertThat(handler.errorCount).isEqualTo(1);
+        // 읽던 버퍼는 풀로 돌아간다.
+        assertThat(pool.getPooledCount()).isEqualTo(3);
+    }
+
+    @Test
+    void reportReadErrorOnce() throws IOException {
+        when(request.getContentLengthLong()).thenReturn(-1L);
+        reader.read(request, handler);
+
+        input.receive("12");
+        input.fail(new IOException("connection reset"));
+
+        assertThat(handler.error).isInstanceOf(IOException.class);
+        assertThat(handler.errorCount).isEqualTo(1);
+        assertThat(pool.getPooledCount()).isEqualTo(1);
+    }
+
+    private static class RecordingHandler implements NonBlockingBodyReader.BodyHandler {
+
+        private BufferedBody body;
+        private Throwable error;
+        private int errorCount;
+
+        @Override
+        public void onBody(final BufferedBody body) {
+            this.body = body;
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            this.error = t;
+            errorCount++;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.interface21.webmvc.servlet.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NonBlockingBodyWriterTest {
+
+    private final ByteBufferPool pool = new ByteBufferPool(4, 8);
+    private final StubServletOutputStream output = new StubServletOutputStream();
+    private final AtomicInteger completions = new AtomicInteger();
+
+    @Test
+    void writeAllBuffersThenComplete() throws IOException {
+        NonBlockingBodyWriter.write(output, body("hello world"), completions::incrementAndGet);
+
+        output.writePossible();
+
+        assertThat(output.getBody()).isEqualTo("hello world");
+        assertThat(output.getFlushCount()).isEqualTo(1);
+        assertThat(completions.get()).isEqualTo(1);
+        assertThat(pool.getPooledCount()).isEqualTo(3);
+    }
+
+    @Test
+    void waitWhileOutputIsNotReady() throws IOException {
+        NonBlockingBodyWriter.write(output, body("hello world"), completions::incrementAndGet);
+        output.setReady(false);
+
+        output.getWriteListener().onWritePossible();
+        assertThat(output.getBody()).isEmpty();
+        assertThat(completions.get()).isZero();
+
+        output.writePossible();
+        output.writePossible();
+
+        assertThat(output.getBody()).isEqualTo("hello world");
+        assertThat(completions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void completeOnceOnError() throws IOException {
+        NonBlockingBodyWriter.write(output, body("hello"), completions::incrementAndGet);
+
+        output.getWriteListener().onError(new IOException("broken pipe"));
+        output.getWriteListener().onError(new IOException("broken pipe"));
+
+        assertThat(completions.get()).isEqualTo(1);
+        assertThat(pool.getPooledCount()).isEqualTo(2);
+    }
+
+    private BufferedBody body(final String content) {
+        final var buffered = new PooledByteBufferOutputStream(pool);
+        final var bytes = content.getBytes(StandardCharsets.UTF_8);
+        buffered.write(bytes, 0, bytes.length);
+        return buffered.toBody();
+    }
+}
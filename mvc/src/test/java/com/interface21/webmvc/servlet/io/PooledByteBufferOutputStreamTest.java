@@ -0,0 +1,63 @@
+package com.interface21.webmvc.servlet.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledByteBufferOutputStreamTest {
+
+    private final ByteBufferPool pool = new ByteBufferPool(4, 8);
+
+    @Test
+    void spanWritesAcrossBuffers() throws IOException {
+        final var output = new PooledByteBufferOutputStream(pool);
+
+        output.write("abc".getBytes(StandardCharsets.UTF_8));
+        output.write("defghij".getBytes(StandardCharsets.UTF_8));
+        output.write('k');
+        final var body = output.toBody();
+
+        assertThat(body.size()).isEqualTo(11L);
+        assertThat(body.buffers()).hasSize(3);
+        assertThat(new String(body.inputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("abcdefghijk");
+        assertThat(output.size()).isZero();
+    }
+
+    @Test
+    void fillBufferDirectly() {
+        final var output = new PooledByteBufferOutputStream(pool);
+
+        final var buffer = output.writableBuffer();
+        buffer.array()[buffer.arrayOffset()] = 'x';
+        output.advance(1);
+
+        assertThat(output.size()).isEqualTo(1L);
+        assertThat(output.writableBuffer()).isSameAs(buffer);
+    }
+
+    @Test
+    void returnBuffersOnReset() {
+        final var output = new PooledByteBufferOutputStream(pool);
+        output.write(new byte[10], 0, 10);
+
+        output.reset();
+
+        assertThat(output.size()).isZero();
+        assertThat(pool.getPooledCount()).isEqualTo(3);
+    }
+
+    @Test
+    void returnBuffersWhenBodyIsReleased() {
+        final var output = new PooledByteBufferOutputStream(pool);
+        output.write(new byte[6], 0, 6);
+        final var body = output.toBody();
+
+        body.release();
+        body.release();
+
+        assertThat(pool.getPooledCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,85 @@
+package com.interface21.webmvc.servlet.io;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * 컨테이너처럼 조각이 도착할 때마다 ReadListener 를 부르는 입력 스트림. 한 번의 read 는 현재 조각의 끝을 넘지 않는다.
+ */
+public class StubServletInputStream extends ServletInputStream {
+
+    private final Queue<byte[]> chunks = new ArrayDeque<>();
+    private byte[] current;
+    private int position;
+    private boolean endOfStream;
+    private ReadListener readListener;
+
+    @Override
+    public void setReadListener(final ReadListener readListener) {
+        this.readListener = readListener;
+    }
+
+    public void receive(final String chunk) throws IOException {
+        chunks.add(chunk.getBytes(StandardCharsets.UTF_8));
+        readListener.onDataAvailable();
+    }
+
+    public void finish() throws IOException {
+        endOfStream = true;
+        readListener.onAllDataRead();
+    }
+
+    public void fail(final Throwable t) {
+        readListener.onError(t);
+    }
+
+    public ReadListener getReadListener() {
+        return readListener;
+    }
+
+    @Override
+    public boolean isReady() {
+        return hasData() || endOfStream;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return endOfStream && !hasData();
+    }
+
+    @Override
+    public int read() {
+        final var bytes = new byte[1];
+        return read(bytes, 0, 1) < 0 ? -1 : bytes[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+        if (!hasData()) {
+            if (endOfStream) {
+                return -1;
+            }
+            throw new IllegalStateException("read while not ready");
+        }
+        final var count = Math.min(length, current.length - position);
+        System.arraycopy(current, position, bytes, offset, count);
+        position += count;
+        return count;
+    }
+
+    private boolean hasData() {
+        while (current == null || position == current.length) {
+            current = chunks.poll();
+            position = 0;
+            if (current == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
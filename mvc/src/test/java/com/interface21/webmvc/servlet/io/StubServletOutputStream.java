@@ -0,0 +1,66 @@
+package com.interface21.webmvc.servlet.io;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * isReady 결과를 테스트에서 정하고, 등록된 WriteListener 를 꺼내 onWritePossible 을 직접 부를 수 있는 출력 스트림.
+ */
+public class StubServletOutputStream extends ServletOutputStream {
+
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private volatile boolean ready = true;
+    private WriteListener writeListener;
+    private int flushCount;
+
+    @Override
+    public void write(final int b) {
+        body.write(b);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+        body.write(bytes, offset, length);
+    }
+
+    @Override
+    public void flush() {
+        flushCount++;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void setWriteListener(final WriteListener writeListener) {
+        this.writeListener = writeListener;
+    }
+
+    public void setReady(final boolean ready) {
+        this.ready = ready;
+    }
+
+    // 컨테이너처럼 출력이 다시 가능해졌음을 알린다.
+    public void writePossible() throws IOException {
+        ready = true;
+        writeListener.onWritePossible();
+    }
+
+    public WriteListener getWriteListener() {
+        return writeListener;
+    }
+
+    public int getFlushCount() {
+        return flushCount;
+    }
+
+    public String getBody() {
+        return body.toString(StandardCharsets.UTF_8);
+    }
+}
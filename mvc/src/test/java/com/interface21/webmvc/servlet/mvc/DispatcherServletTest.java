@@ -0,0 +1,294 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import com.interface21.webmvc.servlet.HandlerInterceptor;
+import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.io.BufferedBodyRequest;
+import com.interface21.webmvc.servlet.io.ByteBufferPool;
+import com.interface21.webmvc.servlet.io.NonBlockingBodyReader;
+import com.interface21.webmvc.servlet.io.StubServletInputStream;
+import com.interface21.webmvc.servlet.io.StubServletOutputStream;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DispatcherServletTest {
+
+    private static final Object HANDLER = new Object();
+
+    private final List<String> events = new ArrayList<>();
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private RuntimeException handlerFailure;
+    private String responseBody;
+    private String requestBody;
+
+    @BeforeEach
+    void setUp() {
+        request = mock(HttpServletRequest.class);
+        response = mock(HttpServletResponse.class);
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/api/users");
+    }
+
+    @Test
+    void postHandleAndAfterCompletionRunInReverseOrder() throws Exception {
+        final var dispatcherServlet = dispatcherServlet(new RecordingInterceptor("a"), new RecordingInterceptor("b"));
+
+        dispatcherServlet.service(request, response);
+
+        assertThat(events).containsExactly(
+                "a.preHandle", "b.preHandle", "handler", "b.postHandle", "a.postHandle", "render",
+                "b.afterCompletion", "a.afterCompletion");
+    }
+
+    @Test
+    void afterCompletionOnlyForInterceptorsBeforeRejectingPreHandle() throws Exception {
+        final var rejecting = new RecordingInterceptor("b") {
+            @Override
+            public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                                     final Object handler) throws Exception {
+                super.preHandle(request, response, handler);
+                return false;
+            }
+        };
+        final var dispatcherServlet = dispatcherServlet(
+                new RecordingInterceptor("a"), rejecting, new RecordingInterceptor("c"));
+
+        dispatcherServlet.service(request, response);
+
+        assertThat(events).containsExactly("a.preHandle", "b.preHandle", "a.afterCompletion");
+    }
+
+    @Test
+    void afterCompletionWhenPreHandleThrows() {
+        final var failure = new IllegalStateException("preHandle failed");
+        final var throwing = new RecordingInterceptor("b") {
+            @Override
+            public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                                     final Object handler) throws Exception {
+                super.preHandle(request, response, handler);
+                throw failure;
+            }
+        };
+        final var first = new RecordingInterceptor("a");
+        final var dispatcherServlet = dispatcherServlet(first, throwing, new RecordingInterceptor("c"));
+
+        assertThatThrownBy(() -> dispatcherServlet.service(request, response))
+                .isInstanceOf(ServletException.class);
+        assertThat(events).containsExactly("a.preHandle", "b.preHandle", "a.afterCompletion");
+        assertThat(first.failure).isSameAs(failure);
+    }
+
+    @Test
+    void afterCompletionReceivesHandlerFailure() {
+        handlerFailure = new IllegalStateException("handler failed");
+        final var first = new RecordingInterceptor("a");
+        final var dispatcherServlet = dispatcherServlet(first, new RecordingInterceptor("b"));
+
+        assertThatThrownBy(() -> dispatcherServlet.service(request, response))
+                .isInstanceOf(ServletException.class);
+        assertThat(events).containsExactly(
+                "a.preHandle", "b.preHandle", "handler", "b.afterCompletion", "a.afterCompletion");
+        assertThat(first.failure).isSameAs(handlerFailure);
+    }
+
+    @Test
+    void skipInterceptorsForOtherPaths() throws Exception {
+        final var dispatcherServlet = new DispatcherServlet();
+        dispatcherServlet.addHandlerMapping(new FixedHandlerMapping());
+        dispatcherServlet.addHandlerAdapter(new RecordingHandlerAdapter());
+        dispatcherServlet.addInterceptor(new RecordingInterceptor("login"), "/login");
+        dispatcherServlet.addInterceptor(new MappedInterceptor(new RecordingInterceptor("api"),
+                List.of("/api/**"), List.of("/api/users")));
+        dispatcherServlet.init();
+
+        dispatcherServlet.service(request, response);
+
+        assertThat(events).containsExactly("handler", "render");
+    }
+
+    @Test
+    void dispatchAfterReadingBodyAndWriteResponseWithoutBlocking() throws Exception {
+        final var pool = new ByteBufferPool(4, 8);
+        final var input = new StubServletInputStream();
+        final var output = new StubServletOutputStream();
+        final var asyncContext = nonBlockingRequest(8L, input);
+        when(response.getOutputStream()).thenReturn(output);
+        responseBody = "{\"ok\":true}";
+        final var dispatcherServlet = nonBlockingDispatcherServlet(pool, 16);
+
+        dispatcherServlet.service(request, response);
+        input.receive("{\"a\":");
+        input.receive("1}");
+        assertThat(events).isEmpty();
+        input.finish();
+
+        assertThat(requestBody).isEqualTo("{\"a\":1}");
+        assertThat(events).containsExactly("handler", "render");
+        verify(response).setContentLengthLong(11L);
+        verify(asyncContext, never()).complete();
+
+        output.writePossible();
+
+        assertThat(output.getBody()).isEqualTo("{\"ok\":true}");
+        verify(asyncContext).complete();
+        // 요청 본문과 응답 본문의 버퍼가 모두 풀로 돌아간다.
+        assertThat(pool.getPooledCount()).isEqualTo(5);
+    }
+
+    @Test
+    void respond413WhenContentLengthExceedsMaxBodySize() throws Exception {
+        final var input = new StubServletInputStream();
+        final var asyncContext = nonBlockingRequest(17L, input);
+        final var dispatcherServlet = nonBlockingDispatcherServlet(new ByteBufferPool(4, 8), 16);
+
+        dispatcherServlet.service(request, response);
+
+        verify(response).sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        verify(asyncContext).complete();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void respond413WhenChunkedBodyExceedsMaxBodySize() throws Exception {
+        final var input = new StubServletInputStream();
+        final var asyncContext = nonBlockingRequest(-1L, input);
+        final var dispatcherServlet = nonBlockingDispatcherServlet(new ByteBufferPool(4, 8), 16);
+
+        dispatcherServlet.service(request, response);
+        input.receive("{\"account\":");
+        input.receive("\"gugu\"}");
+        input.finish();
+
+        verify(response).sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        verify(asyncContext).complete();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void respond400WhenReadingBodyFails() throws Exception {
+        final var input = new StubServletInputStream();
+        final var asyncContext = nonBlockingRequest(-1L, input);
+        final var dispatcherServlet = nonBlockingDispatcherServlet(new ByteBufferPool(4, 8), 16);
+
+        dispatcherServlet.service(request, response);
+        input.receive("{");
+        input.fail(new IOException("connection reset"));
+
+        verify(response).sendError(HttpServletResponse.SC_BAD_REQUEST);
+        verify(asyncContext).complete();
+        assertThat(events).isEmpty();
+    }
+
+    private AsyncContext nonBlockingRequest(final long contentLength, final StubServletInputStream input) throws IOException {
+        final var asyncContext = mock(AsyncContext.class);
+        when(request.getMethod()).thenReturn("POST");
+        when(request.isAsyncSupported()).thenReturn(true);
+        when(request.getContentType()).thenReturn("application/json");
+        when(request.getContentLengthLong()).thenReturn(contentLength);
+        when(request.getInputStream()).thenReturn(input);
+        when(request.startAsync(request, response)).thenReturn(asyncContext);
+        return asyncContext;
+    }
+
+    private DispatcherServlet nonBlockingDispatcherServlet(final ByteBufferPool pool, final long maxBodySize) {
+        final var dispatcherServlet = dispatcherServlet();
+        dispatcherServlet.setBufferPool(pool);
+        dispatcherServlet.setNonBlockingBodyReader(new NonBlockingBodyReader(pool, maxBodySize));
+        return dispatcherServlet;
+    }
+
+    private DispatcherServlet dispatcherServlet(final HandlerInterceptor... interceptors) {
+        final var dispatcherServlet = new DispatcherServlet();
+        dispatcherServlet.addHandlerMapping(new FixedHandlerMapping());
+        dispatcherServlet.addHandlerAdapter(new RecordingHandlerAdapter());
+        for (final var interceptor : interceptors) {
+            dispatcherServlet.addInterceptor(interceptor, "/api/**");
+        }
+        dispatcherServlet.init();
+        return dispatcherServlet;
+    }
+
+    private static class FixedHandlerMapping implements HandlerMapping {
+
+        @Override
+        public void initialize() {
+        }
+
+        @Override
+        public Object getHandler(final HttpServletRequest request) {
+            return HANDLER;
+        }
+    }
+
+    private class RecordingHandlerAdapter implements HandlerAdapter {
+
+        @Override
+        public boolean supports(final Object handler) {
+            return handler == HANDLER;
+        }
+
+        @Override
+        public ModelAndView handle(final HttpServletRequest request, final HttpServletResponse response,
+                                   final Object handler) throws IOException {
+            events.add("handler");
+            if (handlerFailure != null) {
+                throw handlerFailure;
+            }
+            if (request instanceof BufferedBodyRequest bufferedBodyRequest) {
+                requestBody = new String(bufferedBodyRequest.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            }
+            return new ModelAndView((model, req, res) -> {
+                events.add("render");
+                if (responseBody != null) {
+                    res.getOutputStream().write(responseBody.getBytes(StandardCharsets.UTF_8));
+                }
+            });
+        }
+    }
+
+    private class RecordingInterceptor implements HandlerInterceptor {
+
+        private final String name;
+        private Exception failure;
+
+        private RecordingInterceptor(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                                 final Object handler) throws Exception {
+            events.add(name + ".preHandle");
+            return true;
+        }
+
+        @Override
+        public void postHandle(final HttpServletRequest request, final HttpServletResponse response,
+                               final Object handler, final ModelAndView modelAndView) {
+            events.add(name + ".postHandle");
+        }
+
+        @Override
+        public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response,
+                                    final Object handler, final Exception ex) {
+            events.add(name + ".afterCompletion");
+            failure = ex;
+        }
+    }
+}
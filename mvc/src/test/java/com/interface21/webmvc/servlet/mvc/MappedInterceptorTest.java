@@ -0,0 +1,60 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import com.interface21.webmvc.servlet.HandlerInterceptor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedInterceptorTest {
+
+    private final HandlerInterceptor first = new HandlerInterceptor() {};
+    private final HandlerInterceptor second = new HandlerInterceptor() {};
+    private final HandlerInterceptor third = new HandlerInterceptor() {};
+
+    @Test
+    void applyToEveryPathWithoutIncludePatterns() {
+        final var interceptor = new MappedInterceptor(first);
+
+        assertThat(interceptor.matches("/")).isTrue();
+        assertThat(interceptor.matches("/api/users")).isTrue();
+    }
+
+    @Test
+    void excludeWinsOverInclude() {
+        final var interceptor = new MappedInterceptor(first, List.of("/api/**"), List.of("/api/health", "/api/internal/**"));
+
+        assertThat(interceptor.matches("/api/users")).isTrue();
+        assertThat(interceptor.matches("/api/health")).isFalse();
+        assertThat(interceptor.matches("/api/internal/metrics")).isFalse();
+        assertThat(interceptor.matches("/login")).isFalse();
+    }
+
+    @Test
+    void excludeWithoutInclude() {
+        final var interceptor = new MappedInterceptor(first, List.of(), List.of("/*.jsp"));
+
+        assertThat(interceptor.matches("/login")).isTrue();
+        assertThat(interceptor.matches("/index.jsp")).isFalse();
+    }
+
+    @Test
+    void matchingKeepsRegistrationOrder() {
+        final var interceptors = List.of(
+                new MappedInterceptor(first, "/api/**"),
+                new MappedInterceptor(second, List.of("/**"), List.of("/api/health")),
+                new MappedInterceptor(third, "/api/users/*"));
+
+        assertThat(MappedInterceptor.matching(interceptors, "/api/users/1")).containsExactly(first, second, third);
+        assertThat(MappedInterceptor.matching(interceptors, "/api/health")).containsExactly(first);
+        assertThat(MappedInterceptor.matching(interceptors, "/login")).containsExactly(second);
+    }
+
+    @Test
+    void matchingNothing() {
+        final var interceptors = List.of(new MappedInterceptor(first, List.of("/api/**"), List.of("/api/**")));
+
+        assertThat(MappedInterceptor.matching(interceptors, "/api/users")).isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathPatternTest {
+
+    @Test
+    void matchExactPath() {
+        final var pattern = PathPattern.compile("/login");
+
+        assertThat(pattern.matches("/login")).isTrue();
+        assertThat(pattern.matches("/login/")).isTrue();
+        assertThat(pattern.matches("/logout")).isFalse();
+        assertThat(pattern.matches("/login/extra")).isFalse();
+    }
+
+    @Test
+    void doubleStarMatchesZeroOrMoreSegments() {
+        final var pattern = PathPattern.compile("/api/**");
+
+        assertThat(pattern.matches("/api")).isTrue();
+        assertThat(pattern.matches("/api/users")).isTrue();
+        assertThat(pattern.matches("/api/users/1/history")).isTrue();
+        assertThat(pattern.matches("/apis/users")).isFalse();
+        assertThat(pattern.matches("/")).isFalse();
+    }
+
+    @Test
+    void doubleStarInTheMiddle() {
+        final var pattern = PathPattern.compile("/api/**/history");
+
+        assertThat(pattern.matches("/api/history")).isTrue();
+        assertThat(pattern.matches("/api/users/1/history")).isTrue();
+        assertThat(pattern.matches("/api/users/1")).isFalse();
+    }
+
+    @Test
+    void singleStarMatchesWithinOneSegment() {
+        final var pattern = PathPattern.compile("/users/*");
+
+        assertThat(pattern.matches("/users/1")).isTrue();
+        assertThat(pattern.matches("/users")).isFalse();
+        assertThat(pattern.matches("/users/1/history")).isFalse();
+    }
+
+    @Test
+    void starWithSuffix() {
+        final var pattern = PathPattern.compile("/*.jsp");
+
+        assertThat(pattern.matches("/index.jsp")).isTrue();
+        assertThat(pattern.matches("/.jsp")).isTrue();
+        assertThat(pattern.matches("/index.jspx")).isFalse();
+        assertThat(pattern.matches("/views/index.jsp")).isFalse();
+        assertThat(PathPattern.compile("/**/*.jsp").matches("/views/index.jsp")).isTrue();
+    }
+
+    @Test
+    void literalCharactersAreNotRegex() {
+        assertThat(PathPattern.compile("/a.b/*").matches("/axb/1")).isFalse();
+        assertThat(PathPattern.compile("/a.b/*").matches("/a.b/1")).isTrue();
+    }
+}
@@ -0,0 +1,40 @@
+package com.interface21.webmvc.servlet.mvc.tobe;
+
+import com.interface21.webmvc.servlet.mvc.tobe.sample.AccountRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AnnotationHandlerMappingTest {
+
+    @Test
+    void bindRequestBodyOfMappedHandler() throws Exception {
+        final var handlerMapping = new AnnotationHandlerMapping("com.interface21.webmvc.servlet.mvc.tobe.sample");
+        handlerMapping.initialize();
+        final var request = mock(HttpServletRequest.class);
+        final var body = "{\"account\":\"gugu\",\"age\":3}";
+        when(request.getRequestURI()).thenReturn("/accounts");
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getContentLengthLong()).thenReturn((long) body.length());
+        when(request.getInputStream()).thenReturn(new ByteArrayServletInputStream(body));
+
+        final var handlerExecution = (HandlerExecution) handlerMapping.getHandler(request);
+        final var modelAndView = handlerExecution.handle(request, mock(HttpServletResponse.class));
+
+        assertThat(modelAndView.getObject("account")).isEqualTo(new AccountRequest("gugu", 3));
+    }
+
+    @Test
+    void failOnUnsupportedParameterWhenInitialized() {
+        final var handlerMapping = new AnnotationHandlerMapping("com.interface21.webmvc.servlet.mvc.tobe.unsupported");
+
+        assertThatThrownBy(handlerMapping::initialize)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("UnsupportedParameterController");
+    }
+}
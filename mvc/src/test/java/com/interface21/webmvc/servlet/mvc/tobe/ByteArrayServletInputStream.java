@@ -0,0 +1,44 @@
+package com.interface21.webmvc.servlet.mvc.tobe;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 본문을 blocking 으로 읽는 요청의 입력 스트림.
+ */
+class ByteArrayServletInputStream extends ServletInputStream {
+
+    private final ByteArrayInputStream input;
+
+    ByteArrayServletInputStream(final String body) {
+        this.input = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int read() {
+        return input.read();
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+        return input.read(bytes, offset, length);
+    }
+
+    @Override
+    public boolean isFinished() {
+        return input.available() == 0;
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    @Override
+    public void setReadListener(final ReadListener readListener) {
+        throw new UnsupportedOperationException();
+    }
+}
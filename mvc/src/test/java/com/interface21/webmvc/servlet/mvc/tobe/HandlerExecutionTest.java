@@ -0,0 +1,110 @@
+package com.interface21.webmvc.servlet.mvc.tobe;
+
+import com.interface21.webmvc.servlet.mvc.DispatcherServlet;
+import com.interface21.webmvc.servlet.mvc.HandlerMapping;
+import com.interface21.webmvc.servlet.mvc.tobe.sample.AccountRequest;
+import com.interface21.webmvc.servlet.mvc.tobe.sample.SampleController;
+import com.interface21.webmvc.servlet.mvc.tobe.unsupported.UnsupportedParameterController;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HandlerExecutionTest {
+
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = mock(HttpServletRequest.class);
+        response = mock(HttpServletResponse.class);
+    }
+
+    @Test
+    void resolveRequestBodyAndResponse() throws Exception {
+        final var handlerExecution = handlerExecution("create", AccountRequest.class, HttpServletResponse.class);
+        body("{\"account\":\"gugu\",\"age\":3}");
+
+        final var modelAndView = handlerExecution.handle(request, response);
+
+        assertThat(modelAndView.getObject("account")).isEqualTo(new AccountRequest("gugu", 3));
+        verify(response).setHeader("Location", "/accounts/gugu");
+    }
+
+    @Test
+    void resolveGenericRequestBody() throws Exception {
+        final var handlerExecution = handlerExecution("createAll", List.class);
+        body("[{\"account\":\"gugu\",\"age\":3},{\"account\":\"kuku\",\"age\":4}]");
+
+        final var modelAndView = handlerExecution.handle(request, response);
+
+        assertThat(modelAndView.getObject("accounts"))
+                .isEqualTo(List.of(new AccountRequest("gugu", 3), new AccountRequest("kuku", 4)));
+    }
+
+    @Test
+    void resolveRequestAndSession() throws Exception {
+        final var session = mock(HttpSession.class);
+        when(request.getSession()).thenReturn(session);
+        final var handlerExecution = handlerExecution("session", HttpServletRequest.class, HttpSession.class);
+
+        final var modelAndView = handlerExecution.handle(request, response);
+
+        assertThat(modelAndView.getObject("request")).isSameAs(request);
+        assertThat(modelAndView.getObject("session")).isSameAs(session);
+    }
+
+    @Test
+    void failOnUnsupportedParameterWhenCreated() throws Exception {
+        final var method = UnsupportedParameterController.class.getDeclaredMethod("create", String.class);
+
+        assertThatThrownBy(() -> new HandlerExecution(new UnsupportedParameterController(), method))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("unsupported parameter");
+    }
+
+    @Test
+    void respond400WhenRequiredBodyIsMissing() throws Exception {
+        final var handlerExecution = handlerExecution("create", AccountRequest.class, HttpServletResponse.class);
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getRequestURI()).thenReturn("/accounts");
+        body("");
+        final var dispatcherServlet = new DispatcherServlet();
+        dispatcherServlet.addHandlerMapping(new HandlerMapping() {
+            @Override
+            public void initialize() {
+            }
+
+            @Override
+            public Object getHandler(final HttpServletRequest request) {
+                return handlerExecution;
+            }
+        });
+        dispatcherServlet.addHandlerAdapter(new HandlerExecutionHandlerAdapter());
+        dispatcherServlet.init();
+
+        dispatcherServlet.service(request, response);
+
+        verify(response).sendError(HttpServletResponse.SC_BAD_REQUEST);
+    }
+
+    private HandlerExecution handlerExecution(final String name, final Class<?>... parameterTypes) throws Exception {
+        final var method = SampleController.class.getDeclaredMethod(name, parameterTypes);
+        return new HandlerExecution(new SampleController(), method);
+    }
+
+    private void body(final String body) throws Exception {
+        when(request.getContentLengthLong()).thenReturn((long) body.length());
+        when(request.getInputStream()).thenReturn(new ByteArrayServletInputStream(body));
+    }
+}
@@ -0,0 +1,110 @@
+package com.interface21.webmvc.servlet.mvc.tobe;
+
+import com.interface21.web.http.converter.HttpMessageNotReadableException;
+import com.interface21.webmvc.servlet.io.BufferedBodyRequest;
+import com.interface21.webmvc.servlet.io.ByteBufferPool;
+import com.interface21.webmvc.servlet.io.PooledByteBufferOutputStream;
+import com.interface21.webmvc.servlet.mvc.tobe.sample.AccountRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RequestBodyArgumentResolverTest {
+
+    private static final String BODY = "{\"account\":\"gugu\",\"age\":3}";
+
+    private final RequestBodyArgumentResolver resolver = new RequestBodyArgumentResolver(AccountRequest.class, true);
+    private final RequestBodyArgumentResolver optionalResolver = new RequestBodyArgumentResolver(AccountRequest.class, false);
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = mock(HttpServletRequest.class);
+        response = mock(HttpServletResponse.class);
+    }
+
+    @Test
+    void readBodyWithContentLength() throws IOException {
+        body(BODY, BODY.length());
+
+        assertThat(resolver.resolve(request, response)).isEqualTo(new AccountRequest("gugu", 3));
+    }
+
+    @Test
+    void readChunkedBody() throws IOException {
+        body(BODY, -1);
+
+        assertThat(resolver.resolve(request, response)).isEqualTo(new AccountRequest("gugu", 3));
+    }
+
+    @Test
+    void readBodyLargerThanPresizedLimitFromStream() throws IOException {
+        final var account = "a".repeat(70 * 1024);
+        final var body = "{\"account\":\"" + account + "\",\"age\":3}";
+        body(body, body.length());
+
+        assertThat(resolver.resolve(request, response)).isEqualTo(new AccountRequest(account, 3));
+    }
+
+    @Test
+    void readBufferedBodyWithoutInputStream() throws IOException {
+        final var output = new PooledByteBufferOutputStream(new ByteBufferPool(8, 4));
+        output.write(BODY.getBytes(StandardCharsets.UTF_8));
+        final var bufferedRequest = new BufferedBodyRequest(request, output.toBody());
+
+        assertThat(resolver.resolve(bufferedRequest, response)).isEqualTo(new AccountRequest("gugu", 3));
+        verify(request, never()).getInputStream();
+    }
+
+    @Test
+    void rejectMissingRequiredBody() throws IOException {
+        body("", 0);
+
+        assertThatThrownBy(() -> resolver.resolve(request, response))
+                .isInstanceOf(HttpMessageNotReadableException.class)
+                .hasMessageContaining("missing");
+    }
+
+    @Test
+    void rejectEmptyChunkedBody() throws IOException {
+        body("", -1);
+
+        assertThatThrownBy(() -> resolver.resolve(request, response))
+                .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    @Test
+    void resolveNullWhenOptionalBodyIsMissing() throws IOException {
+        body("", 0);
+        assertThat(optionalResolver.resolve(request, response)).isNull();
+
+        body("", -1);
+        assertThat(optionalResolver.resolve(request, response)).isNull();
+    }
+
+    @Test
+    void rejectMalformedBody() throws IOException {
+        body("{\"account\":", 11);
+
+        assertThatThrownBy(() -> resolver.resolve(request, response))
+                .isInstanceOf(HttpMessageNotReadableException.class)
+                .hasMessageContaining(AccountRequest.class.getName());
+    }
+
+    private void body(final String body, final long contentLength) throws IOException {
+        when(request.getContentLengthLong()).thenReturn(contentLength);
+        when(request.getInputStream()).thenReturn(new ByteArrayServletInputStream(body));
+    }
+}
@@ -0,0 +1,4 @@
+package com.interface21.webmvc.servlet.mvc.tobe.sample;
+
+public record AccountRequest(String account, int age) {
+}
@@ -0,0 +1,37 @@
+package com.interface21.webmvc.servlet.mvc.tobe.sample;
+
+import com.interface21.context.stereotype.Controller;
+import com.interface21.web.bind.annotation.RequestBody;
+import com.interface21.web.bind.annotation.RequestMapping;
+import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.webmvc.servlet.ModelAndView;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import java.util.List;
+
+@Controller
+public class SampleController {
+
+    @RequestMapping(value = "/accounts", method = RequestMethod.POST)
+    public ModelAndView create(@RequestBody final AccountRequest accountRequest, final HttpServletResponse response) {
+        response.setHeader("Location", "/accounts/" + accountRequest.account());
+        return new ModelAndView().addObject("account", accountRequest);
+    }
+
+    @RequestMapping(value = "/accounts/batch", method = RequestMethod.POST)
+    public ModelAndView createAll(@RequestBody final List<AccountRequest> accountRequests) {
+        return new ModelAndView().addObject("accounts", accountRequests);
+    }
+
+    @RequestMapping(value = "/accounts/search", method = RequestMethod.POST)
+    public ModelAndView search(@RequestBody(required = false) final AccountRequest filter) {
+        return new ModelAndView().addObject("filter", filter);
+    }
+
+    @RequestMapping(value = "/session", method = RequestMethod.GET)
+    public ModelAndView session(final HttpServletRequest request, final HttpSession session) {
+        return new ModelAndView().addObject("request", request).addObject("session", session);
+    }
+}
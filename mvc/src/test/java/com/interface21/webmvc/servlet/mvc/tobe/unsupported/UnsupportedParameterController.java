@@ -0,0 +1,16 @@
+package com.interface21.webmvc.servlet.mvc.tobe.unsupported;
+
+import com.interface21.context.stereotype.Controller;
+import com.interface21.web.bind.annotation.RequestMapping;
+import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.webmvc.servlet.ModelAndView;
+
+@Controller
+public class UnsupportedParameterController {
+
+    // @RequestBody 가 없는 일반 파라미터는 채울 방법이 없다.
+    @RequestMapping(value = "/accounts", method = RequestMethod.POST)
+    public ModelAndView create(final String account) {
+        return new ModelAndView().addObject("account", account);
+    }
+}
@@ -0,0 +1,166 @@
+package com.interface21.webmvc.servlet.view;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContentNegotiatingViewTest {
+
+    private static final String JSON = "application/json;charset=UTF-8";
+    private static final String SMILE = "application/x-jackson-smile";
+
+    private final ContentNegotiatingView view = new ContentNegotiatingView();
+    private final Map<String, Object> model = Map.of("user", new UserResponse("gugu"));
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        request = mock(HttpServletRequest.class);
+        response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(new CapturingOutputStream(body));
+    }
+
+    @Test
+    void useFirstConverterWithoutAcceptHeader() throws Exception {
+        view.render(model, request, response);
+
+        verify(response).setContentType(JSON);
+        verify(response).addHeader("Vary", "Accept");
+        assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo("{\"account\":\"gugu\"}");
+    }
+
+    @Test
+    void writeSmileWhenAccepted() throws Exception {
+        accept("application/x-jackson-smile");
+
+        view.render(model, request, response);
+
+        verify(response).setContentType(SMILE);
+        // Smile 문서는 ":)\n" 헤더로 시작한다.
+        assertThat(new String(body.toByteArray(), 0, 3, StandardCharsets.US_ASCII)).isEqualTo(":)\n");
+    }
+
+    @Test
+    void followQualityOrder() throws Exception {
+        accept("application/x-jackson-smile;q=0.5, application/json");
+
+        view.render(model, request, response);
+
+        verify(response).setContentType(JSON);
+    }
+
+    @Test
+    void preferSpecificTypeOverWildcardOnEqualQuality() throws Exception {
+        accept("application/*, application/x-jackson-smile");
+
+        view.render(model, request, response);
+
+        verify(response).setContentType(SMILE);
+    }
+
+    @Test
+    void excludeZeroQualityTypeEvenWhenWildcardMatches() throws Exception {
+        accept("application/json;q=0, */*;q=0.1");
+
+        view.render(model, request, response);
+
+        verify(response, never()).setContentType(JSON);
+        verify(response).setContentType(SMILE);
+    }
+
+    @Test
+    void ignoreMalformedEntries() throws Exception {
+        accept("application, text/html;q=abc, application/x-jackson-smile");
+
+        view.render(model, request, response);
+
+        verify(response).setContentType(SMILE);
+    }
+
+    @Test
+    void writeStringAsPlainText() throws Exception {
+        accept("text/plain");
+
+        view.render(Map.of("message", "hello"), request, response);
+
+        verify(response).setContentType("text/plain;charset=UTF-8");
+        assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo("hello");
+    }
+
+    @Test
+    void notAcceptableWhenNoConverterMatches() throws Exception {
+        accept("text/html");
+
+        view.render(model, request, response);
+
+        verify(response).sendError(HttpServletResponse.SC_NOT_ACCEPTABLE);
+        assertThat(body.size()).isZero();
+    }
+
+    @Test
+    void notAcceptableWhenEveryTypeIsExcluded() throws Exception {
+        accept("application/*;q=0, text/plain");
+
+        view.render(model, request, response);
+
+        verify(response).sendError(HttpServletResponse.SC_NOT_ACCEPTABLE);
+    }
+
+    @Test
+    void closeStreamWhenNotAcceptable() throws Exception {
+        accept("application/xml");
+        final var closed = new AtomicBoolean();
+
+        view.render(Map.of("users", Stream.of("gugu").onClose(() -> closed.set(true))), request, response);
+
+        verify(response).sendError(HttpServletResponse.SC_NOT_ACCEPTABLE);
+        assertThat(closed.get()).isTrue();
+    }
+
+    private void accept(final String accept) {
+        when(request.getHeader("Accept")).thenReturn(accept);
+    }
+
+    public record UserResponse(String account) {
+    }
+
+    private static class CapturingOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream out;
+
+        private CapturingOutputStream(final ByteArrayOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(final int b) {
+            out.write(b);
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+        }
+    }
+}
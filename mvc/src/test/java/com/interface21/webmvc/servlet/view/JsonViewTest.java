@@ -0,0 +1,85 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.interface21.webmvc.servlet.io.StubServletOutputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JsonViewTest {
+
+    private final JsonView view = new JsonView();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = mock(HttpServletRequest.class);
+        response = mock(HttpServletResponse.class);
+    }
+
+    @Test
+    void renderSingleStreamAsArray() throws Exception {
+        final var output = new StubServletOutputStream();
+        when(response.getOutputStream()).thenReturn(output);
+
+        view.render(Map.of("users", users()), request, response);
+
+        assertThat(output.getBody()).isEqualTo("[\"gugu\",\"kuku\"]");
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    void closeEveryStreamWhenWriteFails() throws Exception {
+        when(response.getOutputStream()).thenReturn(new FailingOutputStream());
+        final var otherClosed = new AtomicBoolean();
+        final var model = new LinkedHashMap<String, Object>();
+        model.put("users", users());
+        model.put("others", Stream.of("hoho").onClose(() -> otherClosed.set(true)));
+
+        assertThatThrownBy(() -> view.render(model, request, response))
+                .isInstanceOf(IOException.class);
+        assertThat(closed.get()).isTrue();
+        assertThat(otherClosed.get()).isTrue();
+    }
+
+    private Stream<String> users() {
+        return Stream.of("gugu", "kuku").onClose(() -> closed.set(true));
+    }
+
+    private static class FailingOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(final int b) throws IOException {
+            throw new IOException("broken pipe");
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            throw new IOException("broken pipe");
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+        }
+    }
+}
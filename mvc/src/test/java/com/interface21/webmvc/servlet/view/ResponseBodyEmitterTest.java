@@ -0,0 +1,162 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.interface21.webmvc.servlet.io.StubServletOutputStream;
+import jakarta.servlet.AsyncContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ResponseBodyEmitterTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final StubServletOutputStream outputStream = new StubServletOutputStream();
+    private AsyncContext asyncContext;
+
+    @BeforeEach
+    void setUp() {
+        asyncContext = mock(AsyncContext.class);
+    }
+
+    @Test
+    void writeChunksSentBeforeAttach() throws IOException {
+        final var emitter = new ResponseBodyEmitter("text/plain", TIMEOUT, Duration.ZERO);
+        emitter.send("hello ");
+        emitter.send("world");
+
+        emitter.attach(asyncContext, outputStream);
+
+        assertThat(outputStream.getBody()).isEqualTo("hello world");
+        assertThat(outputStream.getFlushCount()).isEqualTo(1);
+        verify(asyncContext).setTimeout(TIMEOUT.toMillis());
+    }
+
+    @Test
+    void writeObjectAsJson() throws IOException {
+        final var emitter = new ResponseBodyEmitter("application/json", TIMEOUT, Duration.ZERO);
+        emitter.attach(asyncContext, outputStream);
+
+        emitter.send(Map.of("account", "gugu"));
+
+        assertThat(outputStream.getBody()).isEqualTo("{\"account\":\"gugu\"}");
+    }
+
+    @Test
+    void waitForWritePossibleWhenNotReady() throws IOException {
+        final var emitter = new ResponseBodyEmitter("text/plain", TIMEOUT, Duration.ZERO);
+        outputStream.setReady(false);
+        emitter.attach(asyncContext, outputStream);
+
+        emitter.send("a");
+        emitter.send("b");
+        assertThat(outputStream.getBody()).isEmpty();
+
+        outputStream.writePossible();
+
+        assertThat(outputStream.getBody()).isEqualTo("ab");
+    }
+
+    @Test
+    void completeAfterPendingChunksAreWritten() throws IOException {
+        final var emitter = new ResponseBodyEmitter("text/plain", TIMEOUT, Duration.ZERO);
+        final var completions = new AtomicInteger();
+        emitter.onCompletion(completions::incrementAndGet);
+        outputStream.setReady(false);
+        emitter.attach(asyncContext, outputStream);
+        emitter.send("last");
+
+        emitter.complete();
+        assertThat(emitter.isClosed()).isFalse();
+        verify(asyncContext, never()).complete();
+
+        outputStream.writePossible();
+
+        assertThat(outputStream.getBody()).isEqualTo("last");
+        assertThat(emitter.isClosed()).isTrue();
+        assertThat(completions.get()).isEqualTo(1);
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    void rejectSendAfterComplete() {
+        final var emitter = new ResponseBodyEmitter("text/plain", TIMEOUT, Duration.ZERO);
+        emitter.attach(asyncContext, outputStream);
+        emitter.complete();
+
+        assertThatThrownBy(() -> emitter.send("late"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void completeWithErrorClosesAsyncContext() {
+        final var emitter = new ResponseBodyEmitter("text/plain", TIMEOUT, Duration.ZERO);
+        emitter.attach(asyncContext, outputStream);
+
+        emitter.completeWithError(new IllegalStateException("failed"));
+
+        assertThat(emitter.isClosed()).isTrue();
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    void completeAsyncContextWhenClosedBeforeAttach() {
+        final var emitter = new ResponseBodyEmitter("text/plain", TIMEOUT, Duration.ZERO);
+        emitter.completeWithError(new IllegalStateException("failed"));
+
+        emitter.attach(asyncContext, outputStream);
+
+        verify(asyncContext).complete();
+        assertThat(outputStream.getWriteListener()).isNull();
+    }
+
+    @Test
+    void closeWhenPendingBytesOverflow() throws IOException {
+        final var emitter = new ResponseBodyEmitter("text/plain", TIMEOUT, Duration.ZERO, 4);
+        final var completions = new AtomicInteger();
+        emitter.onCompletion(completions::incrementAndGet);
+        outputStream.setReady(false);
+        emitter.attach(asyncContext, outputStream);
+        emitter.send("abc");
+
+        assertThatThrownBy(() -> emitter.send("de"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("4");
+
+        assertThat(emitter.isClosed()).isTrue();
+        assertThat(completions.get()).isEqualTo(1);
+        verify(asyncContext).complete();
+    }
+
+    @Test
+    void completeAsyncContextWhenOverflowedBeforeAttach() {
+        final var emitter = new ResponseBodyEmitter("text/plain", TIMEOUT, Duration.ZERO, 4);
+
+        assertThatThrownBy(() -> emitter.send("abcde"))
+                .isInstanceOf(IOException.class);
+        emitter.attach(asyncContext, outputStream);
+
+        verify(asyncContext).complete();
+        assertThat(outputStream.getBody()).isEmpty();
+    }
+
+    @Test
+    void runCompletionCallbackRegisteredAfterClose() {
+        final var emitter = new ResponseBodyEmitter("text/plain", TIMEOUT, Duration.ZERO);
+        emitter.completeWithError(new IllegalStateException("failed"));
+        final var completions = new AtomicInteger();
+
+        emitter.onCompletion(completions::incrementAndGet);
+
+        assertThat(completions.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,83 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.interface21.webmvc.servlet.io.StubServletOutputStream;
+import jakarta.servlet.AsyncContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class SseEmitterTest {
+
+    // 테스트 중에 공유 스케줄러가 하트비트를 보내지 않도록 길게 잡고 시각을 직접 넘긴다.
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofMinutes(10);
+
+    private final StubServletOutputStream outputStream = new StubServletOutputStream();
+    private SseEmitter emitter;
+
+    @BeforeEach
+    void setUp() {
+        emitter = new SseEmitter(Duration.ofSeconds(30), HEARTBEAT_INTERVAL);
+        emitter.attach(mock(AsyncContext.class), outputStream);
+    }
+
+    @Test
+    void writeEvent() throws IOException {
+        emitter.send("1", "greeting", "hello");
+
+        assertThat(outputStream.getBody()).isEqualTo("id: 1\nevent: greeting\ndata: hello\n\n");
+    }
+
+    @Test
+    void writeDataLinePerLine() throws IOException {
+        emitter.send("first\nsecond\r\nthird");
+
+        assertThat(outputStream.getBody()).isEqualTo("data: first\ndata: second\ndata: third\n\n");
+    }
+
+    @Test
+    void writeObjectAsJsonData() throws IOException {
+        emitter.send("user", Map.of("account", "gugu"));
+
+        assertThat(outputStream.getBody()).isEqualTo("event: user\ndata: {\"account\":\"gugu\"}\n\n");
+    }
+
+    @Test
+    void rejectLineBreakInField() {
+        assertThatThrownBy(() -> emitter.send("1\n2", "greeting", "hello"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sendHeartbeatWhenIdle() {
+        emitter.sendHeartbeatIfIdle(System.nanoTime() + HEARTBEAT_INTERVAL.toNanos());
+
+        assertThat(outputStream.getBody()).isEqualTo(":\n\n");
+    }
+
+    @Test
+    void skipHeartbeatAfterRecentWrite() throws IOException {
+        emitter.send("hello");
+
+        emitter.sendHeartbeatIfIdle(System.nanoTime());
+
+        assertThat(outputStream.getBody()).isEqualTo("data: hello\n\n");
+    }
+
+    @Test
+    void skipHeartbeatWhileChunksArePending() throws IOException {
+        outputStream.setReady(false);
+        emitter.send("hello");
+
+        emitter.sendHeartbeatIfIdle(System.nanoTime() + 2 * HEARTBEAT_INTERVAL.toNanos());
+        outputStream.writePossible();
+
+        assertThat(outputStream.getBody()).isEqualTo("data: hello\n\n");
+    }
+}
@@ -0,0 +1,60 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.interface21.webmvc.servlet.io.StubServletOutputStream;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamingViewTest {
+
+    private final StubServletOutputStream outputStream = new StubServletOutputStream();
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private AsyncContext asyncContext;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        request = mock(HttpServletRequest.class);
+        response = mock(HttpServletResponse.class);
+        asyncContext = mock(AsyncContext.class);
+        when(request.startAsync(request, response)).thenReturn(asyncContext);
+        when(response.getOutputStream()).thenReturn(outputStream);
+    }
+
+    @Test
+    void startAsyncAndStream() throws Exception {
+        final var emitter = new SseEmitter(Duration.ofSeconds(30), Duration.ZERO);
+        final var view = new StreamingView(emitter);
+
+        view.render(Map.of(), request, response);
+        emitter.send("tick", 1);
+        emitter.complete();
+
+        verify(response).setContentType(SseEmitter.TEXT_EVENT_STREAM_VALUE);
+        verify(response).setHeader("Cache-Control", "no-cache");
+        verify(response).setHeader("X-Accel-Buffering", "no");
+        verify(response).flushBuffer();
+        verify(asyncContext).complete();
+        assertThat(outputStream.getBody()).isEqualTo("event: tick\ndata: 1\n\n");
+    }
+
+    @Test
+    void completeAsyncWhenEmitterFailedBeforeRender() throws Exception {
+        final var emitter = new ResponseBodyEmitter("text/plain", Duration.ofSeconds(30), Duration.ZERO);
+        emitter.completeWithError(new IllegalStateException("failed"));
+
+        new StreamingView(emitter).render(Map.of(), request, response);
+
+        verify(asyncContext).complete();
+    }
+}
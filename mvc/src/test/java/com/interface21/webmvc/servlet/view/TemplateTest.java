@@ -0,0 +1,204 @@
+package com.interface21.webmvc.servlet.view;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TemplateTest {
+
+    @Test
+    void escapeVariables() throws IOException {
+        final var template = Template.compile("escape", "<p>{{name}}</p>");
+
+        assertThat(render(template, Map.of("name", "<b>\"Tom\" & 'Jerry'</b>")))
+                .isEqualTo("<p>&lt;b&gt;&quot;Tom&quot; &amp; &#39;Jerry&#39;&lt;/b&gt;</p>");
+    }
+
+    @Test
+    void tripleStashAndAmpersandRenderRaw() throws IOException {
+        final var template = Template.compile("raw", "{{{html}}}|{{& html}}|{{html}}");
+
+        assertThat(render(template, Map.of("html", "<br>")))
+                .isEqualTo("<br>|<br>|&lt;br&gt;");
+    }
+
+    @Test
+    void missingAndNullValuesRenderNothing() throws IOException {
+        final var model = new HashMap<String, Object>();
+        model.put("nothing", null);
+        final var template = Template.compile("missing", "[{{nothing}}][{{unknown}}][{{unknown.name}}]");
+
+        assertThat(render(template, model)).isEqualTo("[][][]");
+    }
+
+    @Test
+    void skipComments() throws IOException {
+        final var template = Template.compile("comment", "a{{! ignored }}b");
+
+        assertThat(render(template, Map.of())).isEqualTo("ab");
+    }
+
+    @Test
+    void followDottedPathThroughGettersAndRecords() throws IOException {
+        final var template = Template.compile("path", "{{member.account}}/{{member.admin}}/{{bean.name}}");
+
+        assertThat(render(template, Map.of("member", new Member("gugu", true), "bean", new Bean("bean"))))
+                .isEqualTo("gugu/true/bean");
+    }
+
+    @Test
+    void keepNonAsciiStaticText() throws IOException {
+        final var template = Template.compile("utf8", "안녕하세요 {{name}}님");
+
+        assertThat(render(template, Map.of("name", "구구"))).isEqualTo("안녕하세요 구구님");
+    }
+
+    @Test
+    void repeatSectionOverCollection() throws IOException {
+        final var template = Template.compile("list", "{{#members}}<li>{{account}}</li>{{/members}}");
+
+        assertThat(render(template, Map.of("members", List.of(new Member("a", false), new Member("b", true)))))
+                .isEqualTo("<li>a</li><li>b</li>");
+    }
+
+    @Test
+    void repeatSectionOverArrays() throws IOException {
+        final var template = Template.compile("array", "{{#names}}{{.}},{{/names}}{{#numbers}}{{.}};{{/numbers}}");
+
+        assertThat(render(template, Map.of("names", new String[]{"a", "<b>"}, "numbers", new int[]{1, 2})))
+                .isEqualTo("a,&lt;b&gt;,1;2;");
+    }
+
+    @Test
+    void renderSectionOnceForTrueAndSkipForFalse() throws IOException {
+        final var template = Template.compile("boolean", "{{#yes}}Y{{/yes}}{{#no}}N{{/no}}");
+
+        assertThat(render(template, Map.of("yes", true, "no", false))).isEqualTo("Y");
+    }
+
+    @Test
+    void pushObjectSectionAsScope() throws IOException {
+        final var template = Template.compile("object", "{{#member}}{{account}}{{/member}}");
+
+        assertThat(render(template, Map.of("member", new Member("gugu", false)))).isEqualTo("gugu");
+    }
+
+    @Test
+    void skipSectionForEmptyValues() throws IOException {
+        final var template = Template.compile("empty", "{{#list}}L{{/list}}{{#array}}A{{/array}}{{#map}}M{{/map}}{{#missing}}X{{/missing}}");
+
+        assertThat(render(template, Map.of("list", List.of(), "array", new String[0], "map", Map.of())))
+                .isEmpty();
+    }
+
+    @Test
+    void renderInvertedSectionOnlyForFalsyValues() throws IOException {
+        final var template = Template.compile("inverted",
+                "{{^list}}L{{/list}}{{^array}}A{{/array}}{{^map}}M{{/map}}{{^no}}F{{/no}}{{^missing}}X{{/missing}}{{^yes}}T{{/yes}}{{^full}}E{{/full}}");
+
+        assertThat(render(template, Map.of("list", List.of(), "array", new int[0], "map", Map.of(),
+                "no", false, "yes", true, "full", List.of(1))))
+                .isEqualTo("LAMFX");
+    }
+
+    @Test
+    void lookUpParentScopeInsideSection() throws IOException {
+        final var template = Template.compile("parent",
+                "{{#members}}{{account}}@{{site}}{{#tags}}[{{.}}/{{account}}]{{/tags}} {{/members}}");
+        final var model = Map.of(
+                "site", "techcourse",
+                "members", List.of(Map.of("account", "gugu", "tags", List.of("a")),
+                        Map.of("account", "jinu", "site", "own", "tags", List.of())));
+
+        assertThat(render(template, model)).isEqualTo("gugu@techcourse[a/gugu] jinu@own ");
+    }
+
+    @Test
+    void includePartials() throws IOException {
+        final var partials = Map.of(
+                "header", "<h1>{{title}}</h1>{{> nav}}",
+                "nav", "<nav>{{#links}}{{.}}{{/links}}</nav>");
+        final var template = Template.compile("page", "{{> header}}<main/>", partials::get);
+
+        assertThat(render(template, Map.of("title", "Home", "links", List.of("a", "b"))))
+                .isEqualTo("<h1>Home</h1><nav>ab</nav><main/>");
+    }
+
+    @Test
+    void rejectMissingPartial() {
+        assertThatThrownBy(() -> Template.compile("page", "{{> unknown}}", name -> null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("partial not found : unknown");
+    }
+
+    @Test
+    void rejectRecursivePartial() {
+        assertThatThrownBy(() -> Template.compile("page", "{{> self}}", name -> "x{{> self}}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("nested too deeply");
+    }
+
+    @Test
+    void rejectUnclosedTag() {
+        assertThatThrownBy(() -> Template.compile("broken", "hello {{name"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unclosed tag in template 'broken' at 6");
+        assertThatThrownBy(() -> Template.compile("broken", "{{{name}}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unclosed tag");
+    }
+
+    @Test
+    void rejectUnclosedSection() {
+        assertThatThrownBy(() -> Template.compile("broken", "{{#members}}{{account}}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unclosed section {{#members}}");
+    }
+
+    @Test
+    void rejectMismatchedClosingTag() {
+        assertThatThrownBy(() -> Template.compile("broken", "{{#a}}{{#b}}{{/a}}{{/b}}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unexpected closing tag {{/a}}");
+        assertThatThrownBy(() -> Template.compile("broken", "{{/a}}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unexpected closing tag {{/a}}");
+    }
+
+    @Test
+    void rejectEmptyTag() {
+        assertThatThrownBy(() -> Template.compile("broken", "{{ }}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("empty tag");
+    }
+
+    private static String render(final Template template, final Map<String, ?> model) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        template.render(model, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    record Member(String account, boolean admin) {
+    }
+
+    public static class Bean {
+
+        private final String name;
+
+        Bean(final String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}